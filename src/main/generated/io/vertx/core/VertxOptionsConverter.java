@@ -134,6 +134,16 @@ import java.time.format.DateTimeFormatter;
             obj.setQuorumSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "timerWheelEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setTimerWheelEnabled((Boolean)member.getValue());
+          }
+          break;
+        case "timerWheelTickDuration":
+          if (member.getValue() instanceof Number) {
+            obj.setTimerWheelTickDuration(((Number)member.getValue()).longValue());
+          }
+          break;
         case "warningExceptionTime":
           if (member.getValue() instanceof Number) {
             obj.setWarningExceptionTime(((Number)member.getValue()).longValue());
@@ -202,6 +212,8 @@ import java.time.format.DateTimeFormatter;
     }
     json.put("preferNativeTransport", obj.getPreferNativeTransport());
     json.put("quorumSize", obj.getQuorumSize());
+    json.put("timerWheelEnabled", obj.isTimerWheelEnabled());
+    json.put("timerWheelTickDuration", obj.getTimerWheelTickDuration());
     json.put("warningExceptionTime", obj.getWarningExceptionTime());
     if (obj.getWarningExceptionTimeUnit() != null) {
       json.put("warningExceptionTimeUnit", obj.getWarningExceptionTimeUnit().name());
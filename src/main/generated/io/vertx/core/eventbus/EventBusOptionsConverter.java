@@ -44,11 +44,26 @@ import java.time.format.DateTimeFormatter;
             obj.setClusterPublicPort(((Number)member.getValue()).intValue());
           }
           break;
+        case "clusterWriteBatchMaxBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteBatchMaxBytes(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "clusterWriteBatchMaxDelay":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteBatchMaxDelay(((Number)member.getValue()).longValue());
+          }
+          break;
         case "clustered":
           if (member.getValue() instanceof Boolean) {
             obj.setClustered((Boolean)member.getValue());
           }
           break;
+        case "compactJsonEncoding":
+          if (member.getValue() instanceof Boolean) {
+            obj.setCompactJsonEncoding((Boolean)member.getValue());
+          }
+          break;
         case "connectTimeout":
           if (member.getValue() instanceof Number) {
             obj.setConnectTimeout(((Number)member.getValue()).intValue());
@@ -238,6 +253,11 @@ import java.time.format.DateTimeFormatter;
             obj.setUsePooledBuffers((Boolean)member.getValue());
           }
           break;
+        case "usePooledInboundBuffers":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUsePooledInboundBuffers((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -257,7 +277,10 @@ import java.time.format.DateTimeFormatter;
       json.put("clusterPublicHost", obj.getClusterPublicHost());
     }
     json.put("clusterPublicPort", obj.getClusterPublicPort());
+    json.put("clusterWriteBatchMaxBytes", obj.getClusterWriteBatchMaxBytes());
+    json.put("clusterWriteBatchMaxDelay", obj.getClusterWriteBatchMaxDelay());
     json.put("clustered", obj.isClustered());
+    json.put("compactJsonEncoding", obj.isCompactJsonEncoding());
     json.put("connectTimeout", obj.getConnectTimeout());
     if (obj.getCrlPaths() != null) {
       JsonArray array = new JsonArray();
@@ -329,5 +352,6 @@ import java.time.format.DateTimeFormatter;
     }
     json.put("useAlpn", obj.isUseAlpn());
     json.put("usePooledBuffers", obj.isUsePooledBuffers());
+    json.put("usePooledInboundBuffers", obj.isUsePooledInboundBuffers());
   }
 }
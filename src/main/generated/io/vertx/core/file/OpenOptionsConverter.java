@@ -39,6 +39,11 @@ import java.time.format.DateTimeFormatter;
             obj.setDsync((Boolean)member.getValue());
           }
           break;
+        case "mapped":
+          if (member.getValue() instanceof Boolean) {
+            obj.setMapped((Boolean)member.getValue());
+          }
+          break;
         case "perms":
           if (member.getValue() instanceof String) {
             obj.setPerms((String)member.getValue());
@@ -69,6 +74,16 @@ import java.time.format.DateTimeFormatter;
             obj.setWrite((Boolean)member.getValue());
           }
           break;
+        case "writeBatchMaxBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setWriteBatchMaxBytes(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "writeBatchMaxDelay":
+          if (member.getValue() instanceof Number) {
+            obj.setWriteBatchMaxDelay(((Number)member.getValue()).longValue());
+          }
+          break;
       }
     }
   }
@@ -83,6 +98,7 @@ import java.time.format.DateTimeFormatter;
     json.put("createNew", obj.isCreateNew());
     json.put("deleteOnClose", obj.isDeleteOnClose());
     json.put("dsync", obj.isDsync());
+    json.put("mapped", obj.isMapped());
     if (obj.getPerms() != null) {
       json.put("perms", obj.getPerms());
     }
@@ -91,5 +107,7 @@ import java.time.format.DateTimeFormatter;
     json.put("sync", obj.isSync());
     json.put("truncateExisting", obj.isTruncateExisting());
     json.put("write", obj.isWrite());
+    json.put("writeBatchMaxBytes", obj.getWriteBatchMaxBytes());
+    json.put("writeBatchMaxDelay", obj.getWriteBatchMaxDelay());
   }
 }
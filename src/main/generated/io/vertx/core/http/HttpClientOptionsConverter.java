@@ -139,6 +139,11 @@ import java.time.format.DateTimeFormatter;
             obj.setPoolCleanerPeriod(((Number)member.getValue()).intValue());
           }
           break;
+        case "poolSharding":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPoolSharding((Boolean)member.getValue());
+          }
+          break;
         case "protocolVersion":
           if (member.getValue() instanceof String) {
             obj.setProtocolVersion(io.vertx.core.http.HttpVersion.valueOf((String)member.getValue()));
@@ -225,6 +230,7 @@ import java.time.format.DateTimeFormatter;
     json.put("pipelining", obj.isPipelining());
     json.put("pipeliningLimit", obj.getPipeliningLimit());
     json.put("poolCleanerPeriod", obj.getPoolCleanerPeriod());
+    json.put("poolSharding", obj.isPoolSharding());
     if (obj.getProtocolVersion() != null) {
       json.put("protocolVersion", obj.getProtocolVersion().name());
     }
@@ -39,6 +39,11 @@ import java.time.format.DateTimeFormatter;
             obj.setCompressionSupported((Boolean)member.getValue());
           }
           break;
+        case "dateHeaderEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setDateHeaderEnabled((Boolean)member.getValue());
+          }
+          break;
         case "decoderInitialBufferSize":
           if (member.getValue() instanceof Number) {
             obj.setDecoderInitialBufferSize(((Number)member.getValue()).intValue());
@@ -49,6 +54,21 @@ import java.time.format.DateTimeFormatter;
             obj.setDecompressionSupported((Boolean)member.getValue());
           }
           break;
+        case "fileCacheCheckInterval":
+          if (member.getValue() instanceof Number) {
+            obj.setFileCacheCheckInterval(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "fileCacheMaxContentSize":
+          if (member.getValue() instanceof Number) {
+            obj.setFileCacheMaxContentSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "fileCacheMaxEntries":
+          if (member.getValue() instanceof Number) {
+            obj.setFileCacheMaxEntries(((Number)member.getValue()).intValue());
+          }
+          break;
         case "handle100ContinueAutomatically":
           if (member.getValue() instanceof Boolean) {
             obj.setHandle100ContinueAutomatically((Boolean)member.getValue());
@@ -69,6 +89,11 @@ import java.time.format.DateTimeFormatter;
             obj.setMaxChunkSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "maxFormAttributeSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxFormAttributeSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "maxHeaderSize":
           if (member.getValue() instanceof Number) {
             obj.setMaxHeaderSize(((Number)member.getValue()).intValue());
@@ -99,6 +124,11 @@ import java.time.format.DateTimeFormatter;
             obj.setPerMessageWebsocketCompressionSupported((Boolean)member.getValue());
           }
           break;
+        case "sendFileChunkSize":
+          if (member.getValue() instanceof Number) {
+            obj.setSendFileChunkSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "websocketAllowServerNoContext":
           if (member.getValue() instanceof Boolean) {
             obj.setWebsocketAllowServerNoContext((Boolean)member.getValue());
@@ -136,18 +166,24 @@ import java.time.format.DateTimeFormatter;
     }
     json.put("compressionLevel", obj.getCompressionLevel());
     json.put("compressionSupported", obj.isCompressionSupported());
+    json.put("dateHeaderEnabled", obj.isDateHeaderEnabled());
     json.put("decoderInitialBufferSize", obj.getDecoderInitialBufferSize());
     json.put("decompressionSupported", obj.isDecompressionSupported());
+    json.put("fileCacheCheckInterval", obj.getFileCacheCheckInterval());
+    json.put("fileCacheMaxContentSize", obj.getFileCacheMaxContentSize());
+    json.put("fileCacheMaxEntries", obj.getFileCacheMaxEntries());
     json.put("handle100ContinueAutomatically", obj.isHandle100ContinueAutomatically());
     json.put("http2ConnectionWindowSize", obj.getHttp2ConnectionWindowSize());
     if (obj.getInitialSettings() != null) {
       json.put("initialSettings", obj.getInitialSettings().toJson());
     }
     json.put("maxChunkSize", obj.getMaxChunkSize());
+    json.put("maxFormAttributeSize", obj.getMaxFormAttributeSize());
     json.put("maxHeaderSize", obj.getMaxHeaderSize());
     json.put("maxInitialLineLength", obj.getMaxInitialLineLength());
     json.put("maxWebsocketFrameSize", obj.getMaxWebsocketFrameSize());
     json.put("maxWebsocketMessageSize", obj.getMaxWebsocketMessageSize());
+    json.put("sendFileChunkSize", obj.getSendFileChunkSize());
     json.put("websocketAllowServerNoContext", obj.getWebsocketAllowServerNoContext());
     json.put("websocketPreferredClientNoContext", obj.getWebsocketPreferredClientNoContext());
     if (obj.getWebsocketSubProtocols() != null) {
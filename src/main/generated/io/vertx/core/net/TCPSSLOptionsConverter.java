@@ -143,6 +143,11 @@ import java.time.format.DateTimeFormatter;
             obj.setUsePooledBuffers((Boolean)member.getValue());
           }
           break;
+        case "usePooledInboundBuffers":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUsePooledInboundBuffers((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -209,5 +214,6 @@ import java.time.format.DateTimeFormatter;
     }
     json.put("useAlpn", obj.isUseAlpn());
     json.put("usePooledBuffers", obj.isUsePooledBuffers());
+    json.put("usePooledInboundBuffers", obj.isUsePooledInboundBuffers());
   }
 }
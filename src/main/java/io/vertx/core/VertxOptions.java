@@ -138,6 +138,16 @@ public class VertxOptions {
    */
   public static final boolean DEFAULT_PREFER_NATIVE_TRANSPORT = false;
 
+  /**
+   * The default value of whether timers are scheduled on a per event loop timing wheel = false
+   */
+  public static final boolean DEFAULT_TIMER_WHEEL_ENABLED = false;
+
+  /**
+   * The default value of the timing wheel tick duration = 1 ms
+   */
+  public static final long DEFAULT_TIMER_WHEEL_TICK_DURATION = 1;
+
   /**
    * The default value of warning exception time 5000000000 ns (5 seconds)
    * If a thread is blocked longer than this threshold, the warning log
@@ -166,6 +176,8 @@ public class VertxOptions {
   private EventBusOptions eventBusOptions = new EventBusOptions();
   private AddressResolverOptions addressResolverOptions = new AddressResolverOptions();
   private boolean preferNativeTransport = DEFAULT_PREFER_NATIVE_TRANSPORT;
+  private boolean timerWheelEnabled = DEFAULT_TIMER_WHEEL_ENABLED;
+  private long timerWheelTickDuration = DEFAULT_TIMER_WHEEL_TICK_DURATION;
   private TimeUnit maxEventLoopExecuteTimeUnit = DEFAULT_MAX_EVENT_LOOP_EXECUTE_TIME_UNIT;
   private TimeUnit maxWorkerExecuteTimeUnit = DEFAULT_MAX_WORKER_EXECUTE_TIME_UNIT;
   private TimeUnit warningExceptionTimeUnit = DEFAULT_WARNING_EXCEPTION_TIME_UNIT;
@@ -205,6 +217,8 @@ public class VertxOptions {
     this.maxWorkerExecuteTimeUnit = other.maxWorkerExecuteTimeUnit;
     this.warningExceptionTimeUnit = other.warningExceptionTimeUnit;
     this.blockedThreadCheckIntervalUnit = other.blockedThreadCheckIntervalUnit;
+    this.timerWheelEnabled = other.timerWheelEnabled;
+    this.timerWheelTickDuration = other.timerWheelTickDuration;
     this.debugging = other.debugging;
     this.debuggingOutputPath = other.debuggingOutputPath;
   }
@@ -774,6 +788,49 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return whether timers are scheduled on a per event loop timing wheel
+   */
+  public boolean isTimerWheelEnabled() {
+    return timerWheelEnabled;
+  }
+
+  /**
+   * Set whether timers are scheduled on a per event loop timing wheel.
+   * <p>
+   * By default each timer is scheduled as a task of its context event loop. A timing wheel arms and cancels
+   * timers in constant time and expires them in batches, at the expense of a precision bounded by
+   * {@link #getTimerWheelTickDuration()}. It is a good fit for applications creating and cancelling many timeouts.
+   *
+   * @param timerWheelEnabled {@code true} to use a timing wheel
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelEnabled(boolean timerWheelEnabled) {
+    this.timerWheelEnabled = timerWheelEnabled;
+    return this;
+  }
+
+  /**
+   * @return the duration of a timing wheel tick, in ms
+   */
+  public long getTimerWheelTickDuration() {
+    return timerWheelTickDuration;
+  }
+
+  /**
+   * Set the duration of a timing wheel tick, in ms. Timers are expired at the first tick following their deadline.
+   *
+   * @param timerWheelTickDuration the tick duration, in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelTickDuration(long timerWheelTickDuration) {
+    if (timerWheelTickDuration < 1) {
+      throw new IllegalArgumentException("timerWheelTickDuration must be > 0");
+    }
+    this.timerWheelTickDuration = timerWheelTickDuration;
+    return this;
+  }
+
   /**
    * @return the time unit of {@code maxEventLoopExecuteTime}
    */
@@ -892,6 +949,8 @@ public class VertxOptions {
     if (addressResolverOptions != null ? !addressResolverOptions.equals(that.addressResolverOptions) : that.addressResolverOptions != null)
       return false;
     if (preferNativeTransport != that.preferNativeTransport) return false;
+    if (timerWheelEnabled != that.timerWheelEnabled) return false;
+    if (timerWheelTickDuration != that.timerWheelTickDuration) return false;
     if (fileSystemOptions != null ? !fileSystemOptions.equals(that.fileSystemOptions) : that.fileSystemOptions != null) {
       return false;
     }
@@ -910,6 +969,8 @@ public class VertxOptions {
     result = 31 * result + (haEnabled ? 1 : 0);
     result = 31 * result + (debugging ? 1 : 0);
     result = 31 * result + (preferNativeTransport ? 1 : 0);
+    result = 31 * result + (timerWheelEnabled ? 1 : 0);
+    result = 31 * result + (int) (timerWheelTickDuration ^ (timerWheelTickDuration >>> 32));
     result = 31 * result + quorumSize;
     result = 31 * result + (haGroup != null ? haGroup.hashCode() : 0);
     result = 31 * result + (metricsOptions != null ? metricsOptions.hashCode() : 0);
@@ -939,6 +1000,8 @@ public class VertxOptions {
         ", clusterManager=" + clusterManager +
         ", haEnabled=" + haEnabled +
         ", preferNativeTransport=" + preferNativeTransport +
+        ", timerWheelEnabled=" + timerWheelEnabled +
+        ", timerWheelTickDuration=" + timerWheelTickDuration +
         ", quorumSize=" + quorumSize +
         ", haGroup='" + haGroup + '\'' +
         ", metrics=" + metricsOptions +
@@ -472,6 +472,13 @@ public class BufferImpl implements Buffer {
     return buffer.duplicate();
   }
 
+  /**
+   * @return the {@code ByteBuf} this buffer was created with, e.g to release a pooled buffer
+   */
+  public ByteBuf byteBuf() {
+    return buffer.unwrap();
+  }
+
   private Buffer append(String str, Charset charset) {
     byte[] bytes = str.getBytes(charset);
     buffer.writeBytes(bytes);
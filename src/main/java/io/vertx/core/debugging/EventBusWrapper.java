@@ -4,6 +4,8 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.eventbus.*;
 
+import java.util.List;
+
 public class EventBusWrapper implements EventBus {
 
   private EventBus eventBus;
@@ -82,6 +84,46 @@ public class EventBusWrapper implements EventBus {
     return eventBus.publish(address, message, options, prepareOptions(debuggingOptions));
   }
 
+  @Override
+  public EventBus sendBatch(String address, List<?> messages) {
+    return eventBus.sendBatch(address, messages);
+  }
+
+  @Override
+  public EventBus sendBatch(String address, List<?> messages, DebuggingOptions debuggingOptions) {
+    return eventBus.sendBatch(address, messages, prepareOptions(debuggingOptions));
+  }
+
+  @Override
+  public EventBus sendBatch(String address, List<?> messages, DeliveryOptions options) {
+    return eventBus.sendBatch(address, messages, options);
+  }
+
+  @Override
+  public EventBus sendBatch(String address, List<?> messages, DeliveryOptions options, DebuggingOptions debuggingOptions) {
+    return eventBus.sendBatch(address, messages, options, prepareOptions(debuggingOptions));
+  }
+
+  @Override
+  public EventBus publishBatch(String address, List<?> messages) {
+    return eventBus.publishBatch(address, messages);
+  }
+
+  @Override
+  public EventBus publishBatch(String address, List<?> messages, DebuggingOptions debuggingOptions) {
+    return eventBus.publishBatch(address, messages, prepareOptions(debuggingOptions));
+  }
+
+  @Override
+  public EventBus publishBatch(String address, List<?> messages, DeliveryOptions options) {
+    return eventBus.publishBatch(address, messages, options);
+  }
+
+  @Override
+  public EventBus publishBatch(String address, List<?> messages, DeliveryOptions options, DebuggingOptions debuggingOptions) {
+    return eventBus.publishBatch(address, messages, options, prepareOptions(debuggingOptions));
+  }
+
   @Override
   public <T> MessageConsumer<T> consumer(String address) {
     return eventBus.consumer(address);
@@ -18,6 +18,8 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.metrics.Measured;
 
+import java.util.List;
+
 /**
  * A Vert.x event-bus is a light-weight distributed messaging system which allows different parts of your application,
  * or different applications and services to communicate with each in a loosely coupled way.
@@ -123,6 +125,76 @@ public interface EventBus extends Measured {
   @Fluent
   EventBus publish(String address, Object message, DeliveryOptions options, DebuggingOptions debuggingOptions);
 
+  /**
+   * Sends a batch of messages.
+   * <p>
+   * The whole batch will be delivered to at most one of the handlers registered to the address, in a single task on
+   * the handler context. A consumer with a {@link MessageConsumer#batchHandler} receives the batch in a single call.
+   *
+   * @param address  the address to send it to
+   * @param messages  the messages, may contain {@code null}
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  @Fluent
+  EventBus sendBatch(String address, List<?> messages);
+
+  @GenIgnore
+  @Fluent
+  EventBus sendBatch(String address, List<?> messages, DebuggingOptions debuggingOptions);
+
+  /**
+   * Like {@link #sendBatch(String, List)} but specifying {@code options} that can be used to configure the delivery
+   * of each message.
+   *
+   * @param address  the address to send it to
+   * @param messages  the messages, may contain {@code null}
+   * @param options  delivery options
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  @Fluent
+  EventBus sendBatch(String address, List<?> messages, DeliveryOptions options);
+
+  @GenIgnore
+  @Fluent
+  EventBus sendBatch(String address, List<?> messages, DeliveryOptions options, DebuggingOptions debuggingOptions);
+
+  /**
+   * Publish a batch of messages.
+   * <p>
+   * The whole batch will be delivered to all handlers registered to the address, in a single task on each handler
+   * context. A consumer with a {@link MessageConsumer#batchHandler} receives the batch in a single call.
+   *
+   * @param address  the address to publish it to
+   * @param messages  the messages, may contain {@code null}
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  @Fluent
+  EventBus publishBatch(String address, List<?> messages);
+
+  @GenIgnore
+  @Fluent
+  EventBus publishBatch(String address, List<?> messages, DebuggingOptions debuggingOptions);
+
+  /**
+   * Like {@link #publishBatch(String, List)} but specifying {@code options} that can be used to configure the
+   * delivery of each message.
+   *
+   * @param address  the address to publish it to
+   * @param messages  the messages, may contain {@code null}
+   * @param options  the delivery options
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  @Fluent
+  EventBus publishBatch(String address, List<?> messages, DeliveryOptions options);
+
+  @GenIgnore
+  @Fluent
+  EventBus publishBatch(String address, List<?> messages, DeliveryOptions options, DebuggingOptions debuggingOptions);
+
   /**
    * Create a message consumer against the specified address.
    * <p>
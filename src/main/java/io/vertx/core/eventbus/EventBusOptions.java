@@ -92,6 +92,28 @@ public class EventBusOptions extends TCPSSLOptions {
   private int connectTimeout;
   private boolean trustAll;
 
+  // Attributes used to configure the write pipeline of the cluster connections.
+
+  /**
+   * The default maximum number of bytes encoded in a single cluster write batch = 65536
+   */
+  public static final int DEFAULT_CLUSTER_WRITE_BATCH_MAX_BYTES = 64 * 1024;
+
+  /**
+   * The default maximum delay in microseconds before a cluster write batch is flushed = 0 (no delay)
+   */
+  public static final long DEFAULT_CLUSTER_WRITE_BATCH_MAX_DELAY = 0;
+
+  private int clusterWriteBatchMaxBytes;
+  private long clusterWriteBatchMaxDelay;
+
+  /**
+   * The default value of whether JSON objects and arrays are sent to cluster nodes in the compact binary format = false
+   */
+  public static final boolean DEFAULT_COMPACT_JSON_ENCODING = false;
+
+  private boolean compactJsonEncoding;
+
   /**
    * Creates a new instance of {@link EventBusOptions} using the default configuration.
    */
@@ -110,6 +132,10 @@ public class EventBusOptions extends TCPSSLOptions {
 
     connectTimeout = DEFAULT_CONNECT_TIMEOUT;
     trustAll = DEFAULT_TRUST_ALL;
+
+    clusterWriteBatchMaxBytes = DEFAULT_CLUSTER_WRITE_BATCH_MAX_BYTES;
+    clusterWriteBatchMaxDelay = DEFAULT_CLUSTER_WRITE_BATCH_MAX_DELAY;
+    compactJsonEncoding = DEFAULT_COMPACT_JSON_ENCODING;
   }
 
   /**
@@ -135,6 +161,10 @@ public class EventBusOptions extends TCPSSLOptions {
     this.reconnectAttempts = other.reconnectAttempts;
     this.connectTimeout = other.connectTimeout;
     this.trustAll = other.trustAll;
+
+    this.clusterWriteBatchMaxBytes = other.clusterWriteBatchMaxBytes;
+    this.clusterWriteBatchMaxDelay = other.clusterWriteBatchMaxDelay;
+    this.compactJsonEncoding = other.compactJsonEncoding;
   }
 
   /**
@@ -392,6 +422,12 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public EventBusOptions setUsePooledInboundBuffers(boolean usePooledInboundBuffers) {
+    super.setUsePooledInboundBuffers(usePooledInboundBuffers);
+    return this;
+  }
+
   @Override
   public EventBusOptions setReceiveBufferSize(int receiveBufferSize) {
     super.setReceiveBufferSize(receiveBufferSize);
@@ -642,6 +678,76 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return the maximum number of bytes encoded in a single write batch of a cluster connection
+   */
+  public int getClusterWriteBatchMaxBytes() {
+    return clusterWriteBatchMaxBytes;
+  }
+
+  /**
+   * Set the maximum number of bytes encoded in a single write batch of a cluster connection.
+   * <p>
+   * Messages sent to a cluster node are queued and encoded by the connection event loop in a single buffer
+   * flushed once per batch, a batch is flushed as soon as it reaches this size.
+   *
+   * @param clusterWriteBatchMaxBytes the maximum batch size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatchMaxBytes(int clusterWriteBatchMaxBytes) {
+    if (clusterWriteBatchMaxBytes < 1) {
+      throw new IllegalArgumentException("clusterWriteBatchMaxBytes must be greater than 0");
+    }
+    this.clusterWriteBatchMaxBytes = clusterWriteBatchMaxBytes;
+    return this;
+  }
+
+  /**
+   * @return the maximum delay in microseconds a message waits before its cluster write batch is flushed
+   */
+  public long getClusterWriteBatchMaxDelay() {
+    return clusterWriteBatchMaxDelay;
+  }
+
+  /**
+   * Set the maximum delay in microseconds a message waits before its cluster write batch is flushed.
+   * <p>
+   * The default value is {@code 0} which means a batch contains the messages queued when the connection event loop
+   * drains the queue. A positive value trades latency for larger batches.
+   *
+   * @param clusterWriteBatchMaxDelay the maximum delay in microseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteBatchMaxDelay(long clusterWriteBatchMaxDelay) {
+    if (clusterWriteBatchMaxDelay < 0) {
+      throw new IllegalArgumentException("clusterWriteBatchMaxDelay must be >= 0");
+    }
+    this.clusterWriteBatchMaxDelay = clusterWriteBatchMaxDelay;
+    return this;
+  }
+
+  /**
+   * @return whether JSON objects and arrays are sent to cluster nodes in the compact binary format
+   */
+  public boolean isCompactJsonEncoding() {
+    return compactJsonEncoding;
+  }
+
+  /**
+   * Set whether JSON objects and arrays sent without a codec name are sent to cluster nodes in a compact binary
+   * format instead of their JSON text.
+   * <p>
+   * The binary format is smaller and cheaper to decode, in particular for arrays of objects sharing the same
+   * field names. It is only used with the cluster nodes able to decode it, the other nodes receive the JSON text.
+   *
+   * @param compactJsonEncoding {@code true} to use the compact binary format
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setCompactJsonEncoding(boolean compactJsonEncoding) {
+    this.compactJsonEncoding = compactJsonEncoding;
+    return this;
+  }
+
   public boolean isDebugging() {
     return debugging;
   }
@@ -43,6 +43,19 @@ public interface MessageCodec<S, R> {
    */
   void encodeToWire(Buffer buffer, S s);
 
+  /**
+   * Called by Vert.x before marshalling a message to the wire to size the buffer the message is written into.
+   * <p>
+   * The hint does not need to be exact, the buffer grows when it is too small. The default implementation returns
+   * {@code -1} and Vert.x then uses the size of the messages previously written on the same connection.
+   *
+   * @param s  the message that is being sent
+   * @return the estimated number of bytes written by {@link #encodeToWire}, or {@code -1} when it is unknown
+   */
+  default int encodedSizeHint(S s) {
+    return -1;
+  }
+
   /**
    * Called by Vert.x when a message is decoded from the wire.
    *
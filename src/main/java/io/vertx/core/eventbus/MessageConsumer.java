@@ -11,11 +11,14 @@
 
 package io.vertx.core.eventbus;
 
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.streams.ReadStream;
 
+import java.util.List;
+
 /**
  * An event bus consumer object representing a stream of message to an {@link EventBus} address that can
  * be read from.
@@ -38,6 +41,18 @@ public interface MessageConsumer<T> extends ReadStream<Message<T>> {
   @Override
   MessageConsumer<T> handler(Handler<Message<T>> handler);
 
+  /**
+   * Set a batch handler on the consumer. This handler serves a similar purpose to {@link #handler(Handler)} except that
+   * the messages sent together with {@link EventBus#sendBatch} or {@link EventBus#publishBatch} are delivered in a
+   * single call, in place of the {@link #handler(Handler)}. Other messages are delivered as a batch of one message.
+   * <p>
+   * Like {@link #handler(Handler)}, setting a batch handler registers the consumer.
+   *
+   * @param handler the handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  MessageConsumer<T> batchHandler(@Nullable Handler<List<Message<T>>> handler);
+
   @Override
   MessageConsumer<T> pause();
 
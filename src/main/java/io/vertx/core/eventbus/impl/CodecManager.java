@@ -44,6 +44,8 @@ public class CodecManager {
   public static final MessageCodec<Character, Character> CHAR_MESSAGE_CODEC = new CharMessageCodec();
   public static final MessageCodec<Byte, Byte> BYTE_MESSAGE_CODEC = new ByteMessageCodec();
   public static final MessageCodec<ReplyException, ReplyException> REPLY_EXCEPTION_MESSAGE_CODEC = new ReplyExceptionMessageCodec();
+  public static final MessageCodec<JsonObject, JsonObject> JSON_OBJECT_COMPACT_MESSAGE_CODEC = new JsonObjectCompactMessageCodec();
+  public static final MessageCodec<JsonArray, JsonArray> JSON_ARRAY_COMPACT_MESSAGE_CODEC = new JsonArrayCompactMessageCodec();
 
   private final MessageCodec[] systemCodecs;
   private final ConcurrentMap<String, MessageCodec> userCodecMap = new ConcurrentHashMap<>();
@@ -52,7 +54,34 @@ public class CodecManager {
   public CodecManager() {
     this.systemCodecs = codecs(NULL_MESSAGE_CODEC, PING_MESSAGE_CODEC, STRING_MESSAGE_CODEC, BUFFER_MESSAGE_CODEC, JSON_OBJECT_MESSAGE_CODEC, JSON_ARRAY_MESSAGE_CODEC,
       BYTE_ARRAY_MESSAGE_CODEC, INT_MESSAGE_CODEC, LONG_MESSAGE_CODEC, FLOAT_MESSAGE_CODEC, DOUBLE_MESSAGE_CODEC,
-      BOOLEAN_MESSAGE_CODEC, SHORT_MESSAGE_CODEC, CHAR_MESSAGE_CODEC, BYTE_MESSAGE_CODEC, REPLY_EXCEPTION_MESSAGE_CODEC);
+      BOOLEAN_MESSAGE_CODEC, SHORT_MESSAGE_CODEC, CHAR_MESSAGE_CODEC, BYTE_MESSAGE_CODEC, REPLY_EXCEPTION_MESSAGE_CODEC,
+      JSON_OBJECT_COMPACT_MESSAGE_CODEC, JSON_ARRAY_COMPACT_MESSAGE_CODEC);
+  }
+
+  /**
+   * @return the compact binary codec of a JSON object or array {@code codec}, otherwise {@code codec}
+   */
+  public static MessageCodec compactJsonCodec(MessageCodec codec) {
+    if (codec == JSON_OBJECT_MESSAGE_CODEC) {
+      return JSON_OBJECT_COMPACT_MESSAGE_CODEC;
+    } else if (codec == JSON_ARRAY_MESSAGE_CODEC) {
+      return JSON_ARRAY_COMPACT_MESSAGE_CODEC;
+    } else {
+      return codec;
+    }
+  }
+
+  /**
+   * @return the JSON text codec of a compact JSON object or array {@code codec}, otherwise {@code codec}
+   */
+  public static MessageCodec textJsonCodec(MessageCodec codec) {
+    if (codec == JSON_OBJECT_COMPACT_MESSAGE_CODEC) {
+      return JSON_OBJECT_MESSAGE_CODEC;
+    } else if (codec == JSON_ARRAY_COMPACT_MESSAGE_CODEC) {
+      return JSON_ARRAY_MESSAGE_CODEC;
+    } else {
+      return codec;
+    }
   }
 
   public MessageCodec lookupCodec(Object body, String codecName) {
@@ -60,7 +89,13 @@ public class CodecManager {
     if (codecName != null) {
       codec = userCodecMap.get(codecName);
       if (codec == null) {
-        throw new IllegalArgumentException("No message codec for name: " + codecName);
+        if (codecName.equals(JsonObjectCompactMessageCodec.NAME)) {
+          codec = JSON_OBJECT_COMPACT_MESSAGE_CODEC;
+        } else if (codecName.equals(JsonArrayCompactMessageCodec.NAME)) {
+          codec = JSON_ARRAY_COMPACT_MESSAGE_CODEC;
+        } else {
+          throw new IllegalArgumentException("No message codec for name: " + codecName);
+        }
       }
     } else if (body == null) {
       codec = NULL_MESSAGE_CODEC;
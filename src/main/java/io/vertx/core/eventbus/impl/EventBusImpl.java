@@ -22,6 +22,7 @@ import io.vertx.core.debugging.DebuggingHeader;
 import io.vertx.core.debugging.DebuggingVerticle;
 import io.vertx.core.eventbus.*;
 import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.impl.utils.ConcurrentCyclicSequence;
 import io.vertx.core.logging.Logger;
@@ -187,6 +188,48 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     return this;
   }
 
+  @Override
+  public EventBus sendBatch(String address, List<?> messages) {
+    return sendBatch(address, messages, new DeliveryOptions());
+  }
+
+  @Override
+  public EventBus sendBatch(String address, List<?> messages, DebuggingOptions debuggingOptions) {
+    return sendBatch(address, messages, new DeliveryOptions(), debuggingOptions);
+  }
+
+  @Override
+  public EventBus sendBatch(String address, List<?> messages, DeliveryOptions options) {
+    return sendBatch(address, messages, options, new DebuggingOptions());
+  }
+
+  @Override
+  public EventBus sendBatch(String address, List<?> messages, DeliveryOptions options, DebuggingOptions debuggingOptions) {
+    sendOrPubBatchInternal(true, address, messages, options, debuggingOptions);
+    return this;
+  }
+
+  @Override
+  public EventBus publishBatch(String address, List<?> messages) {
+    return publishBatch(address, messages, new DeliveryOptions());
+  }
+
+  @Override
+  public EventBus publishBatch(String address, List<?> messages, DebuggingOptions debuggingOptions) {
+    return publishBatch(address, messages, new DeliveryOptions(), debuggingOptions);
+  }
+
+  @Override
+  public EventBus publishBatch(String address, List<?> messages, DeliveryOptions options) {
+    return publishBatch(address, messages, options, new DebuggingOptions());
+  }
+
+  @Override
+  public EventBus publishBatch(String address, List<?> messages, DeliveryOptions options, DebuggingOptions debuggingOptions) {
+    sendOrPubBatchInternal(false, address, messages, options, debuggingOptions);
+    return this;
+  }
+
   @Override
   public <T> MessageConsumer<T> consumer(String address) {
     checkStarted();
@@ -315,7 +358,9 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
   protected <T> HandlerHolder<T> addRegistration(String address, HandlerRegistration<T> registration,
                                      boolean replyHandler, boolean localOnly) {
-    Objects.requireNonNull(registration.getHandler(), "handler");
+    if (registration.getHandler() == null && registration.getBatchHandler() == null) {
+      throw new NullPointerException("handler");
+    }
     LocalRegistrationResult<T> result = addLocalRegistration(address, registration, replyHandler, localOnly);
     addRegistration(result.newAddress, address, replyHandler, localOnly, registration::setResult);
     return result.holder;
@@ -412,6 +457,34 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     deliverMessageLocally(sendContext);
   }
 
+  /**
+   * Send or publish a batch of messages for the same address, the messages are delivered to the chosen handler(s)
+   * in a single task.
+   *
+   * @param messages the messages, never empty
+   * @param options the delivery options
+   */
+  protected void sendOrPubBatch(List<MessageImpl> messages, DeliveryOptions options) {
+    messagesSent(messages, true, false);
+    deliverBatchLocally(messages);
+  }
+
+  protected void messagesSent(List<MessageImpl> messages, boolean local, boolean remote) {
+    if (metrics != null) {
+      for (MessageImpl message : messages) {
+        metrics.messageSent(message.address(), !message.isSend(), local, remote);
+      }
+    }
+  }
+
+  private void messagesReceived(List<MessageImpl> messages, int handlers) {
+    if (metrics != null) {
+      for (MessageImpl message : messages) {
+        metrics.messageReceived(message.address(), !message.isSend(), isMessageLocal(message), handlers);
+      }
+    }
+  }
+
   protected <T> Handler<Message<T>> convertHandler(Handler<AsyncResult<Message<T>>> handler) {
     return reply -> {
       Future<Message<T>> result;
@@ -485,6 +558,32 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     }
   }
 
+  protected void deliverBatchLocally(List<MessageImpl> messages) {
+    for (MessageImpl message : messages) {
+      message.setBus(this);
+    }
+    MessageImpl first = messages.get(0);
+    ConcurrentCyclicSequence<HandlerHolder> handlers = handlerMap.get(first.address());
+    if (handlers != null) {
+      if (first.isSend()) {
+        //Choose one for the whole batch
+        HandlerHolder holder = handlers.next();
+        messagesReceived(messages, holder != null ? 1 : 0);
+        if (holder != null) {
+          deliverToHandler(messages, holder);
+        }
+      } else {
+        // Publish
+        messagesReceived(messages, handlers.size());
+        for (HandlerHolder holder: handlers) {
+          deliverToHandler(messages, holder);
+        }
+      }
+    } else {
+      messagesReceived(messages, 0);
+    }
+  }
+
   protected void checkStarted() {
     if (!started) {
       throw new IllegalStateException("Event Bus is not started");
@@ -519,6 +618,28 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     sendContext.next();
   }
 
+  private void sendOrPubBatchInternal(boolean send, String address, List<?> bodies, DeliveryOptions options, DebuggingOptions debuggingOptions) {
+    checkStarted();
+    Objects.requireNonNull(address, "address");
+    Objects.requireNonNull(bodies, "messages");
+    Objects.requireNonNull(options, "options");
+    if (bodies.isEmpty()) {
+      return;
+    }
+    List<MessageImpl> messages = new ArrayList<>(bodies.size());
+    for (Object body : bodies) {
+      messages.add(createMessage(send, address, options.getHeaders(), body, options.getCodecName(), debuggingOptions));
+    }
+    if (sendInterceptors.isEmpty()) {
+      sendOrPubBatch(messages, options);
+    } else {
+      // Interceptors act on each message
+      for (MessageImpl message : messages) {
+        new OutboundDeliveryContext<>(message, options, null).next();
+      }
+    }
+  }
+
   protected class OutboundDeliveryContext<T> implements DeliveryContext<T> {
 
     public final MessageImpl message;
@@ -587,27 +708,90 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   }
 
   private <T> void deliverToHandler(MessageImpl msg, HandlerHolder<T> holder) {
-    // Each handler gets a fresh copy
-    MessageImpl copied = msg.copyBeforeReceive();
-    DeliveryContext<T> receiveContext = new InboundDeliveryContext<>(copied, holder);
-
     if (metrics != null) {
       metrics.scheduleMessage(holder.getHandler().getMetric(), msg.isLocal());
     }
 
-    holder.getContext().runOnContext((v) -> {
-      // Need to check handler is still there - the handler might have been removed after the message were sent but
-      // before it was received
-      try {
-        if (!holder.isRemoved()) {
-          receiveContext.next();
+    // Each handler gets a fresh copy
+    MessageImpl copied = msg.copyBeforeReceive();
+    boolean scheduled = false;
+    try {
+      DeliveryContext<T> receiveContext = new InboundDeliveryContext<>(copied, holder);
+      scheduled = ((ContextInternal) holder.getContext()).tryRunOnContext((v) -> {
+        // Need to check handler is still there - the handler might have been removed after the message were sent but
+        // before it was received
+        boolean delivered = false;
+        try {
+          if (!holder.isRemoved()) {
+            delivered = true;
+            receiveContext.next();
+          }
+        } finally {
+          if (delivered) {
+            copied.release();
+          } else {
+            copied.discard();
+          }
+          if (holder.isReplyHandler()) {
+            holder.getHandler().unregister();
+          }
+        }
+      });
+    } finally {
+      if (!scheduled) {
+        // The context is closed, the copy is never delivered
+        copied.discard();
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> void deliverToHandler(List<MessageImpl> messages, HandlerHolder<T> holder) {
+    // Each handler gets fresh copies
+    List<Message<T>> copies = new ArrayList<>(messages.size());
+    boolean scheduled = false;
+    try {
+      for (MessageImpl msg : messages) {
+        if (metrics != null) {
+          metrics.scheduleMessage(holder.getHandler().getMetric(), msg.isLocal());
         }
-      } finally {
-        if (holder.isReplyHandler()) {
-          holder.getHandler().unregister();
+        copies.add(msg.copyBeforeReceive());
+      }
+      scheduled = ((ContextInternal) holder.getContext()).tryRunOnContext((v) -> {
+        boolean delivered = false;
+        try {
+          if (!holder.isRemoved()) {
+            delivered = true;
+            if (receiveInterceptors.isEmpty()) {
+              holder.getHandler().handleBatch(copies);
+            } else {
+              // Interceptors act on each message
+              for (Message<T> copied : copies) {
+                new InboundDeliveryContext<>((MessageImpl) copied, holder).next();
+              }
+            }
+          }
+        } finally {
+          for (Message<T> copied : copies) {
+            if (delivered) {
+              ((MessageImpl) copied).release();
+            } else {
+              ((MessageImpl) copied).discard();
+            }
+          }
+          if (holder.isReplyHandler()) {
+            holder.getHandler().unregister();
+          }
+        }
+      });
+    } finally {
+      if (!scheduled) {
+        // The context is closed or a copy failed, the copies are never delivered
+        for (Message<T> copied : copies) {
+          ((MessageImpl) copied).discard();
         }
       }
-    });
+    }
   }
 
   protected class InboundDeliveryContext<T> implements DeliveryContext<T> {
@@ -24,6 +24,9 @@ import io.vertx.core.spi.metrics.EventBusMetrics;
 import io.vertx.core.streams.ReadStream;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 
@@ -50,6 +53,7 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   private long timeoutID = -1;
   private HandlerHolder<T> registered;
   private Handler<Message<T>> handler;
+  private Handler<List<Message<T>>> batchHandler;
   private Context handlerContext;
   private AsyncResult<Void> result;
   private Handler<AsyncResult<Void>> completionHandler;
@@ -178,6 +182,7 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   @Override
   public void handle(Message<T> message) {
     Handler<Message<T>> theHandler;
+    Handler<List<Message<T>>> theBatchHandler;
     synchronized (this) {
       if (demand == 0L) {
         if (pending.size() < maxBufferedMessages) {
@@ -196,30 +201,59 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
           message = pending.poll();
         }
         theHandler = handler;
+        theBatchHandler = batchHandler;
+      }
+    }
+    if (theBatchHandler != null) {
+      deliverBatch(theBatchHandler, Collections.singletonList(message));
+    } else {
+      deliver(theHandler, message);
+    }
+  }
+
+  /**
+   * Handle a batch of messages, the batch handler receives it in a single call when the consumer is flowing,
+   * otherwise each message is handled like a single message.
+   *
+   * @param messages the messages
+   */
+  public void handleBatch(List<Message<T>> messages) {
+    Handler<List<Message<T>>> theBatchHandler;
+    synchronized (this) {
+      if (demand == Long.MAX_VALUE && pending.isEmpty()) {
+        theBatchHandler = batchHandler;
+      } else {
+        theBatchHandler = null;
+      }
+    }
+    if (theBatchHandler != null) {
+      deliverBatch(theBatchHandler, messages);
+    } else {
+      for (int i = 0;i < messages.size();i++) {
+        boolean handled = false;
+        try {
+          handle(messages.get(i));
+          handled = true;
+        } finally {
+          if (!handled && i + 1 < messages.size()) {
+            // Like single messages that are delivered in their own task, the next messages are still delivered
+            // when the handler throws, the exception is reported by the context
+            List<Message<T>> remaining = messages.subList(i + 1, messages.size());
+            handlerContext.runOnContext(v -> handleBatch(remaining));
+          }
+        }
       }
     }
-    deliver(theHandler, message);
   }
 
   private void deliver(Handler<Message<T>> theHandler, Message<T> message) {
     // Handle the message outside the sync block
     // https://bugs.eclipse.org/bugs/show_bug.cgi?id=473714
     checkNextTick();
-    boolean local = true;
-    if (message instanceof ClusteredMessage) {
-      // A bit hacky
-      ClusteredMessage cmsg = (ClusteredMessage)message;
-      if (cmsg.isFromWire()) {
-        local = false;
-      }
-    }
-    String creditsAddress = message.headers().get(MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME);
-    if (creditsAddress != null) {
-      eventBus.send(creditsAddress, 1);
-    }
+    sendCredits(message);
     try {
       if (metrics != null) {
-        metrics.beginHandleMessage(metric, local);
+        metrics.beginHandleMessage(metric, isLocal(message));
       }
       theHandler.handle(message);
       if (metrics != null) {
@@ -234,12 +268,63 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
     }
   }
 
+  private void deliverBatch(Handler<List<Message<T>>> theHandler, List<Message<T>> messages) {
+    // Like deliver, each message was scheduled and begins and ends once, around the single handler call
+    checkNextTick();
+    for (Message<T> message : messages) {
+      sendCredits(message);
+    }
+    try {
+      if (metrics != null) {
+        for (Message<T> message : messages) {
+          metrics.beginHandleMessage(metric, isLocal(message));
+        }
+      }
+      theHandler.handle(messages);
+      if (metrics != null) {
+        endHandleMessages(messages.size(), null);
+      }
+    } catch (Exception e) {
+      log.error("Failed to handleMessage. address: " + address, e);
+      if (metrics != null) {
+        endHandleMessages(messages.size(), e);
+      }
+      throw e;
+    }
+  }
+
+  private void endHandleMessages(int count, Throwable failure) {
+    for (int i = 0;i < count;i++) {
+      metrics.endHandleMessage(metric, failure);
+    }
+  }
+
+  private static boolean isLocal(Message<?> message) {
+    if (message instanceof ClusteredMessage) {
+      // A bit hacky
+      ClusteredMessage cmsg = (ClusteredMessage)message;
+      if (cmsg.isFromWire()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void sendCredits(Message<T> message) {
+    String creditsAddress = message.headers().get(MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME);
+    if (creditsAddress != null) {
+      eventBus.send(creditsAddress, 1);
+    }
+  }
+
   private synchronized void checkNextTick() {
     // Check if there are more pending messages in the queue that can be processed next time around
     if (!pending.isEmpty() && demand > 0L) {
       handlerContext.runOnContext(v -> {
         Message<T> message;
         Handler<Message<T>> theHandler;
+        Handler<List<Message<T>>> theBatchHandler;
+        List<Message<T>> batch = null;
         synchronized (HandlerRegistration.this) {
           if (demand == 0L || (message = pending.poll()) == null) {
             return;
@@ -248,8 +333,24 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
             demand--;
           }
           theHandler = handler;
+          theBatchHandler = batchHandler;
+          if (theBatchHandler != null) {
+            // Deliver as many pending messages as the demand allows
+            batch = new ArrayList<>();
+            batch.add(message);
+            while (demand > 0L && (message = pending.poll()) != null) {
+              batch.add(message);
+              if (demand != Long.MAX_VALUE) {
+                demand--;
+              }
+            }
+          }
+        }
+        if (batch != null) {
+          deliverBatch(theBatchHandler, batch);
+        } else {
+          deliver(theHandler, message);
         }
-        deliver(theHandler, message);
       });
     }
   }
@@ -264,13 +365,25 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   @Override
   public synchronized MessageConsumer<T> handler(Handler<Message<T>> handler) {
     this.handler = handler;
-    if (this.handler != null && registered == null) {
+    checkRegistration();
+    return this;
+  }
+
+  @Override
+  public synchronized MessageConsumer<T> batchHandler(Handler<List<Message<T>>> handler) {
+    this.batchHandler = handler;
+    checkRegistration();
+    return this;
+  }
+
+  private void checkRegistration() {
+    boolean hasHandler = handler != null || batchHandler != null;
+    if (hasHandler && registered == null) {
       registered = eventBus.addRegistration(address, this, repliedAddress != null, localOnly);
-    } else if (this.handler == null && registered != null) {
+    } else if (!hasHandler && registered != null) {
       // This will set registered to false
       this.unregister();
     }
-    return this;
   }
 
   @Override
@@ -330,6 +443,10 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
     return handler;
   }
 
+  public Handler<List<Message<T>>> getBatchHandler() {
+    return batchHandler;
+  }
+
   public Object getMetric() {
     return metric;
   }
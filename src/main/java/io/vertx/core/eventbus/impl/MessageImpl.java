@@ -76,6 +76,20 @@ public class MessageImpl<U, V> implements Message<V> {
     return new MessageImpl<>(this);
   }
 
+  /**
+   * Called once the copy of the message delivered to a handler has been handled, subclasses holding resources
+   * until the message is decoded shall decode it and release them.
+   */
+  protected void release() {
+  }
+
+  /**
+   * Called instead of {@link #release()} when the copy of the message will never be delivered to a handler,
+   * subclasses shall release the resources they hold.
+   */
+  protected void discard() {
+  }
+
   @Override
   public String address() {
     return address;
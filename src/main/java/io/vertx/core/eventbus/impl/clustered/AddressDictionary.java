@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.netty.util.CharsetUtil;
+import io.vertx.core.buffer.Buffer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The dictionary of the addresses and sender hosts sent on a cluster connection, each side of the connection keeps
+ * its own instance.
+ * <p>
+ * The first time a string is written it is sent inline and both sides assign it the next id, the next times only
+ * its id is sent. A reference is written as the varint {@code (id << 1) | 1}, an inline string as the varint
+ * {@code (length << 2) | (added ? 2 : 0)} followed by its UTF-8 bytes. Reply addresses are used once and are
+ * never added, the dictionary size is bounded.
+ * <p>
+ * An instance is only accessed from the connection event loop.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+class AddressDictionary {
+
+  static final int MAX_SIZE = 1024;
+
+  private static final String REPLY_ADDRESS_PREFIX = "__vertx.reply.";
+
+  private final Map<String, Integer> ids = new HashMap<>();
+  private final List<String> strings = new ArrayList<>();
+  private String last;
+
+  /**
+   * Append {@code s} to the {@code buffer}, as a reference when it has already been written.
+   */
+  void write(Buffer buffer, String s) {
+    Integer id = ids.get(s);
+    if (id != null) {
+      writeVarint(buffer, (id << 1) | 1);
+      return;
+    }
+    byte[] bytes = s.getBytes(CharsetUtil.UTF_8);
+    if (strings.size() < MAX_SIZE && !s.startsWith(REPLY_ADDRESS_PREFIX)) {
+      ids.put(s, strings.size());
+      strings.add(s);
+      writeVarint(buffer, (bytes.length << 2) | 2);
+    } else {
+      writeVarint(buffer, bytes.length << 2);
+    }
+    buffer.appendBytes(bytes);
+  }
+
+  /**
+   * @return the estimated number of bytes written by {@link #write} for {@code s}, exact when it is ASCII
+   */
+  int sizeHint(String s) {
+    Integer id = ids.get(s);
+    if (id != null) {
+      return varintSize((id << 1) | 1);
+    }
+    return varintSize(s.length() << 2) + s.length();
+  }
+
+  /**
+   * @return the number of strings in the dictionary
+   */
+  int size() {
+    return strings.size();
+  }
+
+  /**
+   * Remove the strings added after the dictionary had {@code size} strings, used by the writer when the frame
+   * that added them is discarded.
+   */
+  void truncate(int size) {
+    while (strings.size() > size) {
+      ids.remove(strings.remove(strings.size() - 1));
+    }
+  }
+
+  /**
+   * Read the string at {@code pos} in the {@code buffer}.
+   *
+   * @return the position after the string, the string is available with {@link #last()}
+   */
+  int read(Buffer buffer, int pos) {
+    int header = readVarint(buffer, pos);
+    pos += varintSize(header);
+    if ((header & 1) != 0) {
+      int id = header >>> 1;
+      if (id >= strings.size()) {
+        throw new IllegalStateException("Invalid address id " + id);
+      }
+      last = strings.get(id);
+      return pos;
+    }
+    int length = header >>> 2;
+    String s = buffer.getString(pos, pos + length);
+    if ((header & 2) != 0) {
+      // Interned since it is referenced by the next frames of the connection
+      s = s.intern();
+      strings.add(s);
+    }
+    last = s;
+    return pos + length;
+  }
+
+  /**
+   * @return the last string read
+   */
+  String last() {
+    return last;
+  }
+
+  static void writeVarint(Buffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.appendByte((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.appendByte((byte) value);
+  }
+
+  static int readVarint(Buffer buffer, int pos) {
+    int value = 0;
+    for (int shift = 0;;shift += 7) {
+      byte b = buffer.getByte(pos++);
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+  }
+
+  static int varintSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+}
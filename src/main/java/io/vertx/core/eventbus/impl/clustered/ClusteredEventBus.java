@@ -11,10 +11,13 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.debugging.DebuggingHeader;
 import io.vertx.core.eventbus.DebuggingOptions;
+import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.EventBusOptions;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.eventbus.impl.CodecManager;
@@ -23,18 +26,21 @@ import io.vertx.core.eventbus.impl.HandlerHolder;
 import io.vertx.core.eventbus.impl.MessageImpl;
 import io.vertx.core.impl.ConcurrentHashSet;
 import io.vertx.core.impl.HAManager;
+import io.vertx.core.impl.NetSocketInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.*;
+import io.vertx.core.net.impl.ConnectionBase;
 import io.vertx.core.net.impl.ServerID;
-import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.spi.cluster.AsyncMultiMap;
 import io.vertx.core.spi.cluster.ChoosableIterable;
 import io.vertx.core.spi.cluster.ClusterManager;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -54,7 +60,7 @@ public class ClusteredEventBus extends EventBusImpl {
   public static final String CLUSTER_PUBLIC_HOST_PROP_NAME = "vertx.cluster.public.host";
   public static final String CLUSTER_PUBLIC_PORT_PROP_NAME = "vertx.cluster.public.port";
 
-  private static final Buffer PONG = Buffer.buffer(new byte[]{(byte) 1});
+  private static final Buffer PONG = Buffer.buffer(new byte[]{ClusteredMessage.WIRE_PROTOCOL_VERSION});
   private static final String SERVER_ID_HA_KEY = "server_id";
   private static final String SUBS_MAP_NAME = "__vertx.subs";
 
@@ -247,6 +253,35 @@ public class ClusteredEventBus extends EventBusImpl {
     }
   }
 
+  @Override
+  protected void sendOrPubBatch(List<MessageImpl> messages, DeliveryOptions options) {
+    String address = messages.get(0).address();
+    if (options.isLocalOnly()) {
+      super.sendOrPubBatch(messages, options);
+    } else if (Vertx.currentContext() == null) {
+      // Guarantees the order when there is no current context
+      sendNoContext.runOnContext(v -> {
+        subs.get(address, ar -> onSubsReceived(ar, messages));
+      });
+    } else {
+      subs.get(address, ar -> onSubsReceived(ar, messages));
+    }
+  }
+
+  private void onSubsReceived(AsyncResult<ChoosableIterable<ClusterNodeInfo>> asyncResult, List<MessageImpl> messages) {
+    if (asyncResult.succeeded()) {
+      ChoosableIterable<ClusterNodeInfo> serverIDs = asyncResult.result();
+      if (serverIDs != null && !serverIDs.isEmpty()) {
+        sendToSubs(serverIDs, messages);
+      } else {
+        messagesSent(messages, true, false);
+        deliverBatchLocally(messages);
+      }
+    } else {
+      log.error("Failed to send message", asyncResult.cause());
+    }
+  }
+
   @Override
   protected String generateReplyAddress() {
     // The address is a cryptographically secure id that can't be guessed
@@ -298,36 +333,85 @@ public class ClusteredEventBus extends EventBusImpl {
 
   private Handler<NetSocket> getServerHandler() {
     return socket -> {
-      RecordParser parser = RecordParser.newFixed(4);
-      Handler<Buffer> handler = new Handler<Buffer>() {
-        int size = -1;
-
-        public void handle(Buffer buff) {
-          if (size == -1) {
-            size = buff.getInt(0);
-            parser.fixedSizeMode(size);
-          } else {
-            ClusteredMessage received = new ClusteredMessage();
-            received.readFromWire(buff, codecManager);
-            if (metrics != null) {
-              metrics.messageRead(received.address(), buff.length());
-            }
-            parser.fixedSizeMode(4);
-            size = -1;
-            if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
-              // Just send back pong directly on connection
-              socket.write(PONG);
-            } else {
-              deliverMessageLocally(received);
-            }
-          }
+      // Frames are decoded by Netty and messages are read directly from the pooled frame buffer
+      NetSocketInternal so = (NetSocketInternal) socket;
+      AddressDictionary dictionary = new AddressDictionary();
+      so.channelHandlerContext().pipeline().addBefore("handler", "frameDecoder",
+        new LengthFieldBasedFrameDecoder(Integer.MAX_VALUE, 0, 4, 0, 4));
+      so.messageHandler(msg -> {
+        ByteBuf frame = (ByteBuf) msg;
+        ((ConnectionBase) so).reportBytesRead(frame.readableBytes() + 4);
+        if (frame.getByte(frame.readerIndex()) == ClusteredMessage.WIRE_PROTOCOL_VERSION) {
+          receiveBatch(frame, dictionary);
+        } else {
+          receive(socket, frame, dictionary);
         }
-      };
-      parser.setOutput(handler);
-      socket.handler(parser);
+      });
     };
   }
 
+  private void receive(NetSocket socket, ByteBuf frame, AddressDictionary dictionary) {
+    ClusteredMessage received = new ClusteredMessage();
+    try {
+      received.readFromWire(frame, codecManager, dictionary);
+    } catch (RuntimeException e) {
+      frame.release();
+      throw e;
+    }
+    try {
+      if (metrics != null) {
+        metrics.messageRead(received.address(), frame.readableBytes());
+      }
+      if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
+        // Just send back pong directly on connection
+        socket.write(PONG);
+      } else {
+        deliverMessageLocally(received);
+      }
+    } finally {
+      // Copies delivered to handlers hold their own reference
+      received.releaseFrame();
+    }
+  }
+
+  /**
+   * Deliver the messages of a batch frame as a batch, each message is read from a slice of the frame.
+   */
+  private void receiveBatch(ByteBuf frame, AddressDictionary dictionary) {
+    List<MessageImpl> messages = new ArrayList<>();
+    try {
+      int pos = frame.readerIndex() + 1;
+      int count = frame.getInt(pos);
+      pos += 4;
+      for (int i = 0;i < count;i++) {
+        int length = frame.getInt(pos);
+        pos += 4;
+        ByteBuf slice = frame.retainedSlice(pos, length);
+        pos += length;
+        ClusteredMessage received = new ClusteredMessage();
+        try {
+          received.readFromWire(slice, codecManager, dictionary);
+        } catch (RuntimeException e) {
+          slice.release();
+          throw e;
+        }
+        messages.add(received);
+        if (metrics != null) {
+          metrics.messageRead(received.address(), length);
+        }
+      }
+      if (!messages.isEmpty()) {
+        deliverBatchLocally(messages);
+      }
+    } finally {
+      // Copies delivered to handlers hold their own reference
+      for (MessageImpl message : messages) {
+        ((ClusteredMessage) message).releaseFrame();
+      }
+      frame.release();
+    }
+  }
+
   private <T> void sendToSubs(ChoosableIterable<ClusterNodeInfo> subs, OutboundDeliveryContext<T> sendContext) {
     String address = sendContext.message.address();
     if (sendContext.message.isSend()) {
@@ -366,6 +450,37 @@ public class ClusteredEventBus extends EventBusImpl {
     }
   }
 
+  private void sendToSubs(ChoosableIterable<ClusterNodeInfo> subs, List<MessageImpl> messages) {
+    if (messages.get(0).isSend()) {
+      // Choose one for the whole batch
+      ClusterNodeInfo ci = subs.choose();
+      ServerID sid = ci == null ? null : ci.serverID;
+      if (sid != null && !sid.equals(serverID)) {  //We don't send to this node
+        messagesSent(messages, false, true);
+        connectionHolder(sid).writeMessages(messages);
+      } else {
+        messagesSent(messages, true, false);
+        deliverBatchLocally(messages);
+      }
+    } else {
+      // Publish
+      boolean local = false;
+      boolean remote = false;
+      for (ClusterNodeInfo ci : subs) {
+        if (!ci.serverID.equals(serverID)) {  //We don't send to this node
+          remote = true;
+          connectionHolder(ci.serverID).writeMessages(messages);
+        } else {
+          local = true;
+        }
+      }
+      messagesSent(messages, local, remote);
+      if (local) {
+        deliverBatchLocally(messages);
+      }
+    }
+  }
+
   private <T> void clusteredSendReply(ServerID replyDest, OutboundDeliveryContext<T> sendContext) {
     MessageImpl message = sendContext.message;
     String address = message.address();
@@ -383,6 +498,10 @@ public class ClusteredEventBus extends EventBusImpl {
   }
 
   private void sendRemote(ServerID theServerID, MessageImpl message) {
+    connectionHolder(theServerID).writeMessage((ClusteredMessage) message);
+  }
+
+  private ConnectionHolder connectionHolder(ServerID theServerID) {
     // We need to deal with the fact that connecting can take some time and is async, and we cannot
     // block to wait for it. So we add any sends to a pending list if not connected yet.
     // Once we connect we send them.
@@ -401,7 +520,7 @@ public class ClusteredEventBus extends EventBusImpl {
         holder.connect();
       }
     }
-    holder.writeMessage((ClusteredMessage) message);
+    return holder;
   }
 
   private void removeSub(String subName, ClusterNodeInfo node, Handler<AsyncResult<Void>> completionHandler) {
@@ -11,6 +11,7 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -34,13 +35,25 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
 
   private static final Logger log = LoggerFactory.getLogger(ClusteredMessage.class);
 
-  private static final byte WIRE_PROTOCOL_VERSION = 1;
+  // Version 3 adds the batch frames, holding the frames of the messages sent together
+  static final byte WIRE_PROTOCOL_VERSION = 3;
+  // Version 2 sends the addresses and the sender host as references to an AddressDictionary
+  static final byte WIRE_PROTOCOL_VERSION_2 = 2;
+  private static final byte WIRE_PROTOCOL_VERSION_1 = 1;
+
+  /**
+   * The body size assumed when the codec does not provide a hint and nothing better is known.
+   */
+  static final int DEFAULT_BODY_SIZE_HINT = 128;
 
   private ServerID sender;
   private Buffer wireBuffer;
+  private ByteBuf wireFrame;
   private int bodyPos;
   private int headersPos;
   private boolean fromWire;
+  private RuntimeException headersFailure;
+  private RuntimeException bodyFailure;
 
   public ClusteredMessage() {
   }
@@ -58,6 +71,9 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
       this.wireBuffer = other.wireBuffer;
       this.bodyPos = other.bodyPos;
       this.headersPos = other.headersPos;
+      if (other.wireFrame != null) {
+        this.wireFrame = other.wireFrame.retain();
+      }
     }
     this.fromWire = other.fromWire;
   }
@@ -70,6 +86,9 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   public MultiMap headers() {
     // Lazily decode headers
     if (headers == null) {
+      if (headersFailure != null) {
+        throw headersFailure;
+      }
       // The message has been read from the wire
       if (headersPos != 0) {
         decodeHeaders();
@@ -84,6 +103,9 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   @Override
   public V body() {
     // Lazily decode the body
+    if (bodyFailure != null) {
+      throw bodyFailure;
+    }
     if (receivedBody == null && bodyPos != 0) {
       // The message has been read from the wire
       decodeBody();
@@ -97,56 +119,178 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   }
 
   public Buffer encodeToWire() {
-    int length = 1024; // TODO make this configurable
-    Buffer buffer = Buffer.buffer(length);
+    int bodySize = bodySizeHint();
+    Buffer buffer = Buffer.buffer(headerSizeHint(null) + (bodySize >= 0 ? bodySize : DEFAULT_BODY_SIZE_HINT));
+    encodeToWire(buffer);
+    return buffer;
+  }
+
+  /**
+   * @param dictionary the dictionary the frame is encoded with or {@code null}
+   * @return the estimated size of the frame without the body, exact when the strings are ASCII
+   */
+  int headerSizeHint(AddressDictionary dictionary) {
+    // length + version + codec + send
+    int size = 4 + 1 + 1 + 1;
+    if (dictionary != null) {
+      // address + reply address + sender port + sender host
+      size += dictionary.sizeHint(address) + AddressDictionary.varintSize(sender.port) + dictionary.sizeHint(sender.host);
+      if (replyAddress != null) {
+        size += dictionary.sizeHint(replyAddress);
+      }
+    } else {
+      // address + reply address + sender port + sender host
+      size += 4 + address.length() + 4 + 4 + 4 + sender.host.length();
+      if (replyAddress != null) {
+        size += replyAddress.length();
+      }
+    }
+    // headers length
+    size += 4;
+    if (messageCodec.systemCodecID() == -1) {
+      size += 4 + messageCodec.name().length();
+    }
+    if (headers != null && !headers.isEmpty()) {
+      size += 4;
+      for (Map.Entry<String, String> header : headers) {
+        size += 8 + header.getKey().length() + header.getValue().length();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * @return the body size hint of the codec or {@code -1} when it is unknown
+   */
+  int bodySizeHint() {
+    return messageCodec.encodedSizeHint(sentBody);
+  }
+
+  /**
+   * Append the wire frame of this message to the {@code buffer}.
+   *
+   * @param buffer the buffer to append to
+   * @return the number of bytes appended
+   */
+  public int encodeToWire(Buffer buffer) {
+    // The version 1 readers do not decode the compact JSON codecs
+    return encodeToWire(buffer, null, CodecManager.textJsonCodec(messageCodec));
+  }
+
+  /**
+   * Append the wire frame of this message to the {@code buffer}, the frame uses the version 1 of the protocol
+   * when {@code dictionary} is {@code null}.
+   *
+   * @param buffer the buffer to append to
+   * @param dictionary the dictionary of the connection or {@code null}
+   * @param codec the codec encoding the body, the message codec or the equivalent JSON codec chosen for the server
+   * @return the number of bytes appended
+   */
+  int encodeToWire(Buffer buffer, AddressDictionary dictionary, MessageCodec<U, ?> codec) {
+    int start = buffer.length();
     buffer.appendInt(0);
-    buffer.appendByte(WIRE_PROTOCOL_VERSION);
-    byte systemCodecID = messageCodec.systemCodecID();
+    buffer.appendByte(dictionary != null ? WIRE_PROTOCOL_VERSION_2 : WIRE_PROTOCOL_VERSION_1);
+    byte systemCodecID = codec.systemCodecID();
     buffer.appendByte(systemCodecID);
     if (systemCodecID == -1) {
       // User codec
-      writeString(buffer, messageCodec.name());
+      writeString(buffer, codec.name());
     }
-    buffer.appendByte(send ? (byte)0 : (byte)1);
-    writeString(buffer, address);
-    if (replyAddress != null) {
-      writeString(buffer, replyAddress);
+    if (dictionary != null) {
+      buffer.appendByte((byte) ((send ? 0 : 1) | (replyAddress != null ? 2 : 0)));
+      dictionary.write(buffer, address);
+      if (replyAddress != null) {
+        dictionary.write(buffer, replyAddress);
+      }
+      AddressDictionary.writeVarint(buffer, sender.port);
+      dictionary.write(buffer, sender.host);
     } else {
-      buffer.appendInt(0);
+      buffer.appendByte(send ? (byte)0 : (byte)1);
+      writeString(buffer, address);
+      if (replyAddress != null) {
+        writeString(buffer, replyAddress);
+      } else {
+        buffer.appendInt(0);
+      }
+      buffer.appendInt(sender.port);
+      writeString(buffer, sender.host);
     }
-    buffer.appendInt(sender.port);
-    writeString(buffer, sender.host);
     encodeHeaders(buffer);
-    writeBody(buffer);
-    buffer.setInt(0, buffer.length() - 4);
-    return buffer;
+    codec.encodeToWire(buffer, sentBody);
+    int length = buffer.length() - start;
+    buffer.setInt(start, length - 4);
+    return length;
   }
 
   public void readFromWire(Buffer buffer, CodecManager codecManager) {
+    readFromWire(buffer, codecManager, null);
+  }
+
+  /**
+   * Read the message from a {@code buffer} containing a frame of any version.
+   *
+   * @param buffer the frame without the overall length
+   * @param codecManager the codec manager
+   * @param dictionary the dictionary of the connection, required by the version 2 frames
+   */
+  void readFromWire(Buffer buffer, CodecManager codecManager, AddressDictionary dictionary) {
     int pos = 0;
     // Overall Length already read when passed in here
     byte protocolVersion = buffer.getByte(pos);
-    if (protocolVersion > WIRE_PROTOCOL_VERSION) {
+    if (protocolVersion > WIRE_PROTOCOL_VERSION_2) {
       throw new IllegalStateException("Invalid wire protocol version " + protocolVersion +
-                                      " should be <= " + WIRE_PROTOCOL_VERSION);
+                                      " should be <= " + WIRE_PROTOCOL_VERSION_2);
     }
     pos++;
     byte systemCodecCode = buffer.getByte(pos);
     pos++;
+    String codecName = null;
     if (systemCodecCode == -1) {
       // User codec
       int length = buffer.getInt(pos);
       pos += 4;
       byte[] bytes = buffer.getBytes(pos, pos + length);
-      String codecName = new String(bytes, CharsetUtil.UTF_8);
+      codecName = new String(bytes, CharsetUtil.UTF_8);
+      pos += length;
+    }
+    // The addresses are read before the codec is resolved, so the dictionary is updated even when the codec is unknown
+    if (protocolVersion == WIRE_PROTOCOL_VERSION_1) {
+      pos = readAddressesV1(buffer, pos);
+    } else {
+      if (dictionary == null) {
+        throw new IllegalStateException("No address dictionary for wire protocol version " + protocolVersion);
+      }
+      byte flags = buffer.getByte(pos);
+      send = (flags & 1) == 0;
+      pos++;
+      pos = dictionary.read(buffer, pos);
+      address = dictionary.last();
+      if ((flags & 2) != 0) {
+        pos = dictionary.read(buffer, pos);
+        replyAddress = dictionary.last();
+      }
+      int senderPort = AddressDictionary.readVarint(buffer, pos);
+      pos += AddressDictionary.varintSize(senderPort);
+      pos = dictionary.read(buffer, pos);
+      sender = new ServerID(senderPort, dictionary.last());
+    }
+    if (codecName != null) {
       messageCodec = codecManager.getCodec(codecName);
       if (messageCodec == null) {
         throw new IllegalStateException("No message codec registered with name " + codecName);
       }
-      pos += length;
     } else {
       messageCodec = codecManager.systemCodecs()[systemCodecCode];
     }
+    headersPos = pos;
+    int headersLength = buffer.getInt(pos);
+    pos += headersLength;
+    bodyPos = pos;
+    wireBuffer = buffer;
+    fromWire = true;
+  }
+
+  private int readAddressesV1(Buffer buffer, int pos) {
     byte bsend = buffer.getByte(pos);
     send = bsend == 0;
     pos++;
@@ -169,13 +313,65 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     bytes = buffer.getBytes(pos, pos + length);
     String senderHost = new String(bytes, CharsetUtil.UTF_8);
     pos += length;
-    headersPos = pos;
-    int headersLength = buffer.getInt(pos);
-    pos += headersLength;
-    bodyPos = pos;
     sender = new ServerID(senderPort, senderHost);
-    wireBuffer = buffer;
-    fromWire = true;
+    return pos;
+  }
+
+  /**
+   * Read the message from a pooled frame, the message holds a reference on the {@code frame} until
+   * {@link #releaseFrame()} is called.
+   *
+   * @param frame the frame without the overall length
+   * @param codecManager the codec manager
+   * @param dictionary the dictionary of the connection the frame was read from
+   */
+  void readFromWire(ByteBuf frame, CodecManager codecManager, AddressDictionary dictionary) {
+    readFromWire(Buffer.buffer(frame), codecManager, dictionary);
+    wireFrame = frame;
+  }
+
+  @Override
+  protected void release() {
+    if (wireFrame != null) {
+      // The failures are thrown when the message is read since the frame is not available anymore
+      try {
+        if (headers == null && headersPos != 0) {
+          try {
+            decodeHeaders();
+          } catch (RuntimeException e) {
+            headersFailure = e;
+          }
+        }
+        if (receivedBody == null && bodyPos != 0) {
+          try {
+            decodeBody();
+          } catch (RuntimeException e) {
+            bodyFailure = e;
+          }
+        }
+      } finally {
+        releaseFrame();
+      }
+    }
+  }
+
+  @Override
+  protected void discard() {
+    releaseFrame();
+  }
+
+  /**
+   * Release the reference held on the pooled frame without decoding the message.
+   */
+  void releaseFrame() {
+    if (wireFrame != null) {
+      ByteBuf frame = wireFrame;
+      wireFrame = null;
+      wireBuffer = null;
+      headersPos = 0;
+      bodyPos = 0;
+      frame.release();
+    }
   }
 
   private void decodeBody() {
@@ -224,10 +420,6 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     headersPos = 0;
   }
 
-  private void writeBody(Buffer buff) {
-    messageCodec.encodeToWire(buff, sentBody);
-  }
-
   private void writeString(Buffer buff, String str) {
     byte[] strBytes = str.getBytes(CharsetUtil.UTF_8);
     buff.appendInt(strBytes.length);
@@ -11,10 +11,16 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.EventExecutor;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBusOptions;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.eventbus.impl.MessageImpl;
 import io.vertx.core.eventbus.impl.codecs.PingMessageCodec;
+import io.vertx.core.impl.NetSocketInternal;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.NetClient;
@@ -24,10 +30,19 @@ import io.vertx.core.net.impl.NetClientImpl;
 import io.vertx.core.net.impl.ServerID;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
-import java.util.ArrayDeque;
+import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Messages written to the connection are added to a lock-free queue, a single drain task running on the
+ * connection event loop encodes the queued messages in a pooled buffer that is flushed once per batch.
+ * <p>
+ * A batch of messages sent together is queued as a single element, it is encoded as one batch frame when the server
+ * reads the version 3 of the wire protocol and as one frame per message otherwise.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 class ConnectionHolder {
@@ -41,9 +56,24 @@ class ConnectionHolder {
   private final ServerID serverID;
   private final Vertx vertx;
   private final EventBusMetrics metrics;
+  private final int maxBatchBytes;
+  private final long maxBatchDelay;
+  private final boolean compactJson;
+  // Holds messages and lists of messages sent together
+  private final Queue<Object> writeQueue = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
+  private final Runnable drainTask = this::drain;
 
-  private Queue<ClusteredMessage> pending;
-  private NetSocket socket;
+  private volatile NetSocketInternal socket;
+  // Set when the server pong shows it reads the version 2 frames
+  private volatile AddressDictionary dictionary;
+  // The wire protocol version read by the server, 0 until the first server pong, nothing is written before
+  private volatile int serverVersion;
+  // Moving average of the size of the bodies without a codec hint, only accessed from the drain task
+  private int bodySizeAverage = ClusteredMessage.DEFAULT_BODY_SIZE_HINT;
+  // The buffer of the batch encoded by the drain task, only accessed from the drain task
+  private ByteBuf batch;
+  private Buffer buffer;
   private boolean connected;
   private long timeoutID = -1;
   private long pingTimeoutID = -1;
@@ -53,6 +83,9 @@ class ConnectionHolder {
     this.serverID = serverID;
     this.vertx = eventBus.vertx();
     this.metrics = eventBus.getMetrics();
+    this.maxBatchBytes = options.getClusterWriteBatchMaxBytes();
+    this.maxBatchDelay = options.getClusterWriteBatchMaxDelay();
+    this.compactJson = options.isCompactJsonEncoding();
     NetClientOptions clientOptions = new NetClientOptions(options.toJson());
     ClusteredEventBus.setCertOptions(clientOptions, options.getKeyCertOptions());
     ClusteredEventBus.setTrustOptions(clientOptions, options.getTrustOptions());
@@ -73,22 +106,149 @@ class ConnectionHolder {
     });
   }
 
-  // TODO optimise this (contention on monitor)
-  synchronized void writeMessage(ClusteredMessage message) {
-    if (connected) {
-      Buffer data = message.encodeToWire();
-      if (metrics != null) {
-        metrics.messageWritten(message.address(), data.length());
+  void writeMessage(ClusteredMessage message) {
+    writeQueue.add(message);
+    if (serverVersion != 0) {
+      scheduleDrain(maxBatchDelay);
+    }
+  }
+
+  void writeMessages(List<MessageImpl> messages) {
+    // A single element so the messages are encoded by the same drain and flushed together
+    writeQueue.add(messages);
+    if (serverVersion != 0) {
+      scheduleDrain(maxBatchDelay);
+    }
+  }
+
+  private void scheduleDrain(long delay) {
+    if (drainScheduled.compareAndSet(false, true)) {
+      EventExecutor executor = socket.channelHandlerContext().executor();
+      if (delay > 0) {
+        executor.schedule(drainTask, delay, TimeUnit.MICROSECONDS);
+      } else {
+        executor.execute(drainTask);
       }
-      socket.write(data);
-    } else {
-      if (pending == null) {
-        if (log.isDebugEnabled()) {
-          log.debug("Not connected to server " + serverID + " - starting queuing");
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void drain() {
+    NetSocketInternal so = socket;
+    AddressDictionary dict = dictionary;
+    int version = serverVersion;
+    Object element;
+    while ((element = writeQueue.poll()) != null) {
+      if (element instanceof ClusteredMessage) {
+        encode(so, (ClusteredMessage) element, dict, version);
+      } else if (version >= ClusteredMessage.WIRE_PROTOCOL_VERSION) {
+        encodeBatch(so, (List<ClusteredMessage>) element, dict, version);
+      } else {
+        for (ClusteredMessage message : (List<ClusteredMessage>) element) {
+          encode(so, message, dict, version);
         }
-        pending = new ArrayDeque<>();
       }
-      pending.add(message);
+      if (batch != null && batch.writerIndex() >= maxBatchBytes) {
+        break;
+      }
+    }
+    if (batch != null) {
+      if (batch.isReadable()) {
+        so.writeMessage(batch);
+      } else {
+        batch.release();
+      }
+      batch = null;
+      buffer = null;
+    }
+    drainScheduled.set(false);
+    // Drain the messages left by a full batch or added after the last poll
+    if (!writeQueue.isEmpty()) {
+      scheduleDrain(0);
+    }
+  }
+
+  /**
+   * Encode the {@code messages} in a batch frame: the frame length, the version 3, the count of messages and their
+   * version 2 frames.
+   */
+  private void encodeBatch(NetSocketInternal so, List<ClusteredMessage> messages, AddressDictionary dict, int version) {
+    ensureWritable(so, 4 + 1 + 4);
+    int pos = batch.writerIndex();
+    buffer.appendInt(0);
+    buffer.appendByte(ClusteredMessage.WIRE_PROTOCOL_VERSION);
+    buffer.appendInt(0);
+    int count = 0;
+    for (ClusteredMessage message : messages) {
+      if (encode(so, message, dict, version)) {
+        count++;
+      }
+    }
+    if (count > 0) {
+      batch.setInt(pos, batch.writerIndex() - pos - 4);
+      batch.setInt(pos + 5, count);
+    } else {
+      batch.writerIndex(pos);
+    }
+  }
+
+  /**
+   * Encode the frame of a {@code message}, a message that cannot be encoded is logged and discarded.
+   *
+   * @return whether the message has been encoded
+   */
+  @SuppressWarnings("unchecked")
+  private boolean encode(NetSocketInternal so, ClusteredMessage message, AddressDictionary dict, int version) {
+    int headerSize;
+    int bodySize;
+    int length;
+    int pos = batch != null ? batch.writerIndex() : 0;
+    int dictSize = dict != null ? dict.size() : 0;
+    try {
+      headerSize = message.headerSizeHint(dict);
+      bodySize = message.bodySizeHint();
+      // Size the buffer once for the whole frame instead of growing it while encoding
+      ensureWritable(so, Math.max(0, headerSize + (bodySize >= 0 ? bodySize : bodySizeAverage)));
+      length = message.encodeToWire(buffer, dict, wireCodec(message.codec(), version));
+    } catch (Exception e) {
+      if (batch != null) {
+        batch.writerIndex(pos);
+      }
+      if (dict != null) {
+        // The discarded frame must not define strings
+        dict.truncate(dictSize);
+      }
+      log.error("Failed to encode message sent to " + message.address(), e);
+      return false;
+    }
+    if (bodySize < 0) {
+      // The header hint is an estimate, the average must not become negative
+      bodySizeAverage = Math.max(0, bodySizeAverage + ((length - headerSize - bodySizeAverage) >> 3));
+    }
+    if (metrics != null) {
+      metrics.messageWritten(message.address(), length);
+    }
+    return true;
+  }
+
+  /**
+   * @return the codec sending a message of {@code codec} to a server reading the {@code version} of the wire
+   * protocol, the compact JSON codecs are only decoded by the servers reading the version 3
+   */
+  private MessageCodec wireCodec(MessageCodec codec, int version) {
+    if (version >= ClusteredMessage.WIRE_PROTOCOL_VERSION) {
+      return compactJson ? CodecManager.compactJsonCodec(codec) : codec;
+    } else {
+      return CodecManager.textJsonCodec(codec);
+    }
+  }
+
+  private void ensureWritable(NetSocketInternal so, int size) {
+    if (batch == null) {
+      batch = so.channelHandlerContext().alloc().ioBuffer(size);
+      buffer = Buffer.buffer(batch);
+    } else {
+      batch.ensureWritable(size);
     }
   }
 
@@ -114,45 +274,48 @@ class ConnectionHolder {
 
   private void schedulePing() {
     EventBusOptions options = eventBus.options();
-    pingTimeoutID = vertx.setTimer(options.getClusterPingInterval(), id1 -> {
-      // If we don't get a pong back in time we close the connection
-      timeoutID = vertx.setTimer(options.getClusterPingReplyInterval(), id2 -> {
-        // Didn't get pong in time - consider connection dead
-        log.warn("No pong from server " + serverID + " - will consider it dead");
-        close();
-      });
-      ClusteredMessage pingMessage =
-        new ClusteredMessage<>(serverID, PING_ADDRESS, null, null, null, new PingMessageCodec(), true, eventBus, null);
-      Buffer data = pingMessage.encodeToWire();
-      socket.write(data);
+    pingTimeoutID = vertx.setTimer(options.getClusterPingInterval(), id1 -> ping());
+  }
+
+  private void ping() {
+    EventBusOptions options = eventBus.options();
+    // If we don't get a pong back in time we close the connection
+    timeoutID = vertx.setTimer(options.getClusterPingReplyInterval(), id2 -> {
+      // Didn't get pong in time - consider connection dead
+      log.warn("No pong from server " + serverID + " - will consider it dead");
+      close();
     });
+    ClusteredMessage pingMessage =
+      new ClusteredMessage<>(serverID, PING_ADDRESS, null, null, null, new PingMessageCodec(), true, eventBus, null);
+    Buffer data = pingMessage.encodeToWire();
+    socket.write(data);
   }
 
   private synchronized void connected(NetSocket socket) {
-    this.socket = socket;
+    this.socket = (NetSocketInternal) socket;
     connected = true;
     socket.exceptionHandler(t -> close());
     socket.closeHandler(v -> close());
     socket.handler(data -> {
-      // Got a pong back
+      // Got a pong back, it carries the wire protocol version of the server, older servers reply 1
+      if (serverVersion == 0) {
+        int version = Math.min(data.getByte(data.length() - 1), ClusteredMessage.WIRE_PROTOCOL_VERSION);
+        if (version >= ClusteredMessage.WIRE_PROTOCOL_VERSION_2) {
+          dictionary = new AddressDictionary();
+        }
+        serverVersion = Math.max(version, 1);
+        if (!writeQueue.isEmpty()) {
+          if (log.isDebugEnabled()) {
+            log.debug("Draining the queue for server " + serverID);
+          }
+          scheduleDrain(0);
+        }
+      }
       vertx.cancelTimer(timeoutID);
       schedulePing();
     });
-    // Start a pinger
-    schedulePing();
-    if (pending != null) {
-      if (log.isDebugEnabled()) {
-        log.debug("Draining the queue for server " + serverID);
-      }
-      for (ClusteredMessage message : pending) {
-        Buffer data = message.encodeToWire();
-        if (metrics != null) {
-          metrics.messageWritten(message.address(), data.length());
-        }
-        socket.write(data);
-      }
-    }
-    pending = null;
+    // Ping right away, the messages are written once the pong tells the wire protocol version of the server
+    ping();
   }
 
 }
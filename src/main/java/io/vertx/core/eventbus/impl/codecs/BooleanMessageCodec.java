@@ -24,6 +24,11 @@ public class BooleanMessageCodec implements MessageCodec<Boolean, Boolean> {
     buffer.appendByte((byte)(b ? 0 : 1));
   }
 
+  @Override
+  public int encodedSizeHint(Boolean b) {
+    return 1;
+  }
+
   @Override
   public Boolean decodeFromWire(int pos, Buffer buffer) {
     return buffer.getByte(pos) == 0;
@@ -25,6 +25,11 @@ public class BufferMessageCodec implements MessageCodec<Buffer, Buffer> {
     buffer.appendBuffer(b);
   }
 
+  @Override
+  public int encodedSizeHint(Buffer b) {
+    return 4 + b.length();
+  }
+
   @Override
   public Buffer decodeFromWire(int pos, Buffer buffer) {
     int length = buffer.getInt(pos);
@@ -25,6 +25,11 @@ public class ByteArrayMessageCodec implements MessageCodec<byte[], byte[]> {
     buffer.appendBytes(byteArray);
   }
 
+  @Override
+  public int encodedSizeHint(byte[] byteArray) {
+    return 4 + byteArray.length;
+  }
+
   @Override
   public byte[] decodeFromWire(int pos, Buffer buffer) {
     int length = buffer.getInt(pos);
@@ -24,6 +24,11 @@ public class ByteMessageCodec implements MessageCodec<Byte, Byte> {
     buffer.appendByte(b);
   }
 
+  @Override
+  public int encodedSizeHint(Byte b) {
+    return 1;
+  }
+
   @Override
   public Byte decodeFromWire(int pos, Buffer buffer) {
     return buffer.getByte(pos);
@@ -24,6 +24,11 @@ public class CharMessageCodec implements MessageCodec<Character, Character> {
     buffer.appendShort((short)chr.charValue());
   }
 
+  @Override
+  public int encodedSizeHint(Character chr) {
+    return 2;
+  }
+
   @Override
   public Character decodeFromWire(int pos, Buffer buffer) {
     return (char)buffer.getShort(pos);
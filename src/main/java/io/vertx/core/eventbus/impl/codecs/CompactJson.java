@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.codecs;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+
+/**
+ * A compact binary encoding of JSON values, used on the cluster wire instead of the JSON text.
+ * <p>
+ * Each value starts with a tag byte, integers are zig-zag varints, floating point numbers are written as is, strings
+ * and sizes are prefixed by their varint length. The first occurrence of a field name in a message is written as a
+ * string and the next ones as the varint index of that first occurrence, so the field names repeated in arrays of
+ * objects are written once. Values that have no JSON type are written as their JSON text.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+final class CompactJson {
+
+  private static final byte NULL = 0;
+  private static final byte TRUE = 1;
+  private static final byte FALSE = 2;
+  private static final byte INT = 3;
+  private static final byte LONG = 4;
+  private static final byte FLOAT = 5;
+  private static final byte DOUBLE = 6;
+  private static final byte STRING = 7;
+  private static final byte OBJECT = 8;
+  private static final byte ARRAY = 9;
+  private static final byte BIG_INTEGER = 10;
+  private static final byte JSON_TEXT = 11;
+
+  private CompactJson() {
+  }
+
+  /**
+   * Append the encoding of {@code value} to the {@code buffer}.
+   */
+  static void encode(Object value, Buffer buffer) {
+    new Encoder(buffer).encodeValue(value);
+  }
+
+  /**
+   * Decode the JSON object at {@code pos}, the nested objects and arrays are decoded as {@code Map} and {@code List}.
+   */
+  @SuppressWarnings("unchecked")
+  static Map<String, Object> decodeObject(Buffer buffer, int pos) {
+    return (Map<String, Object>) new Decoder(buffer, pos).decode(OBJECT);
+  }
+
+  /**
+   * Decode the JSON array at {@code pos}, the nested objects and arrays are decoded as {@code Map} and {@code List}.
+   */
+  @SuppressWarnings("unchecked")
+  static List<Object> decodeArray(Buffer buffer, int pos) {
+    return (List<Object>) new Decoder(buffer, pos).decode(ARRAY);
+  }
+
+  private static class Encoder {
+
+    private final Buffer buffer;
+    private Map<String, Integer> names;
+
+    Encoder(Buffer buffer) {
+      this.buffer = buffer;
+    }
+
+    void encodeValue(Object value) {
+      if (value instanceof JsonObject) {
+        value = ((JsonObject) value).getMap();
+      } else if (value instanceof JsonArray) {
+        value = ((JsonArray) value).getList();
+      }
+      if (value == null) {
+        buffer.appendByte(NULL);
+      } else if (value instanceof String) {
+        buffer.appendByte(STRING);
+        writeString((String) value);
+      } else if (value instanceof Map) {
+        Map<?, ?> map = (Map<?, ?>) value;
+        buffer.appendByte(OBJECT);
+        writeVarint(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+          writeName(String.valueOf(entry.getKey()));
+          encodeValue(entry.getValue());
+        }
+      } else if (value instanceof List) {
+        List<?> list = (List<?>) value;
+        buffer.appendByte(ARRAY);
+        writeVarint(list.size());
+        for (Object item : list) {
+          encodeValue(item);
+        }
+      } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+        int i = ((Number) value).intValue();
+        buffer.appendByte(INT);
+        writeVarint((i << 1) ^ (i >> 31));
+      } else if (value instanceof Long) {
+        long l = (Long) value;
+        buffer.appendByte(LONG);
+        writeVarLong((l << 1) ^ (l >> 63));
+      } else if (value instanceof Double) {
+        buffer.appendByte(DOUBLE);
+        buffer.appendDouble((Double) value);
+      } else if (value instanceof Float) {
+        buffer.appendByte(FLOAT);
+        buffer.appendFloat((Float) value);
+      } else if (value instanceof Boolean) {
+        buffer.appendByte((Boolean) value ? TRUE : FALSE);
+      } else if (value instanceof BigInteger) {
+        byte[] bytes = ((BigInteger) value).toByteArray();
+        buffer.appendByte(BIG_INTEGER);
+        writeVarint(bytes.length);
+        buffer.appendBytes(bytes);
+      } else if (value instanceof CharSequence || value instanceof Character) {
+        buffer.appendByte(STRING);
+        writeString(value.toString());
+      } else if (value instanceof byte[]) {
+        buffer.appendByte(STRING);
+        writeString(Base64.getEncoder().encodeToString((byte[]) value));
+      } else if (value instanceof Instant) {
+        buffer.appendByte(STRING);
+        writeString(ISO_INSTANT.format((Instant) value));
+      } else {
+        buffer.appendByte(JSON_TEXT);
+        writeString(Json.encode(value));
+      }
+    }
+
+    private void writeName(String name) {
+      if (names == null) {
+        names = new HashMap<>();
+      }
+      Integer index = names.get(name);
+      if (index != null) {
+        // Reference to a previous occurrence, the low bit distinguishes it from a string length
+        writeVarint((index << 1) | 1);
+      } else {
+        names.put(name, names.size());
+        byte[] bytes = name.getBytes(CharsetUtil.UTF_8);
+        writeVarint(bytes.length << 1);
+        buffer.appendBytes(bytes);
+      }
+    }
+
+    private void writeString(String s) {
+      byte[] bytes = s.getBytes(CharsetUtil.UTF_8);
+      writeVarint(bytes.length);
+      buffer.appendBytes(bytes);
+    }
+
+    private void writeVarint(int value) {
+      while ((value & ~0x7F) != 0) {
+        buffer.appendByte((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      buffer.appendByte((byte) value);
+    }
+
+    private void writeVarLong(long value) {
+      while ((value & ~0x7FL) != 0) {
+        buffer.appendByte((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      buffer.appendByte((byte) value);
+    }
+  }
+
+  private static class Decoder {
+
+    private final ByteBuf buf;
+    private int pos;
+    private List<String> names;
+
+    Decoder(Buffer buffer, int pos) {
+      this.buf = buffer.getByteBuf();
+      this.pos = pos;
+    }
+
+    Object decode(byte expected) {
+      byte tag = buf.getByte(pos);
+      if (tag != expected && tag != NULL) {
+        throw new IllegalStateException("Invalid compact JSON tag " + tag);
+      }
+      return decodeValue();
+    }
+
+    private Object decodeValue() {
+      byte tag = buf.getByte(pos++);
+      switch (tag) {
+        case NULL:
+          return null;
+        case TRUE:
+          return Boolean.TRUE;
+        case FALSE:
+          return Boolean.FALSE;
+        case INT: {
+          int i = readVarint();
+          return (i >>> 1) ^ -(i & 1);
+        }
+        case LONG: {
+          long l = readVarLong();
+          return (l >>> 1) ^ -(l & 1);
+        }
+        case FLOAT: {
+          float f = buf.getFloat(pos);
+          pos += 4;
+          return f;
+        }
+        case DOUBLE: {
+          double d = buf.getDouble(pos);
+          pos += 8;
+          return d;
+        }
+        case STRING:
+          return readString(readVarint());
+        case OBJECT: {
+          int size = readVarint();
+          Map<String, Object> map = new LinkedHashMap<>(size < 12 ? 16 : size * 4 / 3 + 1);
+          for (int i = 0;i < size;i++) {
+            String name = readName();
+            map.put(name, decodeValue());
+          }
+          return map;
+        }
+        case ARRAY: {
+          int size = readVarint();
+          List<Object> list = new ArrayList<>(size);
+          for (int i = 0;i < size;i++) {
+            list.add(decodeValue());
+          }
+          return list;
+        }
+        case BIG_INTEGER: {
+          byte[] bytes = new byte[readVarint()];
+          buf.getBytes(pos, bytes);
+          pos += bytes.length;
+          return new BigInteger(bytes);
+        }
+        case JSON_TEXT:
+          return Json.decodeValue(readString(readVarint()), Object.class);
+        default:
+          throw new IllegalStateException("Invalid compact JSON tag " + tag);
+      }
+    }
+
+    private String readName() {
+      if (names == null) {
+        names = new ArrayList<>();
+      }
+      int header = readVarint();
+      if ((header & 1) != 0) {
+        return names.get(header >>> 1);
+      }
+      String name = readString(header >>> 1);
+      names.add(name);
+      return name;
+    }
+
+    private String readString(int len) {
+      String s = buf.toString(pos, len, CharsetUtil.UTF_8);
+      pos += len;
+      return s;
+    }
+
+    private int readVarint() {
+      int value = 0;
+      for (int shift = 0;;shift += 7) {
+        byte b = buf.getByte(pos++);
+        value |= (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+    }
+
+    private long readVarLong() {
+      long value = 0;
+      for (int shift = 0;;shift += 7) {
+        byte b = buf.getByte(pos++);
+        value |= (long) (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+    }
+  }
+}
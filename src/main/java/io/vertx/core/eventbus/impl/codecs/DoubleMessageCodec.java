@@ -24,6 +24,11 @@ public class DoubleMessageCodec implements MessageCodec<Double, Double> {
     buffer.appendDouble(d);
   }
 
+  @Override
+  public int encodedSizeHint(Double d) {
+    return 8;
+  }
+
   @Override
   public Double decodeFromWire(int pos, Buffer buffer) {
     return buffer.getDouble(pos);
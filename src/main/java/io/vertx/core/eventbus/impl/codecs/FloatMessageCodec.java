@@ -24,6 +24,11 @@ public class FloatMessageCodec implements MessageCodec<Float, Float> {
     buffer.appendFloat(f);
   }
 
+  @Override
+  public int encodedSizeHint(Float f) {
+    return 4;
+  }
+
   @Override
   public Float decodeFromWire(int pos, Buffer buffer) {
     return buffer.getFloat(pos);
@@ -24,6 +24,11 @@ public class IntMessageCodec implements MessageCodec<Integer, Integer> {
     buffer.appendInt(i);
   }
 
+  @Override
+  public int encodedSizeHint(Integer i) {
+    return 4;
+  }
+
   @Override
   public Integer decodeFromWire(int pos, Buffer buffer) {
     return buffer.getInt(pos);
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.codecs;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Encodes a {@link JsonArray} with the {@link CompactJson} binary encoding instead of the JSON text.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class JsonArrayCompactMessageCodec implements MessageCodec<JsonArray, JsonArray> {
+
+  public static final String NAME = "jsonarray-compact";
+
+  @Override
+  public void encodeToWire(Buffer buffer, JsonArray jsonArray) {
+    CompactJson.encode(jsonArray, buffer);
+  }
+
+  @Override
+  public JsonArray decodeFromWire(int pos, Buffer buffer) {
+    return new JsonArray(CompactJson.decodeArray(buffer, pos));
+  }
+
+  @Override
+  public JsonArray transform(JsonArray jsonArray) {
+    // An immutable array can be shared by the consumers
+    return jsonArray.isImmutable() ? jsonArray : jsonArray.copy();
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return 17;
+  }
+}
@@ -22,9 +22,8 @@ public class JsonArrayMessageCodec implements MessageCodec<JsonArray, JsonArray>
 
   @Override
   public void encodeToWire(Buffer buffer, JsonArray jsonArray) {
-    Buffer encoded = jsonArray.toBuffer();
-    buffer.appendInt(encoded.length());
-    buffer.appendBuffer(encoded);
+    // Same format as the cluster serialization, encoded in place
+    jsonArray.writeToBuffer(buffer);
   }
 
   @Override
@@ -36,7 +35,8 @@ public class JsonArrayMessageCodec implements MessageCodec<JsonArray, JsonArray>
 
   @Override
   public JsonArray transform(JsonArray jsonArray) {
-    return jsonArray.copy();
+    // An immutable array can be shared by the consumers
+    return jsonArray.isImmutable() ? jsonArray : jsonArray.copy();
   }
 
   @Override
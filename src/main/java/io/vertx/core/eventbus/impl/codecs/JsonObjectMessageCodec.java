@@ -22,9 +22,8 @@ public class JsonObjectMessageCodec implements MessageCodec<JsonObject, JsonObje
 
   @Override
   public void encodeToWire(Buffer buffer, JsonObject jsonObject) {
-    Buffer encoded = jsonObject.toBuffer();
-    buffer.appendInt(encoded.length());
-    buffer.appendBuffer(encoded);
+    // Same format as the cluster serialization, encoded in place
+    jsonObject.writeToBuffer(buffer);
   }
 
   @Override
@@ -36,7 +35,8 @@ public class JsonObjectMessageCodec implements MessageCodec<JsonObject, JsonObje
 
   @Override
   public JsonObject transform(JsonObject jsonObject) {
-    return jsonObject.copy();
+    // An immutable object can be shared by the consumers
+    return jsonObject.isImmutable() ? jsonObject : jsonObject.copy();
   }
 
   @Override
@@ -24,6 +24,11 @@ public class LongMessageCodec implements MessageCodec<Long, Long> {
     buffer.appendLong(l);
   }
 
+  @Override
+  public int encodedSizeHint(Long l) {
+    return 8;
+  }
+
   @Override
   public Long decodeFromWire(int pos, Buffer buffer) {
     return buffer.getLong(pos);
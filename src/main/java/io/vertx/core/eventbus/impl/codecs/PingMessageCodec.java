@@ -23,6 +23,11 @@ public class PingMessageCodec implements MessageCodec<String, String> {
   public void encodeToWire(Buffer buffer, String s) {
   }
 
+  @Override
+  public int encodedSizeHint(String s) {
+    return 0;
+  }
+
   @Override
   public String decodeFromWire(int pos, Buffer buffer) {
     return null;
@@ -36,6 +36,12 @@ public class ReplyExceptionMessageCodec implements MessageCodec<ReplyException,
     }
   }
 
+  @Override
+  public int encodedSizeHint(ReplyException body) {
+    String message = body.getMessage();
+    return message == null ? 6 : 10 + message.length();
+  }
+
   @Override
   public ReplyException decodeFromWire(int pos, Buffer buffer) {
     int i = (int) buffer.getByte(pos);
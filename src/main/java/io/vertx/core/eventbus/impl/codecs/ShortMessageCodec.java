@@ -24,6 +24,11 @@ public class ShortMessageCodec implements MessageCodec<Short, Short> {
     buffer.appendShort(s);
   }
 
+  @Override
+  public int encodedSizeHint(Short s) {
+    return 2;
+  }
+
   @Override
   public Short decodeFromWire(int pos, Buffer buffer) {
     return buffer.getShort(pos);
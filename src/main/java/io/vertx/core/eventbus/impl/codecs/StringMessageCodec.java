@@ -27,6 +27,11 @@ public class StringMessageCodec implements MessageCodec<String, String> {
     buffer.appendBytes(strBytes);
   }
 
+  @Override
+  public int encodedSizeHint(String s) {
+    return 4 + s.length();
+  }
+
   @Override
   public String decodeFromWire(int pos, Buffer buffer) {
     int length = buffer.getInt(pos);
@@ -481,6 +481,25 @@ public interface FileSystem {
    */
   Buffer readFileBlocking(String path) ;
 
+  /**
+   * Maps the entire file as represented by the path {@code path} in memory and provides it as a read-only
+   * {@link Buffer}, asynchronously.
+   * <p>
+   * The buffer is a view over the mapping, the file content is not copied and is loaded lazily by the operating system
+   * as the buffer is read. This is suited to large read-mostly files, the file size cannot exceed {@code 2GB}.
+   *
+   * @param path  path to the file
+   * @param handler  the handler that will be called on completion
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  FileSystem mapFile(String path, Handler<AsyncResult<Buffer>> handler);
+
+  /**
+   * Blocking version of {@link #mapFile(String, Handler)}
+   */
+  Buffer mapFileBlocking(String path) ;
+
   /**
    * Creates the file, and writes the specified {@code Buffer data} to the file represented by the path {@code path},
    * asynchronously.
@@ -38,6 +38,21 @@ public class OpenOptions {
    */
   public static final boolean DEFAULT_APPEND = false;
 
+  /**
+   * Whether the file is memory-mapped for reading by default = false
+   */
+  public static final boolean DEFAULT_MAPPED = false;
+
+  /**
+   * The default maximum number of bytes of sequential writes coalesced in a single file write = 0 (no coalescing)
+   */
+  public static final int DEFAULT_WRITE_BATCH_MAX_BYTES = 0;
+
+  /**
+   * The default maximum delay in milliseconds before coalesced writes are written to the file = 0 (no delay)
+   */
+  public static final long DEFAULT_WRITE_BATCH_MAX_DELAY = 0;
+
   private String perms = DEFAULT_PERMS;
   private boolean read = DEFAULT_READ;
   private boolean write = DEFAULT_WRITE;
@@ -49,6 +64,9 @@ public class OpenOptions {
   private boolean truncateExisting = DEFAULT_TRUNCATEEXISTING;
   private boolean sparse = DEFAULT_SPARSE;
   private boolean append = DEFAULT_APPEND;
+  private boolean mapped = DEFAULT_MAPPED;
+  private int writeBatchMaxBytes = DEFAULT_WRITE_BATCH_MAX_BYTES;
+  private long writeBatchMaxDelay = DEFAULT_WRITE_BATCH_MAX_DELAY;
 
   /**
    * Default constructor
@@ -74,6 +92,9 @@ public class OpenOptions {
     this.truncateExisting = other.truncateExisting;
     this.sparse = other.sparse;
     this.append = other.append;
+    this.mapped = other.mapped;
+    this.writeBatchMaxBytes = other.writeBatchMaxBytes;
+    this.writeBatchMaxDelay = other.writeBatchMaxDelay;
   }
 
   /**
@@ -300,4 +321,75 @@ public class OpenOptions {
     this.append = append;
     return this;
   }
+
+  /**
+   * @return true if the file is memory-mapped for reading, false otherwise
+   */
+  public boolean isMapped() {
+    return mapped;
+  }
+
+  /**
+   * Set whether the file is memory-mapped for reading. Defaults to {@code false}.
+   * <p>
+   * When mapped, the buffers delivered by the {@link AsyncFile} read stream are read-only slices of the mapping
+   * instead of copies of the file content. The file must be opened read-only, i.e with {@link #setWrite} set to
+   * {@code false}, and its size cannot exceed {@code 2GB}.
+   *
+   * @param mapped true to memory-map the file, false otherwise
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setMapped(boolean mapped) {
+    this.mapped = mapped;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of bytes of sequential writes coalesced in a single file write
+   */
+  public int getWriteBatchMaxBytes() {
+    return writeBatchMaxBytes;
+  }
+
+  /**
+   * Set the maximum number of bytes of sequential writes coalesced in a single file write.
+   * <p>
+   * When greater than {@code 0}, the buffers written with {@link AsyncFile#write(io.vertx.core.buffer.Buffer)} are
+   * accumulated and written to the file in a single operation as soon as they reach this size or when the batch delay
+   * elapses. Defaults to {@code 0} which writes each buffer individually.
+   *
+   * @param writeBatchMaxBytes the maximum batch size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setWriteBatchMaxBytes(int writeBatchMaxBytes) {
+    if (writeBatchMaxBytes < 0) {
+      throw new IllegalArgumentException("writeBatchMaxBytes must be >= 0");
+    }
+    this.writeBatchMaxBytes = writeBatchMaxBytes;
+    return this;
+  }
+
+  /**
+   * @return the maximum delay in milliseconds before coalesced writes are written to the file
+   */
+  public long getWriteBatchMaxDelay() {
+    return writeBatchMaxDelay;
+  }
+
+  /**
+   * Set the maximum delay in milliseconds before coalesced writes are written to the file.
+   * <p>
+   * The default value is {@code 0} which means a batch contains the buffers written during the current event loop
+   * task. A positive value trades latency for larger batches.
+   *
+   * @param writeBatchMaxDelay the maximum delay in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenOptions setWriteBatchMaxDelay(long writeBatchMaxDelay) {
+    if (writeBatchMaxDelay < 0) {
+      throw new IllegalArgumentException("writeBatchMaxDelay must be >= 0");
+    }
+    this.writeBatchMaxDelay = writeBatchMaxDelay;
+    return this;
+  }
 }
@@ -12,6 +12,7 @@
 package io.vertx.core.file.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -58,6 +59,7 @@ public class AsyncFileImpl implements AsyncFile {
 
   private final VertxInternal vertx;
   private final AsynchronousFileChannel ch;
+  private final ByteBuf mapping;
   private final ContextInternal context;
   private boolean closed;
   private Runnable closedDeferred;
@@ -71,11 +73,19 @@ public class AsyncFileImpl implements AsyncFile {
   private Queue<Buffer> queue;
   private Handler<Void> endHandler;
   private long readPos;
+  private final int writeBatchMaxBytes;
+  private final long writeBatchMaxDelay;
+  private Buffer writeBatch;
+  private long writeBatchPos;
+  private boolean writeBatchScheduled;
 
   AsyncFileImpl(VertxInternal vertx, String path, OpenOptions options, ContextInternal context) {
     if (!options.isRead() && !options.isWrite()) {
       throw new FileSystemException("Cannot open file for neither reading nor writing");
     }
+    if (options.isMapped() && options.isWrite()) {
+      throw new FileSystemException("Cannot map a file opened for writing");
+    }
     this.vertx = vertx;
     Path file = Paths.get(path);
     HashSet<OpenOption> opts = new HashSet<>();
@@ -88,6 +98,8 @@ public class AsyncFileImpl implements AsyncFile {
     if (options.isDeleteOnClose()) opts.add(StandardOpenOption.DELETE_ON_CLOSE);
     if (options.isSparse()) opts.add(StandardOpenOption.SPARSE);
     if (options.isTruncateExisting()) opts.add(StandardOpenOption.TRUNCATE_EXISTING);
+    // Map before opening the channel so a failure does not leak it
+    mapping = options.isMapped() ? Unpooled.wrappedBuffer(FileSystemImpl.map(file)).asReadOnly() : null;
     try {
       if (options.getPerms() != null) {
         FileAttribute<?> attrs = PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(options.getPerms()));
@@ -101,6 +113,8 @@ public class AsyncFileImpl implements AsyncFile {
     }
     this.context = context;
     this.queue = Queue.queue(context, 0);
+    this.writeBatchMaxBytes = options.getWriteBatchMaxBytes();
+    this.writeBatchMaxDelay = options.getWriteBatchMaxDelay();
 
     queue.writableHandler(v -> {
       doRead();
@@ -130,6 +144,10 @@ public class AsyncFileImpl implements AsyncFile {
     Arguments.require(position >= 0, "position must be >= 0");
     Arguments.require(length >= 0, "length must be >= 0");
     check();
+    if (mapping != null) {
+      doMappedRead(buffer, offset, position, length, handler);
+      return this;
+    }
     ByteBuffer bb = ByteBuffer.allocate(length);
     doRead(buffer, offset, bb, position, handler);
     return this;
@@ -151,7 +169,21 @@ public class AsyncFileImpl implements AsyncFile {
     Objects.requireNonNull(buffer, "buffer");
     Arguments.require(position >= 0, "position must be >= 0");
     check();
-    Handler<AsyncResult<Void>> wrapped = ar -> {
+    // Positional writes must not overtake the sequential writes already accumulated
+    flushWriteBatch();
+    Handler<AsyncResult<Void>> wrapped = wrapWriteHandler(handler);
+    ByteBuf buf = buffer.getByteBuf();
+    if (buf.nioBufferCount() > 1) {
+      doWrite(buf.nioBuffers(), position, wrapped);
+    } else {
+      ByteBuffer bb = buf.nioBuffer();
+      doWrite(bb, position, bb.limit(),  wrapped);
+    }
+    return this;
+  }
+
+  private Handler<AsyncResult<Void>> wrapWriteHandler(Handler<AsyncResult<Void>> handler) {
+    return ar -> {
       if (ar.succeeded()) {
         checkContext();
         Runnable action;
@@ -174,24 +206,69 @@ public class AsyncFileImpl implements AsyncFile {
         }
       }
     };
-    ByteBuf buf = buffer.getByteBuf();
-    if (buf.nioBufferCount() > 1) {
-      doWrite(buf.nioBuffers(), position, wrapped);
-    } else {
-      ByteBuffer bb = buf.nioBuffer();
-      doWrite(bb, position, bb.limit(),  wrapped);
-    }
-    return this;
   }
 
   @Override
   public synchronized AsyncFile write(Buffer buffer) {
     int length = buffer.length();
-    doWrite(buffer, writePos, null);
+    if (writeBatchMaxBytes > 0 && length > 0) {
+      batchWrite(buffer);
+    } else {
+      doWrite(buffer, writePos, null);
+    }
     writePos += length;
     return this;
   }
 
+  /**
+   * Accumulate a sequential write in the current batch, the batch is written with a single file write when it
+   * reaches {@link #writeBatchMaxBytes} or when the batch delay elapses.
+   */
+  private void batchWrite(Buffer buffer) {
+    check();
+    if (writeBatch != null && writeBatchPos + writeBatch.length() != writePos) {
+      // The write position was changed
+      flushWriteBatch();
+    }
+    int length = buffer.length();
+    if (writeBatch == null && length >= writeBatchMaxBytes) {
+      // Nothing to coalesce with
+      doWrite(buffer, writePos, null);
+      return;
+    }
+    if (writeBatch == null) {
+      writeBatch = Buffer.buffer(Math.min(writeBatchMaxBytes, DEFAULT_READ_BUFFER_SIZE));
+      writeBatchPos = writePos;
+    }
+    writeBatch.appendBuffer(buffer);
+    // Account the batched bytes so writeQueueFull() reflects them
+    writesOutstanding += length;
+    if (writeBatch.length() >= writeBatchMaxBytes) {
+      flushWriteBatch();
+    } else if (!writeBatchScheduled) {
+      writeBatchScheduled = true;
+      if (writeBatchMaxDelay > 0) {
+        vertx.setTimer(writeBatchMaxDelay, id -> onWriteBatchTimeout());
+      } else {
+        context.runOnContext(v -> onWriteBatchTimeout());
+      }
+    }
+  }
+
+  private synchronized void onWriteBatchTimeout() {
+    writeBatchScheduled = false;
+    flushWriteBatch();
+  }
+
+  private synchronized void flushWriteBatch() {
+    Buffer batch = writeBatch;
+    if (batch != null) {
+      writeBatch = null;
+      // The batched bytes are already accounted in writesOutstanding
+      writeInternal(batch.getByteBuf().nioBuffer(), writeBatchPos, wrapWriteHandler(null));
+    }
+  }
+
   @Override
   public synchronized AsyncFile setWriteQueueMaxSize(int maxSize) {
     Arguments.require(maxSize >= 2, "maxSize must be >= 2");
@@ -329,6 +406,10 @@ public class AsyncFileImpl implements AsyncFile {
   }
 
   private synchronized void doRead() {
+    if (mapping != null) {
+      doMappedRead();
+      return;
+    }
     Buffer buff = Buffer.buffer(readBufferSize);
     read(buff, 0, readPos, readBufferSize, ar -> {
       if (ar.succeeded()) {
@@ -348,6 +429,37 @@ public class AsyncFileImpl implements AsyncFile {
     });
   }
 
+  private void doMappedRead() {
+    context.runOnContext(v -> {
+      int length = mappedLength(readPos, readBufferSize);
+      if (length == 0) {
+        // End of file
+        handleEnd();
+      } else {
+        // Slice the mapping, the content is not copied
+        Buffer buffer = Buffer.buffer(mapping.slice((int) readPos, length));
+        readPos += length;
+        if (queue.add(buffer)) {
+          doMappedRead();
+        }
+      }
+    });
+  }
+
+  private void doMappedRead(Buffer writeBuff, int offset, long position, int length, Handler<AsyncResult<Buffer>> handler) {
+    context.runOnContext(v -> {
+      int len = mappedLength(position, length);
+      if (len > 0) {
+        writeBuff.setBytes(offset, mapping.nioBuffer((int) position, len));
+      }
+      handler.handle(Future.succeededFuture(writeBuff));
+    });
+  }
+
+  private int mappedLength(long position, int length) {
+    return (int) Math.max(0, Math.min(length, mapping.capacity() - position));
+  }
+
   private synchronized void handleEnd() {
     queue.handler(null);
     if (endHandler != null) {
@@ -359,6 +471,7 @@ public class AsyncFileImpl implements AsyncFile {
 
   private synchronized void doFlush(Handler<AsyncResult<Void>> handler) {
     checkClosed();
+    flushWriteBatch();
     context.executeBlockingInternal((Future<Void> fut) -> {
       try {
         ch.force(false);
@@ -480,6 +593,8 @@ public class AsyncFileImpl implements AsyncFile {
   private synchronized void closeInternal(Handler<AsyncResult<Void>> handler) {
     check();
 
+    flushWriteBatch();
+
     closed = true;
 
     if (writesOutstanding == 0) {
@@ -19,13 +19,20 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.Enumeration;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -43,6 +50,11 @@ import static io.vertx.core.net.impl.URIDecoder.*;
  *
  * There is one cache dir per Vert.x instance and they are deleted on Vert.x shutdown.
  *
+ * Resolution does not hold a global lock: concurrent resolutions of the same resource wait for a single unpack
+ * and files are copied to a temporary file first and then moved to the cache so they are never observed partially
+ * written. When caching is enabled, the names not found on the classpath are remembered so repeated lookups of
+ * missing resources do not hit the class loader.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  * @author <a href="https://github.com/rworsnop/">Rob Worsnop</a>
  */
@@ -59,12 +71,15 @@ public class FileResolver {
   private static final String CACHE_DIR_BASE = System.getProperty(CACHE_DIR_BASE_PROP_NAME, DEFAULT_CACHE_DIR_BASE);
   private static final String JAR_URL_SEP = "!/";
   private static final Pattern JAR_URL_SEP_PATTERN = Pattern.compile(JAR_URL_SEP);
+  private static final int MAX_MISSING_ENTRIES = 1024;
 
   private final File cwd;
   private File cacheDir;
   private Thread shutdownHook;
   private final boolean enableCaching;
   private final boolean enableCpResolving;
+  private final ConcurrentMap<String, CompletableFuture<File>> unpacking = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ClassLoader> missing = new ConcurrentHashMap<>();
 
   public FileResolver() {
     this(new FileSystemOptions());
@@ -92,6 +107,7 @@ public class FileResolver {
    * Close this file resolver, this is a blocking operation.
    */
   public void close() throws IOException {
+    missing.clear();
     deleteCacheDir();
     synchronized (this) {
       if (shutdownHook != null) {
@@ -113,42 +129,72 @@ public class FileResolver {
     if (!this.enableCpResolving) {
       return file;
     }
-    // We need to synchronized here to avoid 2 different threads to copy the file to the cache directory and so
-    // corrupting the content.
-    synchronized (this) {
-      if (!file.exists()) {
-        // Look for it in local file cache
-        File cacheFile = new File(cacheDir, fileName);
-        if (this.enableCaching && cacheFile.exists()) {
-          return cacheFile;
-        }
-        // Look for file on classpath
-        ClassLoader cl = getClassLoader();
-        if (NON_UNIX_FILE_SEP) {
-          fileName = fileName.replace(FILE_SEP, "/");
-        }
+    if (!file.exists()) {
+      // Look for it in local file cache
+      File cacheFile = new File(cacheDir, fileName);
+      if (this.enableCaching && cacheFile.exists()) {
+        return cacheFile;
+      }
+      // Look for file on classpath
+      ClassLoader cl = getClassLoader();
+      String resourceName = NON_UNIX_FILE_SEP ? fileName.replace(FILE_SEP, "/") : fileName;
+      if (this.enableCaching && missing.get(resourceName) == cl) {
+        return file;
+      }
 
-        //https://github.com/eclipse/vert.x/issues/2126
-        //Cache all elements in the parent directory if it exists
-        //this is so that listing the directory after an individual file has
-        //been read works.
-        String parentFileName = file.getParent();
-        if (parentFileName != null) {
-          URL directoryContents = cl.getResource(parentFileName);
-          if (directoryContents != null) {
-            unpackUrlResource(directoryContents, parentFileName, cl, true);
-          }
+      //https://github.com/eclipse/vert.x/issues/2126
+      //Cache all elements in the parent directory if it exists
+      //this is so that listing the directory after an individual file has
+      //been read works.
+      String parentFileName = file.getParent();
+      if (parentFileName != null) {
+        URL directoryContents = cl.getResource(parentFileName);
+        if (directoryContents != null) {
+          unpackOnce(parentFileName, () -> unpackUrlResource(directoryContents, parentFileName, cl, true));
         }
+      }
 
-        URL url = cl.getResource(fileName);
-        if (url != null) {
-          return unpackUrlResource(url, fileName, cl, false);
+      URL url = cl.getResource(resourceName);
+      if (url != null) {
+        return unpackOnce(resourceName, () -> unpackUrlResource(url, resourceName, cl, false));
+      }
+      if (this.enableCaching) {
+        if (missing.size() >= MAX_MISSING_ENTRIES) {
+          missing.clear();
         }
+        missing.put(resourceName, cl);
       }
     }
     return file;
   }
 
+  /**
+   * Run the unpack of a resource, a concurrent unpack of the same resource waits for the result of the first one
+   * instead of copying the same files again.
+   */
+  private File unpackOnce(String resourceName, Supplier<File> action) {
+    CompletableFuture<File> fut = new CompletableFuture<>();
+    CompletableFuture<File> current = unpacking.putIfAbsent(resourceName, fut);
+    if (current != null) {
+      try {
+        return current.join();
+      } catch (CompletionException e) {
+        Throwable cause = e.getCause();
+        throw cause instanceof RuntimeException ? (RuntimeException) cause : new VertxException(cause);
+      }
+    }
+    try {
+      File file = action.get();
+      fut.complete(file);
+      return file;
+    } catch (RuntimeException e) {
+      fut.completeExceptionally(e);
+      throw e;
+    } finally {
+      unpacking.remove(resourceName, fut);
+    }
+  }
+
   private File unpackUrlResource(URL url, String fileName, ClassLoader cl, boolean isDir) {
     String prot = url.getProtocol();
     switch (prot) {
@@ -167,19 +213,14 @@ public class FileResolver {
   }
 
 
-  private synchronized File unpackFromFileURL(URL url, String fileName, ClassLoader cl) {
+  private File unpackFromFileURL(URL url, String fileName, ClassLoader cl) {
     final File resource = new File(decodeURIComponent(url.getPath(), false));
     boolean isDirectory = resource.isDirectory();
     File cacheFile = new File(cacheDir, fileName);
     if (!isDirectory) {
       cacheFile.getParentFile().mkdirs();
-      try {
-        if (this.enableCaching) {
-          Files.copy(resource.toPath(), cacheFile.toPath());
-        } else {
-          Files.copy(resource.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-        }
-      } catch (FileAlreadyExistsException ignore) {
+      try (InputStream is = Files.newInputStream(resource.toPath())) {
+        copyToCache(is, cacheFile);
       } catch (IOException e) {
         throw new VertxException(e);
       }
@@ -195,7 +236,7 @@ public class FileResolver {
     return cacheFile;
   }
 
-  private synchronized File unpackFromJarURL(URL url, String fileName, ClassLoader cl) {
+  private File unpackFromJarURL(URL url, String fileName, ClassLoader cl) {
     ZipFile zip = null;
     try {
       String path = url.getPath();
@@ -236,12 +277,7 @@ public class FileResolver {
           } else {
             file.getParentFile().mkdirs();
             try (InputStream is = zip.getInputStream(entry)) {
-              if (this.enableCaching) {
-                Files.copy(is, file.toPath());
-              } else {
-                Files.copy(is, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
-              }
-            } catch (FileAlreadyExistsException ignore) {
+              copyToCache(is, file);
             }
           }
         }
@@ -255,6 +291,33 @@ public class FileResolver {
     return new File(cacheDir, fileName);
   }
 
+  /**
+   * Copy a resource to the cache, the content is written to a temporary file first and then moved to the cache so
+   * a concurrent resolution never observes a partially written file.
+   *
+   * @param is the resource content
+   * @param file the cache file
+   */
+  private void copyToCache(InputStream is, File file) throws IOException {
+    if (this.enableCaching && file.exists()) {
+      return;
+    }
+    Path target = file.toPath();
+    Path tmp = Files.createTempFile(cacheDir.getAbsoluteFile().getParentFile().toPath(), "vertx-", ".tmp");
+    try {
+      Files.copy(is, tmp, StandardCopyOption.REPLACE_EXISTING);
+      try {
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (FileAlreadyExistsException ignore) {
+      // Moved concurrently by another resolution
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
   private void closeQuietly(Closeable zip) {
     if (zip != null) {
       try {
@@ -285,7 +348,7 @@ public class FileResolver {
    * @param url      the url
    * @return the extracted file
    */
-  private synchronized File unpackFromBundleURL(URL url, boolean isDir) {
+  private File unpackFromBundleURL(URL url, boolean isDir) {
     try {
       File file = new File(cacheDir, url.getHost() + File.separator + url.getFile());
       file.getParentFile().mkdirs();
@@ -295,12 +358,7 @@ public class FileResolver {
       } else {
         file.getParentFile().mkdirs();
         try (InputStream is = url.openStream()) {
-          if (this.enableCaching) {
-            Files.copy(is, file.toPath());
-          } else {
-            Files.copy(is, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
-          }
-        } catch (FileAlreadyExistsException ignore) {
+          copyToCache(is, file);
         }
       }
     } catch (IOException e) {
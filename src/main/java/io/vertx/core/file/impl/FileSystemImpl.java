@@ -11,6 +11,7 @@
 
 package io.vertx.core.file.impl;
 
+import io.netty.buffer.Unpooled;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -29,6 +30,8 @@ import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.CopyOption;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileStore;
@@ -40,6 +43,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.GroupPrincipal;
@@ -296,6 +300,15 @@ public class FileSystemImpl implements FileSystem {
     return readFileInternal(path, null).perform();
   }
 
+  public FileSystem mapFile(String path, Handler<AsyncResult<Buffer>> handler) {
+    mapFileInternal(path, handler).run();
+    return this;
+  }
+
+  public Buffer mapFileBlocking(String path) {
+    return mapFileInternal(path, null).perform();
+  }
+
   public FileSystem writeFile(String path, Buffer data, Handler<AsyncResult<Void>> handler) {
     writeFileInternal(path, data, handler).run();
     return this;
@@ -871,6 +884,31 @@ public class FileSystemImpl implements FileSystem {
     };
   }
 
+  private BlockingAction<Buffer> mapFileInternal(String path, Handler<AsyncResult<Buffer>> handler) {
+    Objects.requireNonNull(path);
+    return new BlockingAction<Buffer>(handler) {
+      public Buffer perform() {
+        Path target = vertx.resolveFile(path).toPath();
+        return Buffer.buffer(Unpooled.wrappedBuffer(map(target)).asReadOnly());
+      }
+    };
+  }
+
+  /**
+   * Map the whole file read-only, the mapping remains valid after the channel is closed.
+   */
+  static MappedByteBuffer map(Path target) {
+    try (FileChannel fc = FileChannel.open(target, StandardOpenOption.READ)) {
+      long size = fc.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new FileSystemException("Cannot map file larger than 2GB: " + target);
+      }
+      return fc.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    } catch (IOException e) {
+      throw new FileSystemException(e);
+    }
+  }
+
   private BlockingAction<Void> writeFileInternal(String path, Buffer data, Handler<AsyncResult<Void>> handler) {
     Objects.requireNonNull(path);
     Objects.requireNonNull(data);
@@ -193,6 +193,11 @@ public class HttpClientOptions extends ClientOptionsBase {
    */
   public static final int DEFAULT_POOL_CLEANER_PERIOD = 1000;
 
+  /**
+   * Default pool sharding = false
+   */
+  public static final boolean DEFAULT_POOL_SHARDING = false;
+
   private boolean verifyHost = true;
   private int maxPoolSize;
   private boolean keepAlive;
@@ -204,6 +209,7 @@ public class HttpClientOptions extends ClientOptionsBase {
   private int http2ConnectionWindowSize;
   private int http2KeepAliveTimeout;
   private int poolCleanerPeriod;
+  private boolean poolSharding;
 
   private boolean tryUseCompression;
   private int maxWebsocketFrameSize;
@@ -273,6 +279,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.forceSni = other.forceSni;
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
     this.poolCleanerPeriod = other.getPoolCleanerPeriod();
+    this.poolSharding = other.isPoolSharding();
     this.websocketTryUseDeflateFrame = other.websocketTryUseDeflateFrame;
     this.websocketTryUsePermessageDeflate = other.websocketTryUsePermessageDeflate;
     this.websocketAllowClientNoContext = other.websocketAllowClientNoContext;
@@ -336,6 +343,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     websocketAllowClientNoContext = DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_CLIENT_NO_CONTEXT;
     websocketRequestServerNoContext = DEFAULT_WEBSOCKET_COMPRESSION_REQUEST_SERVER_NO_CONTEXT;
     poolCleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
+    poolSharding = DEFAULT_POOL_SHARDING;
   }
 
   @Override
@@ -392,6 +400,12 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public HttpClientOptions setUsePooledInboundBuffers(boolean usePooledInboundBuffers) {
+    super.setUsePooledInboundBuffers(usePooledInboundBuffers);
+    return this;
+  }
+
   @Override
   public HttpClientOptions setIdleTimeout(int idleTimeout) {
     super.setIdleTimeout(idleTimeout);
@@ -1225,6 +1239,27 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return whether the connection pool of a host is sharded per event loop
+   */
+  public boolean isPoolSharding() {
+    return poolSharding;
+  }
+
+  /**
+   * Set whether the connection pool of a host is sharded per event loop. Requests issued from different event loops
+   * then acquire connections without contending on the same pool, the shards share the max pool size and an event
+   * loop lacking connections borrows the idle connections of the other event loops. The max wait queue size is
+   * divided between the shards.
+   *
+   * @param poolSharding true to shard the pool per event loop
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setPoolSharding(boolean poolSharding) {
+    this.poolSharding = poolSharding;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -1257,6 +1292,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     if (keepAliveTimeout != that.keepAliveTimeout) return false;
     if (http2KeepAliveTimeout != that.http2KeepAliveTimeout) return false;
     if (poolCleanerPeriod != that.poolCleanerPeriod) return false;
+    if (poolSharding != that.poolSharding) return false;
 
     if (websocketTryUseDeflateFrame != that.websocketTryUseDeflateFrame) return false;
     if (websocketTryUsePermessageDeflate != that.websocketTryUsePermessageDeflate) return false;
@@ -1294,6 +1330,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     result = 31 * result + keepAliveTimeout;
     result = 31 * result + http2KeepAliveTimeout;
     result = 31 * result + poolCleanerPeriod;
+    result = 31 * result + (poolSharding ? 1 : 0);
     result = 31 * result + (websocketTryUseDeflateFrame ? 1 : 0);
     result = 31 * result + (websocketTryUsePermessageDeflate ? 1 : 0);
     result = 31 * result + websocketCompressionLevel;
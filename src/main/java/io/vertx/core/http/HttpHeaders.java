@@ -14,7 +14,9 @@ package io.vertx.core.http;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.util.AsciiString;
+import io.vertx.core.MultiMap;
 import io.vertx.core.http.impl.HttpUtils;
+import io.vertx.core.http.impl.headers.VertxHttpHeaders;
 
 /**
  * Contains often used Header names.
@@ -338,6 +340,16 @@ public final class HttpHeaders {
     return new AsciiString(value);
   }
 
+  /**
+   * Create an immutable snapshot of {@code headers} encoded once for HTTP/1.x.
+   * This should be used for a set of headers sent with many responses, when the snapshot is added to the empty
+   * headers of a response with {@link MultiMap#addAll(MultiMap)} or {@link MultiMap#setAll(MultiMap)}, its encoded
+   * form is written at once unless one of its headers is modified.
+   */
+  public static MultiMap preEncoded(MultiMap headers) {
+    return VertxHttpHeaders.preEncoded(headers);
+  }
+
   private HttpHeaders() {
   }
 }
@@ -130,6 +130,36 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final boolean DEFAULT_WEBSOCKET_COMPRESSION_PREFERRED_CLIENT_NO_CONTEXT = false;
 
+  /**
+   * Default max number of files cached by {@link HttpServerResponse#sendFile} = 0 (no cache)
+   */
+  public static final int DEFAULT_FILE_CACHE_MAX_ENTRIES = 0;
+
+  /**
+   * Default max size of a file which content is cached in memory = 16384
+   */
+  public static final int DEFAULT_FILE_CACHE_MAX_CONTENT_SIZE = 16384;
+
+  /**
+   * Default interval in milliseconds between two checks that a cached file has not changed = 1000
+   */
+  public static final long DEFAULT_FILE_CACHE_CHECK_INTERVAL = 1000;
+
+  /**
+   * Default size of the chunks read from a file sent without zero-copy = 8192
+   */
+  public static final int DEFAULT_SEND_FILE_CHUNK_SIZE = 8192;
+
+  /**
+   * Default maximum size of a form attribute decoded from a request body = -1 (unlimited)
+   */
+  public static final int DEFAULT_MAX_FORM_ATTRIBUTE_SIZE = -1;
+
+  /**
+   * Default value of whether the server adds a {@code Date} header to the HTTP/1.x responses = false
+   */
+  public static final boolean DEFAULT_DATE_HEADER_ENABLED = false;
+
   private boolean compressionSupported;
   private int compressionLevel;
   private int maxWebsocketFrameSize;
@@ -150,6 +180,12 @@ public class HttpServerOptions extends NetServerOptions {
   private int websocketCompressionLevel;
   private boolean websocketCompressionAllowServerNoContext;
   private boolean websocketCompressionPreferredClientNoContext;
+  private int fileCacheMaxEntries;
+  private int fileCacheMaxContentSize;
+  private long fileCacheCheckInterval;
+  private int sendFileChunkSize;
+  private int maxFormAttributeSize;
+  private boolean dateHeaderEnabled;
 
   /**
    * Default constructor
@@ -187,6 +223,12 @@ public class HttpServerOptions extends NetServerOptions {
     this.websocketCompressionLevel = other.websocketCompressionLevel;
     this.websocketCompressionPreferredClientNoContext = other.websocketCompressionPreferredClientNoContext;
     this.websocketCompressionAllowServerNoContext = other.websocketCompressionAllowServerNoContext;
+    this.fileCacheMaxEntries = other.fileCacheMaxEntries;
+    this.fileCacheMaxContentSize = other.fileCacheMaxContentSize;
+    this.fileCacheCheckInterval = other.fileCacheCheckInterval;
+    this.sendFileChunkSize = other.sendFileChunkSize;
+    this.maxFormAttributeSize = other.maxFormAttributeSize;
+    this.dateHeaderEnabled = other.dateHeaderEnabled;
   }
 
   /**
@@ -232,6 +274,12 @@ public class HttpServerOptions extends NetServerOptions {
     websocketCompressionLevel = DEFAULT_WEBSOCKET_COMPRESSION_LEVEL;
     websocketCompressionPreferredClientNoContext = DEFAULT_WEBSOCKET_COMPRESSION_PREFERRED_CLIENT_NO_CONTEXT;
     websocketCompressionAllowServerNoContext = DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_SERVER_NO_CONTEXT;
+    fileCacheMaxEntries = DEFAULT_FILE_CACHE_MAX_ENTRIES;
+    fileCacheMaxContentSize = DEFAULT_FILE_CACHE_MAX_CONTENT_SIZE;
+    fileCacheCheckInterval = DEFAULT_FILE_CACHE_CHECK_INTERVAL;
+    sendFileChunkSize = DEFAULT_SEND_FILE_CHUNK_SIZE;
+    maxFormAttributeSize = DEFAULT_MAX_FORM_ATTRIBUTE_SIZE;
+    dateHeaderEnabled = DEFAULT_DATE_HEADER_ENABLED;
   }
 
   @Override
@@ -288,6 +336,12 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  @Override
+  public HttpServerOptions setUsePooledInboundBuffers(boolean usePooledInboundBuffers) {
+    super.setUsePooledInboundBuffers(usePooledInboundBuffers);
+    return this;
+  }
+
   @Override
   public HttpServerOptions setIdleTimeout(int idleTimeout) {
     super.setIdleTimeout(idleTimeout);
@@ -841,7 +895,129 @@ public class HttpServerOptions extends NetServerOptions {
   public boolean getWebsocketPreferredClientNoContext () {
 	  return this.websocketCompressionPreferredClientNoContext;
   }
-  
+
+  /**
+   * @return the max number of files cached by {@link HttpServerResponse#sendFile}
+   */
+  public int getFileCacheMaxEntries() {
+    return fileCacheMaxEntries;
+  }
+
+  /**
+   * Set the max number of files cached by {@link HttpServerResponse#sendFile}, the least recently sent files are
+   * evicted first. The cache keeps the resolved file and its metadata so sending the same file again does not
+   * resolve and stat it again. Defaults to {@code 0} which disables the cache.
+   *
+   * @param fileCacheMaxEntries the max number of cached files
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheMaxEntries(int fileCacheMaxEntries) {
+    Arguments.require(fileCacheMaxEntries >= 0, "fileCacheMaxEntries must be >= 0");
+    this.fileCacheMaxEntries = fileCacheMaxEntries;
+    return this;
+  }
+
+  /**
+   * @return the max size of a file which content is cached in memory
+   */
+  public int getFileCacheMaxContentSize() {
+    return fileCacheMaxContentSize;
+  }
+
+  /**
+   * Set the max size of a file which content is cached in memory when the file cache is enabled, larger files
+   * are sent from the file system. Set it to {@code 0} to cache only the file metadata.
+   *
+   * @param fileCacheMaxContentSize the max size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheMaxContentSize(int fileCacheMaxContentSize) {
+    Arguments.require(fileCacheMaxContentSize >= 0, "fileCacheMaxContentSize must be >= 0");
+    this.fileCacheMaxContentSize = fileCacheMaxContentSize;
+    return this;
+  }
+
+  /**
+   * @return the interval in milliseconds between two checks that a cached file has not changed
+   */
+  public long getFileCacheCheckInterval() {
+    return fileCacheCheckInterval;
+  }
+
+  /**
+   * Set the interval in milliseconds between two checks that a cached file has not changed, when the file
+   * last modified time or length changed the cached entry is reloaded.
+   *
+   * @param fileCacheCheckInterval the interval in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheCheckInterval(long fileCacheCheckInterval) {
+    Arguments.require(fileCacheCheckInterval >= 0, "fileCacheCheckInterval must be >= 0");
+    this.fileCacheCheckInterval = fileCacheCheckInterval;
+    return this;
+  }
+
+  /**
+   * @return the size of the chunks read from a file sent without zero-copy
+   */
+  public int getSendFileChunkSize() {
+    return sendFileChunkSize;
+  }
+
+  /**
+   * Set the size of the chunks read from a file sent by {@link HttpServerResponse#sendFile} when it cannot be sent
+   * with zero-copy, i.e when TLS or compression is used. The chunks are read in pooled direct buffers on a worker
+   * thread.
+   *
+   * @param sendFileChunkSize the chunk size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setSendFileChunkSize(int sendFileChunkSize) {
+    Arguments.require(sendFileChunkSize > 0, "sendFileChunkSize must be > 0");
+    this.sendFileChunkSize = sendFileChunkSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum size of a form attribute
+   */
+  public int getMaxFormAttributeSize() {
+    return maxFormAttributeSize;
+  }
+
+  /**
+   * Set the maximum size of a form attribute decoded from a HTTP/1.x request body when
+   * {@link HttpServerRequest#setExpectMultipart} is used, the request fails when an attribute is larger.
+   * Set to {@code -1} to allow an unlimited size, the default.
+   *
+   * @param maxFormAttributeSize the maximum size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setMaxFormAttributeSize(int maxFormAttributeSize) {
+    Arguments.require(maxFormAttributeSize >= -1, "maxFormAttributeSize must be >= -1");
+    this.maxFormAttributeSize = maxFormAttributeSize;
+    return this;
+  }
+
+  /**
+   * @return whether the server adds a {@code Date} header to the HTTP/1.x responses
+   */
+  public boolean isDateHeaderEnabled() {
+    return dateHeaderEnabled;
+  }
+
+  /**
+   * Set whether the server adds a {@code Date} header to the HTTP/1.x responses that don't have one, the value
+   * is formatted at most once per second by each event loop.
+   *
+   * @param dateHeaderEnabled {@code true} to add the header
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setDateHeaderEnabled(boolean dateHeaderEnabled) {
+    this.dateHeaderEnabled = dateHeaderEnabled;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -868,6 +1044,12 @@ public class HttpServerOptions extends NetServerOptions {
     if (websocketCompressionLevel != that.websocketCompressionLevel) return false;
     if (websocketCompressionAllowServerNoContext != that.websocketCompressionAllowServerNoContext) return false;
     if (websocketCompressionPreferredClientNoContext != that.websocketCompressionPreferredClientNoContext) return false;
+    if (fileCacheMaxEntries != that.fileCacheMaxEntries) return false;
+    if (fileCacheMaxContentSize != that.fileCacheMaxContentSize) return false;
+    if (fileCacheCheckInterval != that.fileCacheCheckInterval) return false;
+    if (sendFileChunkSize != that.sendFileChunkSize) return false;
+    if (maxFormAttributeSize != that.maxFormAttributeSize) return false;
+    if (dateHeaderEnabled != that.dateHeaderEnabled) return false;
 
     return !(websocketSubProtocols != null ? !websocketSubProtocols.equals(that.websocketSubProtocols) : that.websocketSubProtocols != null);
 
@@ -895,6 +1077,12 @@ public class HttpServerOptions extends NetServerOptions {
     result = 31 * result + websocketCompressionLevel;
     result = 31 * result + (websocketCompressionAllowServerNoContext ? 1 : 0);
     result = 31 * result + (websocketCompressionPreferredClientNoContext ? 1 : 0);
+    result = 31 * result + fileCacheMaxEntries;
+    result = 31 * result + fileCacheMaxContentSize;
+    result = 31 * result + (int) (fileCacheCheckInterval ^ (fileCacheCheckInterval >>> 32));
+    result = 31 * result + sendFileChunkSize;
+    result = 31 * result + maxFormAttributeSize;
+    result = 31 * result + (dateHeaderEnabled ? 1 : 0);
     return result;
   }
 }
@@ -18,6 +18,8 @@ import io.vertx.core.net.SocketAddress;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
 
+import java.util.List;
+
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
 import javax.security.cert.X509Certificate;
@@ -209,6 +211,17 @@ public interface WebSocketBase extends ReadStream<Buffer>, WriteStream<Buffer> {
   @Fluent
   WebSocketBase binaryMessageHandler(@Nullable Handler<Buffer> handler);
 
+  /**
+   * Set a batch handler on the connection. This handler serves a similar purpose to {@link #handler(Handler)}
+   * except that the data of the frames read together from the connection are delivered in a single call, in place of
+   * the {@link #handler(Handler)}. The batches respect the flow control of this stream.
+   *
+   * @param handler the handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketBase batchHandler(@Nullable Handler<List<Buffer>> handler);
+
   /**
    * Set a pong message handler on the connection.  This handler will be invoked every time a pong message is received
    * on the server, and can be used by both clients and servers since the RFC 6455 Sections 5.5.2 and 5.5.3 do not
@@ -12,11 +12,13 @@
 package io.vertx.core.http.impl;
 
 import io.netty.channel.Channel;
+import io.netty.util.concurrent.EventExecutor;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.http.impl.pool.Pool;
+import io.vertx.core.http.impl.pool.ShardedPool;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.spi.metrics.HttpClientMetrics;
 
@@ -27,6 +29,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * The connection manager associates remote hosts with pools, it also tracks all connections so they can be closed
  * when the manager is closed.
  *
+ * When pool sharding is enabled, each host pool is a {@link ShardedPool} with a shard owned by each event loop, the shard of a
+ * request is the shard of its context event loop.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 class ConnectionManager {
@@ -38,6 +43,8 @@ class ConnectionManager {
   private final Map<EndpointKey, Endpoint> endpointMap = new ConcurrentHashMap<>();
   private final HttpVersion version;
   private final long maxSize;
+  private final Map<EventExecutor, Integer> shardIndexes;
+  private final EventExecutor[] shardEventLoops;
   private long timerID;
 
   ConnectionManager(HttpClientImpl client,
@@ -50,6 +57,17 @@ class ConnectionManager {
     this.metrics = metrics;
     this.maxSize = maxSize;
     this.version = version;
+    if (client.getOptions().isPoolSharding()) {
+      shardIndexes = new IdentityHashMap<>();
+      for (EventExecutor eventLoop : client.getVertx().getEventLoopGroup()) {
+        shardIndexes.put(eventLoop, shardIndexes.size());
+      }
+      shardEventLoops = new EventExecutor[shardIndexes.size()];
+      shardIndexes.forEach((eventLoop, index) -> shardEventLoops[index] = eventLoop);
+    } else {
+      shardIndexes = null;
+      shardEventLoops = null;
+    }
   }
 
   synchronized void start() {
@@ -59,7 +77,7 @@ class ConnectionManager {
 
   private synchronized void checkExpired(long period) {
     long timestamp = System.currentTimeMillis();
-    endpointMap.values().forEach(e -> e.pool.closeIdle(timestamp));
+    endpointMap.values().forEach(e -> e.closeIdle(timestamp));
     timerID = client.getVertx().setTimer(period, id -> checkExpired(period));
   }
 
@@ -104,12 +122,37 @@ class ConnectionManager {
   class Endpoint {
 
     private final Pool<HttpClientConnection> pool;
+    private final ShardedPool<HttpClientConnection> shardedPool;
     private final Object metric;
 
     public Endpoint(Pool<HttpClientConnection> pool, Object metric) {
       this.pool = pool;
+      this.shardedPool = null;
       this.metric = metric;
     }
+
+    public Endpoint(ShardedPool<HttpClientConnection> shardedPool, Object metric) {
+      this.pool = null;
+      this.shardedPool = shardedPool;
+      this.metric = metric;
+    }
+
+    boolean getConnection(ContextInternal ctx, Handler<AsyncResult<HttpClientConnection>> handler) {
+      if (shardedPool != null) {
+        Integer index = shardIndexes.get(ctx.nettyEventLoop());
+        return shardedPool.getConnection(index != null ? index : 0, ctx, handler);
+      } else {
+        return pool.getConnection(ctx, handler);
+      }
+    }
+
+    void closeIdle(long timestamp) {
+      if (shardedPool != null) {
+        shardedPool.closeIdle(timestamp);
+      } else {
+        pool.closeIdle(timestamp);
+      }
+    }
   }
 
   void getConnection(ContextInternal ctx, String peerHost, boolean ssl, int port, String host, Handler<AsyncResult<HttpClientConnection>> handler) {
@@ -119,13 +162,19 @@ class ConnectionManager {
         int maxPoolSize = Math.max(client.getOptions().getMaxPoolSize(), client.getOptions().getHttp2MaxPoolSize());
         Object metric = metrics != null ? metrics.createEndpoint(host, port, maxPoolSize) : null;
         HttpChannelConnector connector = new HttpChannelConnector(client, metric, version, ssl, peerHost, host, port);
+        Handler<Void> poolClosed = v -> {
+          if (metrics != null) {
+            metrics.closeEndpoint(host, port, metric);
+          }
+          endpointMap.remove(key);
+        };
+        if (shardIndexes != null) {
+          ShardedPool<HttpClientConnection> shardedPool = new ShardedPool<>(connector, shardEventLoops,
+            maxWaitQueueSize, connector.weight(), maxSize, poolClosed, connectionMap::put, connectionMap::remove, false);
+          return new Endpoint(shardedPool, metric);
+        }
         Pool<HttpClientConnection> pool = new Pool<>(connector, maxWaitQueueSize, connector.weight(), maxSize,
-          v -> {
-            if (metrics != null) {
-              metrics.closeEndpoint(host, port, metric);
-            }
-            endpointMap.remove(key);
-          },
+          poolClosed,
           connectionMap::put,
           connectionMap::remove,
           false);
@@ -138,7 +187,7 @@ class ConnectionManager {
         metric = null;
       }
 
-      if (endpoint.pool.getConnection(ctx, ar -> {
+      if (endpoint.getConnection(ctx, ar -> {
         if (ar.succeeded()) {
 
           HttpClientConnection conn = ar.result();
@@ -27,6 +27,7 @@ import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageD
 import io.netty.util.ReferenceCountUtil;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.*;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpVersion;
@@ -45,7 +46,9 @@ import java.net.URI;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static io.vertx.core.http.HttpHeaders.*;
@@ -79,6 +82,7 @@ class Http1xClientConnection extends Http1xConnectionBase implements HttpClientC
 
   private StreamImpl requestInProgress;                          // The request being sent
   private StreamImpl responseInProgress;                         // The request waiting for a response
+  private Set<StreamImpl> queuedStreams;                         // The streams holding queued pooled buffers
 
   private boolean close;
   private boolean upgraded;
@@ -127,7 +131,7 @@ class Http1xClientConnection extends Http1xConnectionBase implements HttpClientC
 
     // connection was upgraded to raw TCP socket
     AtomicBoolean paused = new AtomicBoolean(false);
-    NetSocketImpl socket = new NetSocketImpl(vertx, chctx, context, client.getSslHelper(), metrics) {
+    NetSocketImpl socket = new NetSocketImpl(vertx, chctx, context, client.getSslHelper(), metrics, options.isUsePooledInboundBuffers()) {
       {
         super.pause();
       }
@@ -307,7 +311,22 @@ class Http1xClientConnection extends Http1xConnectionBase implements HttpClientC
     }
 
     private boolean handleChunk(Buffer buff) {
-      return queue.add(buff);
+      boolean writable = queue.add(buff);
+      if (conn.options.isUsePooledInboundBuffers() && !queue.isEmpty()) {
+        conn.queued(this);
+      }
+      return writable;
+    }
+
+    /**
+     * Release the pooled buffers still queued, called when the connection is closed.
+     */
+    void releaseQueued() {
+      queue.writableHandler(null);
+      queue.emptyHandler(null);
+      for (Buffer buffer : queue.pollAll()) {
+        ((BufferImpl) buffer).byteBuf().release();
+      }
     }
 
     @Override
@@ -451,8 +470,21 @@ class Http1xClientConnection extends Http1xConnectionBase implements HttpClientC
           }
         }
       }
-      queue.handler(buf -> response.handleChunk(buf));
+      if (conn.options.isUsePooledInboundBuffers()) {
+        queue.handler(buf -> {
+          try {
+            response.handleChunk(buf);
+          } finally {
+            ((BufferImpl) buf).byteBuf().release();
+          }
+        });
+      } else {
+        queue.handler(buf -> response.handleChunk(buf));
+      }
       queue.emptyHandler(v -> {
+        if (conn.options.isUsePooledInboundBuffers()) {
+          conn.dequeued(this);
+        }
         if (responseEnded) {
           response.handleEnd(trailers);
         }
@@ -575,7 +607,8 @@ class Http1xClientConnection extends Http1xConnectionBase implements HttpClientC
     } else if (obj instanceof HttpContent) {
       HttpContent chunk = (HttpContent) obj;
       if (chunk.content().isReadable()) {
-        Buffer buff = Buffer.buffer(VertxHttpHandler.safeBuffer(chunk.content(), chctx.alloc()));
+        ByteBuf byteBuf = chunk.content();
+        Buffer buff = Buffer.buffer(options.isUsePooledInboundBuffers() ? byteBuf : VertxHttpHandler.safeBuffer(byteBuf, chctx.alloc()));
         handleResponseChunk(buff);
       }
       if (chunk instanceof LastHttpContent) {
@@ -616,6 +649,8 @@ class Http1xClientConnection extends Http1xConnectionBase implements HttpClientC
       if (!resp.handleChunk(buff)) {
         doPause();
       }
+    } else if (options.isUsePooledInboundBuffers()) {
+      ((BufferImpl) buff).byteBuf().release();
     }
   }
 
@@ -830,13 +865,40 @@ class Http1xClientConnection extends Http1xConnectionBase implements HttpClientC
     }
   }
 
+  @Override
+  protected synchronized void handleReadComplete() {
+    if (ws != null) {
+      ws.handleReadComplete();
+    }
+  }
+
   synchronized void handleWsFrame(WebSocketFrameInternal frame) {
     if (ws != null) {
       ws.handleFrame(frame);
     }
   }
 
+  synchronized void queued(StreamImpl stream) {
+    if (queuedStreams == null) {
+      queuedStreams = new HashSet<>();
+    }
+    queuedStreams.add(stream);
+  }
+
+  synchronized void dequeued(StreamImpl stream) {
+    if (queuedStreams != null) {
+      queuedStreams.remove(stream);
+    }
+  }
+
   protected synchronized void handleClosed() {
+    if (queuedStreams != null) {
+      // The pooled buffers are released since the paused responses will not be resumed anymore
+      for (StreamImpl stream : queuedStreams) {
+        stream.releaseQueued();
+      }
+      queuedStreams = null;
+    }
     super.handleClosed();
     if (ws != null) {
       ws.handleClosed();
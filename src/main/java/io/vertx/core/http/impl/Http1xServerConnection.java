@@ -68,6 +68,11 @@ import static io.vertx.core.spi.metrics.Metrics.METRICS_ENABLED;
  * <p/>
  * When a request is received, it is also the current response if there is no response in progress, otherwise it is
  * queued and will become the response in progress when the current response in progress ends.
+ * <p/>
+ * The queued requests are handled in a single context task: when the response of a queued request ends while the
+ * task is handling it, the next queued request is handled by the same task and the responses are flushed together
+ * when the task ends. A task handles at most {@link #MAX_PIPELINED_BATCH} requests before letting the event loop
+ * run other tasks.
  *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
@@ -75,6 +80,8 @@ public class Http1xServerConnection extends Http1xConnectionBase implements Http
 
   private static final Logger log = LoggerFactory.getLogger(Http1xServerConnection.class);
 
+  static final int MAX_PIPELINED_BATCH = 16;
+
   private final String serverOrigin;
   private final SSLHelper sslHelper;
   private boolean requestFailed;
@@ -86,12 +93,17 @@ public class Http1xServerConnection extends Http1xConnectionBase implements Http
 
   private HttpServerRequestImpl requestInProgress;
   private HttpServerRequestImpl responseInProgress;
+  private HttpServerRequestImpl pipelined;
+  private boolean handlingPipelined;
+  // The requests holding queued pooled buffers
+  private Set<HttpServerRequestImpl> queuedRequests;
   private boolean channelPaused;
 
   final Handler<HttpServerRequest> requestHandler;
   final HttpServerMetrics metrics;
   final boolean handle100ContinueAutomatically;
   final HttpServerOptions options;
+  final SendFileCache fileCache;
 
   Http1xServerConnection(VertxInternal vertx,
                                 SSLHelper sslHelper,
@@ -100,13 +112,15 @@ public class Http1xServerConnection extends Http1xConnectionBase implements Http
                                 ContextInternal context,
                                 String serverOrigin,
                                 HttpHandlers handlers,
-                                HttpServerMetrics metrics) {
+                                HttpServerMetrics metrics,
+                                SendFileCache fileCache) {
     super(vertx, channel, context);
     this.requestHandler = requestHandler(handlers);
     this.serverOrigin = serverOrigin;
     this.options = options;
     this.sslHelper = sslHelper;
     this.metrics = metrics;
+    this.fileCache = fileCache;
     this.handle100ContinueAutomatically = options.isHandle100ContinueAutomatically();
     exceptionHandler(handlers.exceptionHandler);
   }
@@ -148,7 +162,8 @@ public class Http1xServerConnection extends Http1xConnectionBase implements Http
       handleError(content);
       return;
     }
-    Buffer buffer = Buffer.buffer(VertxHttpHandler.safeBuffer(content.content(), chctx.alloc()));
+    ByteBuf byteBuf = content.content();
+    Buffer buffer = Buffer.buffer(options.isUsePooledInboundBuffers() ? byteBuf : VertxHttpHandler.safeBuffer(byteBuf, chctx.alloc()));
     if (METRICS_ENABLED) {
       reportBytesRead(buffer);
     }
@@ -183,7 +198,42 @@ public class Http1xServerConnection extends Http1xConnectionBase implements Http
 
   private void handleNext(HttpServerRequestImpl request) {
     responseInProgress = request;
-    getContext().runOnContext(v -> responseInProgress.handlePipelined());
+    pipelined = request;
+    if (!handlingPipelined) {
+      handlingPipelined = true;
+      getContext().runOnContext(v -> handlePipelined());
+    }
+  }
+
+  private void handlePipelined() {
+    boolean flush = deferFlush();
+    try {
+      for (int i = 0;i < MAX_PIPELINED_BATCH;i++) {
+        HttpServerRequestImpl request;
+        synchronized (this) {
+          request = pipelined;
+          pipelined = null;
+        }
+        if (request == null) {
+          break;
+        }
+        request.handlePipelined();
+      }
+    } finally {
+      // Also done when a request handler throws, so the next queued request is not stalled, the exception
+      // is reported by the context
+      synchronized (this) {
+        if (pipelined != null) {
+          // Let the event loop run other tasks before continuing
+          getContext().runOnContext(v -> handlePipelined());
+        } else {
+          handlingPipelined = false;
+        }
+      }
+      if (flush) {
+        endReadAndFlush();
+      }
+    }
   }
 
   private void handleOther(Object msg) {
@@ -373,7 +423,7 @@ public class Http1xServerConnection extends Http1xConnectionBase implements Http
   }
 
   NetSocket createNetSocket() {
-    NetSocketImpl socket = new NetSocketImpl(vertx, chctx, context, sslHelper, metrics);
+    NetSocketImpl socket = new NetSocketImpl(vertx, chctx, context, sslHelper, metrics, options.isUsePooledInboundBuffers());
     socket.metric(metric());
     Map<Channel, NetSocketImpl> connectionMap = new HashMap<>(1);
     connectionMap.put(chctx.channel(), socket);
@@ -425,6 +475,13 @@ public class Http1xServerConnection extends Http1xConnectionBase implements Http
     }
   }
 
+  @Override
+  protected synchronized void handleReadComplete() {
+    if (ws != null) {
+      ws.handleReadComplete();
+    }
+  }
+
   @Override
   public void close() {
     if (ws == null) {
@@ -453,7 +510,27 @@ public class Http1xServerConnection extends Http1xConnectionBase implements Http
     chctx.writeAndFlush(new DefaultFullHttpResponse(HTTP_1_1, CONTINUE));
   }
 
+  synchronized void queued(HttpServerRequestImpl request) {
+    if (queuedRequests == null) {
+      queuedRequests = new HashSet<>();
+    }
+    queuedRequests.add(request);
+  }
+
+  synchronized void dequeued(HttpServerRequestImpl request) {
+    if (queuedRequests != null) {
+      queuedRequests.remove(request);
+    }
+  }
+
   synchronized protected void handleClosed() {
+    if (queuedRequests != null) {
+      // The pooled buffers are released since the paused requests will not be resumed anymore
+      for (HttpServerRequestImpl request : queuedRequests) {
+        request.releaseQueued();
+      }
+      queuedRequests = null;
+    }
     if (METRICS_ENABLED && metrics != null && ws != null) {
       metrics.disconnected(ws.getMetric());
       ws.setMetric(null);
@@ -485,6 +562,11 @@ public class Http1xServerConnection extends Http1xConnectionBase implements Http
     super.addFuture(completionHandler, future);
   }
 
+  @Override
+  protected int sendFileChunkSize() {
+    return options.getSendFileChunkSize();
+  }
+
   @Override
   protected boolean supportsFileRegion() {
     return super.supportsFileRegion() && chctx.pipeline().get(HttpChunkContentCompressor.class) == null;
@@ -27,9 +27,11 @@ public class Http1xServerHandler extends VertxHttpHandler<Http1xServerConnection
   private final String serverOrigin;
   private final HttpServerMetrics metrics;
   private final HandlerHolder<HttpHandlers> holder;
+  private final SendFileCache fileCache;
 
-  public Http1xServerHandler(SSLHelper sslHelper, HttpServerOptions options, String serverOrigin, HandlerHolder<HttpHandlers> holder, HttpServerMetrics metrics) {
+  public Http1xServerHandler(SSLHelper sslHelper, HttpServerOptions options, String serverOrigin, HandlerHolder<HttpHandlers> holder, HttpServerMetrics metrics, SendFileCache fileCache) {
     this.holder = holder;
+    this.fileCache = fileCache;
     this.metrics = metrics;
     this.sslHelper = sslHelper;
     this.options = options;
@@ -46,7 +48,8 @@ public class Http1xServerHandler extends VertxHttpHandler<Http1xServerConnection
       holder.context,
       serverOrigin,
       holder.handler,
-      metrics);
+      metrics,
+      fileCache);
     setConnection(conn);
     if (metrics != null) {
       holder.context.executeFromIO(v -> {
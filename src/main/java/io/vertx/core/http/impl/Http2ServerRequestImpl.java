@@ -373,7 +373,13 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
 
   @Override
   public String getParam(String paramName) {
-    return params().get(paramName);
+    synchronized (conn) {
+      if (params == null) {
+        // Avoid decoding all the parameters for a single lookup
+        return HttpUtils.param(uri(), paramName);
+      }
+      return params.get(paramName);
+    }
   }
 
   @Override
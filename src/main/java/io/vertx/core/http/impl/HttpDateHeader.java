@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.FastThreadLocal;
+
+import java.util.Date;
+
+/**
+ * The value of the {@code Date} response header, each event loop thread formats it at most once per second.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+final class HttpDateHeader {
+
+  private static final FastThreadLocal<HttpDateHeader> CURRENT = new FastThreadLocal<HttpDateHeader>() {
+    @Override
+    protected HttpDateHeader initialValue() {
+      return new HttpDateHeader();
+    }
+  };
+
+  /**
+   * @return the current date formatted for the {@code Date} header
+   */
+  static CharSequence value() {
+    return CURRENT.get().value(System.currentTimeMillis());
+  }
+
+  private long second = -1;
+  private CharSequence value;
+
+  private HttpDateHeader() {
+  }
+
+  private CharSequence value(long now) {
+    long s = now / 1000;
+    if (s != second) {
+      second = s;
+      value = new AsciiString(DateFormatter.format(new Date(s * 1000)));
+    }
+    return value;
+  }
+}
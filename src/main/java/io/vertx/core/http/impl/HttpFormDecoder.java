@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.core.http.HttpServerRequest;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * An incremental decoder for {@code multipart/form-data} and {@code application/x-www-form-urlencoded} request bodies.
+ * <p>
+ * The body is decoded as it is received: the multipart delimiters are searched directly in the incoming buffers and
+ * the content of a file part is handed to its {@link HttpServerFileUpload} without being accumulated, the upload
+ * pauses the request when its queue is full. Only the headers of a part and the attributes are retained, their size
+ * is bounded by the {@code maxHeaderSize} and {@code maxAttributeSize} limits.
+ * <p>
+ * This class is not thread safe, it is used under the connection monitor.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+class HttpFormDecoder {
+
+  private static final byte CR = '\r';
+  private static final byte LF = '\n';
+  private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+  private static final String DEFAULT_TRANSFER_ENCODING = "7bit";
+
+  private enum State {
+    PREAMBLE, DELIMITER, HEADERS, BODY, EPILOGUE, URL_ENCODED, FAILED
+  }
+
+  private final Vertx vertx;
+  private final HttpServerRequest request;
+  private final Supplier<Handler<HttpServerFileUpload>> lazyUploadHandler;
+  private final MultiMap attributes;
+  private final int maxHeaderSize;
+  private final int maxAttributeSize;
+  private final Charset charset;
+  private final byte[] delimiter;
+  private State state;
+
+  // Number of delimiter bytes matched so far, they might span several buffers
+  private int matched;
+  private int dashes;
+
+  // The bytes of the current part headers or of the current attribute
+  private final ByteBuf pending = Unpooled.buffer();
+  private final List<String> headers = new ArrayList<>();
+  private int headersSize;
+
+  // The current part
+  private String name;
+  private Charset partCharset;
+  private HttpServerFileUploadImpl upload;
+  private boolean file;
+
+  HttpFormDecoder(Vertx vertx, HttpServerRequest request, String contentType,
+                  Supplier<Handler<HttpServerFileUpload>> lazyUploadHandler, MultiMap attributes,
+                  int maxHeaderSize, int maxAttributeSize) {
+    String boundary = parameter(contentType, "boundary");
+    String charsetName = parameter(contentType, "charset");
+    this.vertx = vertx;
+    this.request = request;
+    this.lazyUploadHandler = lazyUploadHandler;
+    this.attributes = attributes;
+    this.maxHeaderSize = maxHeaderSize;
+    this.maxAttributeSize = maxAttributeSize;
+    this.charset = charsetName != null ? charset(charsetName) : CharsetUtil.UTF_8;
+    if (contentType.regionMatches(true, 0, "multipart/form-data", 0, 19)) {
+      if (boundary == null || boundary.isEmpty()) {
+        throw new DecoderException("Needs a boundary value");
+      }
+      this.delimiter = ("\r\n--" + boundary).getBytes(CharsetUtil.US_ASCII);
+      // The first delimiter is not preceded by a CRLF
+      this.matched = 2;
+      this.state = State.PREAMBLE;
+    } else {
+      this.delimiter = null;
+      this.state = State.URL_ENCODED;
+    }
+  }
+
+  /**
+   * Decode a chunk of the request body.
+   *
+   * @param data the chunk
+   * @throws DecoderException when the body is malformed or exceeds a limit, the decoder ignores the remaining data
+   */
+  void offer(Buffer data) {
+    ByteBuf buf = data.getByteBuf();
+    int idx = buf.readerIndex();
+    int end = buf.writerIndex();
+    try {
+      while (idx < end) {
+        switch (state) {
+          case PREAMBLE:
+          case BODY:
+            idx = parseBody(buf, idx, end);
+            break;
+          case DELIMITER:
+            idx = parseDelimiter(buf, idx, end);
+            break;
+          case HEADERS:
+            idx = parseHeaders(buf, idx, end);
+            break;
+          case URL_ENCODED:
+            idx = parseUrlEncoded(buf, idx, end);
+            break;
+          default:
+            return;
+        }
+      }
+    } catch (DecoderException e) {
+      fail();
+      throw e;
+    }
+  }
+
+  /**
+   * Signal the end of the request body.
+   *
+   * @throws DecoderException when the body is incomplete
+   */
+  void end() {
+    try {
+      switch (state) {
+        case URL_ENCODED:
+          endUrlEncodedAttribute();
+          state = State.EPILOGUE;
+          break;
+        case PREAMBLE:
+        case EPILOGUE:
+        case FAILED:
+          break;
+        default:
+          fail();
+          throw new DecoderException("Incomplete multipart body");
+      }
+    } finally {
+      pending.release();
+    }
+  }
+
+  private void fail() {
+    state = State.FAILED;
+    upload = null;
+    headers.clear();
+    headersSize = 0;
+    pending.clear();
+  }
+
+  private int parseBody(ByteBuf buf, int idx, int end) {
+    int contentStart = idx;
+    // The delimiter bytes matched in a previous buffer, they are content when the match fails
+    int previouslyMatched = matched;
+    while (idx < end) {
+      if (matched == 0) {
+        int cr = buf.indexOf(idx, end, CR);
+        if (cr == -1) {
+          idx = end;
+          break;
+        }
+        idx = cr + 1;
+        matched = 1;
+      } else if (buf.getByte(idx) == delimiter[matched]) {
+        idx++;
+        if (++matched == delimiter.length) {
+          int contentEnd = idx - delimiter.length;
+          if (contentEnd > contentStart) {
+            content(buf, contentStart, contentEnd);
+          }
+          matched = 0;
+          if (state == State.BODY) {
+            endPart();
+          }
+          state = State.DELIMITER;
+          return idx;
+        }
+      } else {
+        if (previouslyMatched > 0) {
+          content(Unpooled.wrappedBuffer(delimiter), 0, previouslyMatched);
+          previouslyMatched = 0;
+        }
+        // The current byte might start a delimiter, it is examined again
+        matched = 0;
+      }
+    }
+    int contentEnd = end - (matched - previouslyMatched);
+    if (contentEnd > contentStart) {
+      content(buf, contentStart, contentEnd);
+    }
+    return end;
+  }
+
+  private void content(ByteBuf buf, int from, int to) {
+    if (state == State.PREAMBLE) {
+      return;
+    }
+    int len = to - from;
+    if (file) {
+      if (upload != null) {
+        // The upload queues the buffer, it needs its own copy
+        upload.receiveData(Buffer.buffer(Unpooled.buffer(len).writeBytes(buf, from, len)));
+      }
+    } else {
+      if (maxAttributeSize >= 0 && pending.readableBytes() + len > maxAttributeSize) {
+        throw new DecoderException("Form attribute " + name + " exceeds the maximum size of " + maxAttributeSize);
+      }
+      pending.writeBytes(buf, from, len);
+    }
+  }
+
+  private int parseDelimiter(ByteBuf buf, int idx, int end) {
+    // Either the "--" of the close delimiter or the end of line after optional whitespace
+    while (idx < end) {
+      byte b = buf.getByte(idx++);
+      if (b == '-') {
+        if (++dashes == 2) {
+          state = State.EPILOGUE;
+          return end;
+        }
+      } else if (b == LF) {
+        dashes = 0;
+        state = State.HEADERS;
+        return idx;
+      }
+    }
+    return idx;
+  }
+
+  private int parseHeaders(ByteBuf buf, int idx, int end) {
+    while (idx < end) {
+      int lf = buf.indexOf(idx, end, LF);
+      int to = lf == -1 ? end : lf;
+      headersSize += to - idx;
+      if (headersSize > maxHeaderSize) {
+        throw new DecoderException("Multipart headers are larger than " + maxHeaderSize + " bytes");
+      }
+      pending.writeBytes(buf, idx, to - idx);
+      if (lf == -1) {
+        return end;
+      }
+      idx = lf + 1;
+      int len = pending.readableBytes();
+      if (len > 0 && pending.getByte(pending.writerIndex() - 1) == CR) {
+        len--;
+      }
+      if (len == 0) {
+        pending.clear();
+        startPart();
+        state = State.BODY;
+        return idx;
+      }
+      String line = pending.toString(pending.readerIndex(), len, charset);
+      pending.clear();
+      if ((line.charAt(0) == ' ' || line.charAt(0) == '\t') && headers.size() > 0) {
+        // Folded header
+        headers.set(headers.size() - 1, headers.get(headers.size() - 1) + line);
+      } else {
+        headers.add(line);
+      }
+    }
+    return idx;
+  }
+
+  private void startPart() {
+    String disposition = null;
+    String contentType = null;
+    String transferEncoding = null;
+    for (String header : headers) {
+      int idx = header.indexOf(':');
+      if (idx == -1) {
+        continue;
+      }
+      String headerName = header.substring(0, idx).trim();
+      String headerValue = header.substring(idx + 1).trim();
+      if (headerName.equalsIgnoreCase("Content-Disposition")) {
+        disposition = headerValue;
+      } else if (headerName.equalsIgnoreCase("Content-Type")) {
+        contentType = headerValue;
+      } else if (headerName.equalsIgnoreCase("Content-Transfer-Encoding")) {
+        transferEncoding = headerValue;
+      }
+    }
+    headers.clear();
+    headersSize = 0;
+    if (disposition == null) {
+      throw new DecoderException("Missing Content-Disposition header");
+    }
+    name = parameter(disposition, "name");
+    if (name == null) {
+      throw new DecoderException("Missing name in Content-Disposition header");
+    }
+    partCharset = charset;
+    String mechanism = DEFAULT_TRANSFER_ENCODING;
+    if (transferEncoding != null) {
+      mechanism = transferEncoding.toLowerCase();
+      switch (mechanism) {
+        case "7bit":
+          partCharset = CharsetUtil.US_ASCII;
+          break;
+        case "8bit":
+          partCharset = CharsetUtil.ISO_8859_1;
+          break;
+        case "binary":
+          break;
+        default:
+          throw new DecoderException("Transfer encoding unknown: " + transferEncoding);
+      }
+    }
+    if (contentType != null) {
+      String charsetName = parameter(contentType, "charset");
+      if (charsetName != null) {
+        partCharset = charset(charsetName);
+      }
+      int idx = contentType.indexOf(';');
+      if (idx != -1) {
+        contentType = contentType.substring(0, idx).trim();
+      }
+    }
+    String filename = filename(disposition);
+    file = filename != null;
+    if (file) {
+      Handler<HttpServerFileUpload> uploadHandler = lazyUploadHandler.get();
+      if (uploadHandler != null) {
+        upload = new HttpServerFileUploadImpl(vertx, request, name, filename,
+          contentType != null ? contentType : DEFAULT_CONTENT_TYPE, mechanism, partCharset, 0);
+        uploadHandler.handle(upload);
+      }
+    }
+  }
+
+  private void endPart() {
+    if (file) {
+      if (upload != null) {
+        HttpServerFileUploadImpl upload = this.upload;
+        this.upload = null;
+        upload.complete();
+      }
+    } else {
+      attributes.add(name, pending.toString(partCharset));
+      pending.clear();
+    }
+    name = null;
+  }
+
+  private int parseUrlEncoded(ByteBuf buf, int idx, int end) {
+    while (idx < end) {
+      int amp = buf.indexOf(idx, end, (byte) '&');
+      int to = amp == -1 ? end : amp;
+      if (maxAttributeSize >= 0 && pending.readableBytes() + to - idx > maxAttributeSize) {
+        throw new DecoderException("Form attribute exceeds the maximum size of " + maxAttributeSize);
+      }
+      pending.writeBytes(buf, idx, to - idx);
+      if (amp == -1) {
+        return end;
+      }
+      endUrlEncodedAttribute();
+      idx = amp + 1;
+    }
+    return idx;
+  }
+
+  private void endUrlEncodedAttribute() {
+    if (pending.isReadable()) {
+      String pair = pending.toString(charset);
+      pending.clear();
+      int idx = pair.indexOf('=');
+      if (idx == -1) {
+        attributes.add(decode(pair), "");
+      } else if (idx > 0) {
+        attributes.add(decode(pair.substring(0, idx)), decode(pair.substring(idx + 1)));
+      }
+    }
+  }
+
+  private String decode(String s) {
+    try {
+      return QueryStringDecoder.decodeComponent(s, charset);
+    } catch (IllegalArgumentException e) {
+      throw new DecoderException(e);
+    }
+  }
+
+  private static Charset charset(String name) {
+    try {
+      return Charset.forName(name);
+    } catch (IllegalArgumentException e) {
+      throw new DecoderException(e);
+    }
+  }
+
+  /**
+   * @return the {@code filename} parameter of a disposition, the extended {@code filename*} parameter is preferred
+   */
+  private static String filename(String disposition) {
+    String extended = parameter(disposition, "filename*");
+    if (extended != null) {
+      // charset'language'encoded-value
+      int idx1 = extended.indexOf('\'');
+      int idx2 = idx1 == -1 ? -1 : extended.indexOf('\'', idx1 + 1);
+      if (idx2 != -1) {
+        Charset cs = charset(extended.substring(0, idx1));
+        try {
+          return QueryStringDecoder.decodeComponent(extended.substring(idx2 + 1).replace("+", "%2B"), cs);
+        } catch (IllegalArgumentException e) {
+          throw new DecoderException(e);
+        }
+      }
+    }
+    return parameter(disposition, "filename");
+  }
+
+  /**
+   * Lookup a parameter of a header value like {@code form-data; name="field"}, the parameter name is matched case
+   * insensitively and the value is unquoted.
+   *
+   * @return the parameter value or {@code null} when the parameter is not present
+   */
+  static String parameter(String header, String name) {
+    int len = header.length();
+    int idx = header.indexOf(';');
+    while (idx != -1 && idx < len) {
+      idx++;
+      while (idx < len && (header.charAt(idx) == ' ' || header.charAt(idx) == '\t')) {
+        idx++;
+      }
+      int eq = header.indexOf('=', idx);
+      int semi = header.indexOf(';', idx);
+      if (eq == -1 || (semi != -1 && semi < eq)) {
+        idx = semi;
+        continue;
+      }
+      boolean match = header.substring(idx, eq).trim().equalsIgnoreCase(name);
+      idx = eq + 1;
+      while (idx < len && (header.charAt(idx) == ' ' || header.charAt(idx) == '\t')) {
+        idx++;
+      }
+      String value;
+      if (idx < len && header.charAt(idx) == '"') {
+        StringBuilder sb = new StringBuilder();
+        idx++;
+        while (idx < len && header.charAt(idx) != '"') {
+          char c = header.charAt(idx++);
+          if (c == '\\' && idx < len) {
+            c = header.charAt(idx++);
+          }
+          sb.append(c);
+        }
+        value = sb.toString();
+        idx = header.indexOf(';', idx);
+      } else {
+        int valueEnd = header.indexOf(';', idx);
+        value = header.substring(idx, valueEnd == -1 ? len : valueEnd).trim();
+        idx = valueEnd;
+      }
+      if (match) {
+        return value;
+      }
+    }
+    return null;
+  }
+}
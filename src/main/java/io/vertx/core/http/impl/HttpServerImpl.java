@@ -79,6 +79,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   private final HttpServerOptions options;
   private final VertxInternal vertx;
   private final SSLHelper sslHelper;
+  private final SendFileCache fileCache;
   private final ContextInternal creatingContext;
   private final Map<Channel, ConnectionBase> connectionMap = new ConcurrentHashMap<>();
   private final VertxEventLoopGroup availableWorkers = new VertxEventLoopGroup();
@@ -113,6 +114,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     this.sslHelper = new SSLHelper(options, options.getKeyCertOptions(), options.getTrustOptions());
     this.subProtocols = options.getWebsocketSubProtocols();
     this.logEnabled = options.getLogActivity();
+    this.fileCache = options.getFileCacheMaxEntries() > 0 ? new SendFileCache(vertx, options) : null;
   }
 
   @Override
@@ -432,7 +434,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
         holder.handler.exceptionHandler));
       initializeWebsocketExtensions (pipeline);
     }
-    Http1xServerHandler handler = new Http1xServerHandler(sslHelper, options, serverOrigin, holder, metrics);
+    Http1xServerHandler handler = new Http1xServerHandler(sslHelper, options, serverOrigin, holder, metrics, fileCache);
     handler.addHandler(conn -> {
       connectionMap.put(pipeline.channel(), conn);
     });
@@ -608,6 +610,10 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
       metrics.close();
     }
 
+    if (fileCache != null) {
+      fileCache.clear();
+    }
+
     ChannelGroupFuture fut = serverChannelGroup.close();
     fut.addListener(cgf -> executeCloseDone(closeContext, done, fut.cause()));
   }
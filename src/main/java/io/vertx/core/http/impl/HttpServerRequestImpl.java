@@ -11,16 +11,15 @@
 
 package io.vertx.core.http.impl;
 
+import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.http.*;
 import io.netty.handler.codec.http.HttpMethod;
-import io.netty.handler.codec.http.multipart.Attribute;
-import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
-import io.netty.handler.codec.http.multipart.InterfaceHttpData;
 import io.netty.util.CharsetUtil;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.*;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.impl.VertxInternal;
@@ -80,7 +79,7 @@ public class HttpServerRequestImpl implements HttpServerRequest {
   private Handler<HttpServerFileUpload> uploadHandler;
   private Handler<Void> endHandler;
   private MultiMap attributes;
-  private HttpPostRequestDecoder decoder;
+  private HttpFormDecoder decoder;
   private boolean ended;
   private long bytesRead;
 
@@ -109,6 +108,9 @@ public class HttpServerRequestImpl implements HttpServerRequest {
       pending = Queue.queue(conn.getContext(), 8);
       pending.writableHandler(v -> conn.doResume());
       pending.emptyHandler(v -> {
+        if (conn.options.isUsePooledInboundBuffers()) {
+          conn.dequeued(this);
+        }
         if (ended) {
           doEnd();
         }
@@ -120,6 +122,9 @@ public class HttpServerRequestImpl implements HttpServerRequest {
 
   private void enqueueData(Buffer chunk) {
     // We queue requests if paused or a request is in progress to prevent responses being written in the wrong order
+    if (conn.options.isUsePooledInboundBuffers()) {
+      conn.queued(this);
+    }
     if (!pendingQueue().add(chunk)) {
       // We only pause when we are actively called by the connection
       conn.doPause();
@@ -157,6 +162,19 @@ public class HttpServerRequestImpl implements HttpServerRequest {
     return next;
   }
 
+  /**
+   * Release the pooled buffers still queued, called when the connection is closed.
+   */
+  void releaseQueued() {
+    if (pending != null) {
+      pending.writableHandler(null);
+      pending.emptyHandler(null);
+      for (Buffer buffer : pending.pollAll()) {
+        ((BufferImpl) buffer).byteBuf().release();
+      }
+    }
+  }
+
   void handlePipelined() {
     paused = false;
     boolean end = ended;
@@ -292,7 +310,11 @@ public class HttpServerRequestImpl implements HttpServerRequest {
 
   @Override
   public String getParam(String paramName) {
-    return params().get(paramName);
+    if (params == null) {
+      // Avoid decoding all the parameters for a single lookup
+      return HttpUtils.param(uri(), paramName);
+    }
+    return params.get(paramName);
   }
 
   @Override
@@ -435,7 +457,8 @@ public class HttpServerRequestImpl implements HttpServerRequest {
           if (contentType != null) {
             HttpMethod method = request.method();
             if (isValidMultipartContentType(contentType) && isValidMultipartMethod(method)) {
-              decoder = new HttpPostRequestDecoder(new NettyFileUploadDataFactory(conn.vertx(), this, () -> uploadHandler), request);
+              decoder = new HttpFormDecoder(conn.vertx(), this, contentType, () -> uploadHandler, attributes(),
+                conn.options.getMaxHeaderSize(), conn.options.getMaxFormAttributeSize());
             }
           }
         }
@@ -487,16 +510,22 @@ public class HttpServerRequestImpl implements HttpServerRequest {
 
   private void handleData(Buffer data) {
     synchronized (conn) {
-      bytesRead += data.length();
-      if (decoder != null) {
-        try {
-          decoder.offer(new DefaultHttpContent(data.getByteBuf()));
-        } catch (HttpPostRequestDecoder.ErrorDataDecoderException e) {
-          handleException(e);
+      try {
+        bytesRead += data.length();
+        if (decoder != null) {
+          try {
+            decoder.offer(data);
+          } catch (DecoderException e) {
+            handleException(e);
+          }
+        }
+        if (dataHandler != null) {
+          dataHandler.handle(data);
+        }
+      } finally {
+        if (conn.options.isUsePooledInboundBuffers()) {
+          ((BufferImpl) data).byteBuf().release();
         }
-      }
-      if (dataHandler != null) {
-        dataHandler.handle(data);
       }
     }
   }
@@ -522,25 +551,9 @@ public class HttpServerRequestImpl implements HttpServerRequest {
 
   private void endDecode() {
     try {
-      decoder.offer(LastHttpContent.EMPTY_LAST_CONTENT);
-      while (decoder.hasNext()) {
-        InterfaceHttpData data = decoder.next();
-        if (data instanceof Attribute) {
-          Attribute attr = (Attribute) data;
-          try {
-            attributes().add(attr.getName(), attr.getValue());
-          } catch (Exception e) {
-            // Will never happen, anyway handle it somehow just in case
-            handleException(e);
-          }
-        }
-      }
-    } catch (HttpPostRequestDecoder.ErrorDataDecoderException e) {
+      decoder.end();
+    } catch (DecoderException e) {
       handleException(e);
-    } catch (HttpPostRequestDecoder.EndOfDataDecoderException e) {
-      // ignore this as it is expected
-    } finally {
-      decoder.destroy();
     }
   }
 
@@ -431,9 +431,10 @@ public class HttpServerResponseImpl implements HttpServerResponse {
         throw new IllegalStateException("Head already written");
       }
       checkValid();
-      File file = vertx.resolveFile(filename);
+      SendFileCache.Entry cached = conn.fileCache != null ? conn.fileCache.get(filename) : null;
+      File file = cached != null ? cached.file : vertx.resolveFile(filename);
 
-      if (!file.exists()) {
+      if (cached == null && !file.exists()) {
         if (resultHandler != null) {
           ContextInternal ctx = vertx.getOrCreateContext();
           ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(new FileNotFoundException())));
@@ -443,7 +444,8 @@ public class HttpServerResponseImpl implements HttpServerResponse {
         return;
       }
 
-      long contentLength = Math.min(length, file.length() - offset);
+      long fileLength = cached != null ? cached.length : file.length();
+      long contentLength = Math.min(length, fileLength - offset);
       bytesWritten = contentLength;
       if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
         String contentType = MimeMapping.getMimeTypeForFilename(filename);
@@ -453,11 +455,20 @@ public class HttpServerResponseImpl implements HttpServerResponse {
       }
       prepareHeaders(bytesWritten);
 
+      ByteBuf content = null;
+      if (cached != null && !head && contentLength >= 0) {
+        content = cached.retainedContent((int) Math.min(offset, fileLength), (int) contentLength);
+      }
       RandomAccessFile raf = null;
       try {
-        raf = new RandomAccessFile(file, "r");
-        conn.writeToChannel(new AssembledHttpResponse(head, version, status, headers));
-        conn.sendFile(raf, Math.min(offset, file.length()), contentLength);
+        if (content != null) {
+          // Small file cached in memory
+          conn.writeToChannel(new AssembledHttpResponse(head, version, status, headers, content));
+        } else {
+          raf = new RandomAccessFile(file, "r");
+          conn.writeToChannel(new AssembledHttpResponse(head, version, status, headers));
+          conn.sendFile(raf, Math.min(offset, fileLength), contentLength);
+        }
       } catch (IOException e) {
         try {
           if (raf != null) {
@@ -571,6 +582,9 @@ public class HttpServerResponseImpl implements HttpServerResponse {
         headers.set(HttpHeaders.CONTENT_LENGTH, value);
       }
     }
+    if (conn.options.isDateHeaderEnabled() && !headers.contains(HttpHeaders.DATE)) {
+      headers.add(HttpHeaders.DATE, HttpDateHeader.value());
+    }
     if (headersEndHandler != null) {
       headersEndHandler.handle(null);
     }
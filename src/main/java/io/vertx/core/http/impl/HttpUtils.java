@@ -270,6 +270,9 @@ public final class HttpUtils {
     return absoluteURI;
   }
 
+  // Same than the QueryStringDecoder default
+  private static final int MAX_PARAMS = 1024;
+
   static MultiMap params(String uri) {
     QueryStringDecoder queryStringDecoder = new QueryStringDecoder(uri);
     Map<String, List<String>> prms = queryStringDecoder.parameters();
@@ -282,6 +285,83 @@ public final class HttpUtils {
     return params;
   }
 
+  /**
+   * Lookup the first value of a query parameter of an uri without decoding the other parameters, this
+   * gives the same result than {@code params(uri).get(name)}.
+   *
+   * @param uri the uri
+   * @param name the parameter name, matched case insensitively
+   * @return the decoded value or {@code null} when the parameter is not present
+   */
+  public static String param(String uri, String name) {
+    int len = uri.length();
+    int from = 0;
+    while (from < len) {
+      char c = uri.charAt(from++);
+      if (c == '?') {
+        break;
+      } else if (c == '#') {
+        return null;
+      }
+    }
+    int limit = MAX_PARAMS;
+    int nameStart = from;
+    int valueStart = -1;
+    int i;
+    loop:
+    for (i = from;i < len;i++) {
+      switch (uri.charAt(i)) {
+        case '=':
+          if (nameStart == i) {
+            nameStart = i + 1;
+          } else if (valueStart < nameStart) {
+            valueStart = i + 1;
+          }
+          break;
+        case '&':
+        case ';':
+          if (nameStart < i) {
+            String value = paramValue(uri, nameStart, valueStart, i, name);
+            if (value != null) {
+              return value;
+            }
+            if (--limit == 0) {
+              return null;
+            }
+          }
+          nameStart = i + 1;
+          break;
+        case '#':
+          break loop;
+      }
+    }
+    return nameStart < i ? paramValue(uri, nameStart, valueStart, i, name) : null;
+  }
+
+  private static String paramValue(String uri, int nameStart, int valueStart, int valueEnd, String name) {
+    if (valueStart <= nameStart) {
+      valueStart = valueEnd + 1;
+    }
+    int nameEnd = valueStart - 1;
+    boolean encoded = false;
+    for (int i = nameStart;i < nameEnd && !encoded;i++) {
+      char c = uri.charAt(i);
+      encoded = c == '%' || c == '+';
+    }
+    if (encoded) {
+      String decoded = QueryStringDecoder.decodeComponent(uri.substring(nameStart, nameEnd), CharsetUtil.UTF_8);
+      if (!decoded.equalsIgnoreCase(name)) {
+        return null;
+      }
+    } else if (nameEnd - nameStart != name.length() || !uri.regionMatches(true, nameStart, name, 0, name.length())) {
+      return null;
+    }
+    if (valueStart >= valueEnd) {
+      return "";
+    }
+    return QueryStringDecoder.decodeComponent(uri.substring(valueStart, valueEnd), CharsetUtil.UTF_8);
+  }
+
   public static void fromVertxInitialSettings(boolean server, io.vertx.core.http.Http2Settings vertxSettings, Http2Settings nettySettings) {
     if (vertxSettings != null) {
       if (!server && vertxSettings.isPushEnabled() != DEFAULT_ENABLE_PUSH) {
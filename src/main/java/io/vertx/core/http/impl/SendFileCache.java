@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.impl.VertxInternal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded LRU cache of the files sent by {@link HttpServerResponseImpl#sendFile}.
+ * <p>
+ * An entry keeps the resolved file, its length and last modified time, and the content of the files smaller than
+ * {@link HttpServerOptions#getFileCacheMaxContentSize()} in a pooled buffer. The file metadata is checked again
+ * at most once per {@link HttpServerOptions#getFileCacheCheckInterval()}, the entry is reloaded when it changed.
+ * <p>
+ * The map is guarded by this object monitor, file system operations are performed outside of it.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+class SendFileCache {
+
+  private final VertxInternal vertx;
+  private final int maxContentSize;
+  private final long checkInterval;
+  private final LinkedHashMap<String, Entry> entries;
+
+  SendFileCache(VertxInternal vertx, HttpServerOptions options) {
+    int maxEntries = options.getFileCacheMaxEntries();
+    this.vertx = vertx;
+    this.maxContentSize = options.getFileCacheMaxContentSize();
+    this.checkInterval = TimeUnit.MILLISECONDS.toNanos(options.getFileCacheCheckInterval());
+    this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        if (size() > maxEntries) {
+          eldest.getValue().release();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Get the entry of a file, resolving and loading it when it is not cached or has changed.
+   *
+   * @param filename the file name as given to {@code sendFile}
+   * @return the entry or {@code null} when the file does not exist
+   */
+  Entry get(String filename) {
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(filename);
+    }
+    long now = System.nanoTime();
+    File file;
+    if (entry != null) {
+      if (now - entry.checked < checkInterval) {
+        return entry;
+      }
+      file = entry.file;
+      if (file.exists() && file.length() == entry.length && file.lastModified() == entry.lastModified) {
+        entry.checked = now;
+        return entry;
+      }
+    } else {
+      file = vertx.resolveFile(filename);
+    }
+    Entry loaded = file.exists() ? load(file, now) : null;
+    synchronized (this) {
+      Entry prev = loaded != null ? entries.put(filename, loaded) : entries.remove(filename);
+      if (prev != null) {
+        prev.release();
+      }
+    }
+    return loaded;
+  }
+
+  private Entry load(File file, long now) {
+    long length = file.length();
+    long lastModified = file.lastModified();
+    ByteBuf content = null;
+    if (length <= maxContentSize && file.isFile()) {
+      content = PooledByteBufAllocator.DEFAULT.directBuffer((int) length);
+      try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+        FileChannel ch = raf.getChannel();
+        while (content.isWritable()) {
+          if (content.writeBytes(ch, content.writerIndex(), content.writableBytes()) < 0) {
+            // The file was truncated, serve it from the file system
+            content.release();
+            content = null;
+            break;
+          }
+        }
+      } catch (IOException e) {
+        if (content != null) {
+          content.release();
+          content = null;
+        }
+      }
+    }
+    return new Entry(file, length, lastModified, content, now);
+  }
+
+  /**
+   * Release all the cached content.
+   */
+  synchronized void clear() {
+    for (Iterator<Entry> it = entries.values().iterator();it.hasNext();) {
+      it.next().release();
+      it.remove();
+    }
+  }
+
+  class Entry {
+
+    final File file;
+    final long length;
+    final long lastModified;
+    private ByteBuf content;
+    volatile long checked;
+
+    private Entry(File file, long length, long lastModified, ByteBuf content, long checked) {
+      this.file = file;
+      this.length = length;
+      this.lastModified = lastModified;
+      this.content = content;
+      this.checked = checked;
+    }
+
+    /**
+     * @return a retained slice of the cached content or {@code null} when the content is not cached
+     */
+    ByteBuf retainedContent(int offset, int length) {
+      synchronized (SendFileCache.this) {
+        return content != null ? content.retainedSlice(offset, length) : null;
+      }
+    }
+
+    // Called with the cache monitor held
+    private void release() {
+      if (content != null) {
+        content.release();
+        content = null;
+      }
+    }
+  }
+}
@@ -34,6 +34,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.charset.Charset;
+import java.util.List;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -116,6 +117,14 @@ class VertxHttp2NetSocket<C extends Http2ConnectionBase> extends VertxHttp2Strea
     }
   }
 
+  @Override
+  public NetSocket batchHandler(Handler<List<Buffer>> handler) {
+    synchronized (conn) {
+      doBatchHandler(handler);
+      return this;
+    }
+  }
+
   @Override
   public NetSocket fetch(long amount) {
     doFetch(amount);
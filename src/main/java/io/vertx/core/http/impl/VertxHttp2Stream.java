@@ -16,12 +16,15 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http2.EmptyHttp2Headers;
 import io.netty.handler.codec.http2.Http2Headers;
 import io.netty.handler.codec.http2.Http2Stream;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.queue.Queue;
 
+import java.util.List;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -117,6 +120,10 @@ abstract class VertxHttp2Stream<C extends Http2ConnectionBase> {
     pending.take(amount);
   }
 
+  void doBatchHandler(Handler<List<Buffer>> handler) {
+    pending.batchHandler(handler);
+  }
+
   boolean isNotWritable() {
     synchronized (conn) {
       return !writable;
@@ -12,9 +12,12 @@
 package io.vertx.core.http.impl;
 
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.vertx.core.http.impl.headers.VertxHttpHeaders;
 import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
 
 import java.util.List;
@@ -38,6 +41,16 @@ final class VertxHttpResponseEncoder extends HttpResponseEncoder {
     super.handlerAdded(ctx);
   }
 
+  @Override
+  protected void encodeHeaders(HttpHeaders headers, ByteBuf buf) {
+    if (headers instanceof VertxHttpHeaders) {
+      // Copies pre-encoded headers at once
+      ((VertxHttpHeaders) headers).encode(buf);
+    } else {
+      super.encodeHeaders(headers, buf);
+    }
+  }
+
   @Override
   protected boolean isContentAlwaysEmpty(HttpResponse msg) {
     // In HttpServerCodec this is tracked via a FIFO queue of HttpMethod
@@ -28,6 +28,8 @@ import io.vertx.core.queue.Queue;
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
 import javax.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -47,6 +49,8 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
   private final int maxWebSocketFrameSize;
   private final int maxWebSocketMessageSize;
   private final Queue<Buffer> pending;
+  private boolean batching;
+  private List<Buffer> readBatch;
   private MessageConsumer binaryHandlerRegistration;
   private MessageConsumer textHandlerRegistration;
   private String subProtocol;
@@ -282,7 +286,13 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
     synchronized (conn) {
       if (frame.type() != FrameType.CLOSE) {
         conn.reportBytesRead(frame.length());
-        if (!pending.add(frame.binaryData())) {
+        if (batching) {
+          // Delivered at the end of the read burst
+          if (readBatch == null) {
+            readBatch = new ArrayList<>();
+          }
+          readBatch.add(frame.binaryData());
+        } else if (!pending.add(frame.binaryData())) {
           conn.doPause();
         }
       }
@@ -304,6 +314,24 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
     }
   }
 
+  void handleReadComplete() {
+    synchronized (conn) {
+      flushReadBatch();
+    }
+  }
+
+  private void flushReadBatch() {
+    List<Buffer> batch = readBatch;
+    if (batch != null) {
+      readBatch = null;
+      pending.addAll(batch);
+      // The queue signals the writable handler when it is drained
+      if (!pending.isWritable()) {
+        conn.doPause();
+      }
+    }
+  }
+
   private class FrameAggregator implements Handler<WebSocketFrameInternal> {
     private Handler<String> textMessageHandler;
     private Handler<Buffer> binaryMessageHandler;
@@ -440,6 +468,7 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
   void handleClosed() {
     Handler<Void> endHandler;
     synchronized (conn) {
+      flushReadBatch();
       cleanupHandlers();
       endHandler = this.endHandler;
       Handler<Void> closeHandler = this.closeHandler;
@@ -485,6 +514,21 @@ public abstract class WebSocketImplBase<S extends WebSocketBase> implements WebS
     }
   }
 
+  @Override
+  public S batchHandler(Handler<List<Buffer>> handler) {
+    synchronized (conn) {
+      if (handler != null) {
+        checkClosed();
+      }
+      pending.batchHandler(handler);
+      batching = handler != null;
+      if (!batching) {
+        flushReadBatch();
+      }
+      return (S) this;
+    }
+  }
+
   @Override
   public S endHandler(Handler<Void> handler) {
     synchronized (conn) {
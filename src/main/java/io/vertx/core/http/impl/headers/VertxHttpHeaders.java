@@ -11,18 +11,23 @@
 
 package io.vertx.core.http.impl.headers;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.util.AsciiString;
+import io.netty.util.CharsetUtil;
 import io.netty.util.HashingStrategy;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.impl.HttpUtils;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
@@ -31,12 +36,184 @@ import java.util.function.Consumer;
 import static io.netty.util.AsciiString.*;
 
 /**
+ * Headers backed by arrays and an open-addressing index.
+ * <p>
+ * The entries are appended to parallel name/value/hash arrays which keeps the insertion order without allocating
+ * an entry per header, a removed entry leaves a hole that is reclaimed when the arrays are full. The {@code index}
+ * table maps the name hash to the entries with linear probing and is kept at most half full.
+ * <p>
+ * Well known header names given as {@code String} are replaced by shared {@link AsciiString} constants, so their hash
+ * is computed once and they are compared by identity before comparing their content.
+ * <p>
+ * A {@link #preEncoded(MultiMap) pre-encoded} snapshot added to empty headers is written by {@link #encode(ByteBuf)}
+ * with a single copy, until one of its entries is modified.
+ *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
 
+  private static final int INITIAL_CAPACITY = 8;
+  private static final int COLON_AND_SPACE_SHORT = (':' << 8) | ' ';
+  private static final int CRLF_SHORT = ('\r' << 8) | '\n';
+  private static final AsciiString[] KNOWN_NAMES = knownNames(
+    io.vertx.core.http.HttpHeaders.ACCEPT,
+    io.vertx.core.http.HttpHeaders.ACCEPT_CHARSET,
+    io.vertx.core.http.HttpHeaders.ACCEPT_ENCODING,
+    io.vertx.core.http.HttpHeaders.ACCEPT_LANGUAGE,
+    io.vertx.core.http.HttpHeaders.ACCEPT_RANGES,
+    io.vertx.core.http.HttpHeaders.ACCEPT_PATCH,
+    io.vertx.core.http.HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS,
+    io.vertx.core.http.HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS,
+    io.vertx.core.http.HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS,
+    io.vertx.core.http.HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN,
+    io.vertx.core.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS,
+    io.vertx.core.http.HttpHeaders.ACCESS_CONTROL_MAX_AGE,
+    io.vertx.core.http.HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS,
+    io.vertx.core.http.HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD,
+    io.vertx.core.http.HttpHeaders.AGE,
+    io.vertx.core.http.HttpHeaders.ALLOW,
+    io.vertx.core.http.HttpHeaders.AUTHORIZATION,
+    io.vertx.core.http.HttpHeaders.CACHE_CONTROL,
+    io.vertx.core.http.HttpHeaders.CONNECTION,
+    io.vertx.core.http.HttpHeaders.CONTENT_BASE,
+    io.vertx.core.http.HttpHeaders.CONTENT_DISPOSITION,
+    io.vertx.core.http.HttpHeaders.CONTENT_ENCODING,
+    io.vertx.core.http.HttpHeaders.CONTENT_LANGUAGE,
+    io.vertx.core.http.HttpHeaders.CONTENT_LENGTH,
+    io.vertx.core.http.HttpHeaders.CONTENT_LOCATION,
+    io.vertx.core.http.HttpHeaders.CONTENT_TRANSFER_ENCODING,
+    io.vertx.core.http.HttpHeaders.CONTENT_MD5,
+    io.vertx.core.http.HttpHeaders.CONTENT_RANGE,
+    io.vertx.core.http.HttpHeaders.CONTENT_TYPE,
+    io.vertx.core.http.HttpHeaders.COOKIE,
+    io.vertx.core.http.HttpHeaders.DATE,
+    io.vertx.core.http.HttpHeaders.ETAG,
+    io.vertx.core.http.HttpHeaders.EXPECT,
+    io.vertx.core.http.HttpHeaders.EXPIRES,
+    io.vertx.core.http.HttpHeaders.FROM,
+    io.vertx.core.http.HttpHeaders.HOST,
+    io.vertx.core.http.HttpHeaders.IF_MATCH,
+    io.vertx.core.http.HttpHeaders.IF_MODIFIED_SINCE,
+    io.vertx.core.http.HttpHeaders.IF_NONE_MATCH,
+    io.vertx.core.http.HttpHeaders.LAST_MODIFIED,
+    io.vertx.core.http.HttpHeaders.LOCATION,
+    io.vertx.core.http.HttpHeaders.ORIGIN,
+    io.vertx.core.http.HttpHeaders.PROXY_AUTHENTICATE,
+    io.vertx.core.http.HttpHeaders.PROXY_AUTHORIZATION,
+    io.vertx.core.http.HttpHeaders.REFERER,
+    io.vertx.core.http.HttpHeaders.RETRY_AFTER,
+    io.vertx.core.http.HttpHeaders.SERVER,
+    io.vertx.core.http.HttpHeaders.TRANSFER_ENCODING,
+    io.vertx.core.http.HttpHeaders.USER_AGENT,
+    io.vertx.core.http.HttpHeaders.SET_COOKIE,
+    "content-security-policy",
+    "dnt",
+    "forwarded",
+    "if-range",
+    "if-unmodified-since",
+    "keep-alive",
+    "link",
+    "pragma",
+    "range",
+    "sec-websocket-accept",
+    "sec-websocket-extensions",
+    "sec-websocket-key",
+    "sec-websocket-protocol",
+    "sec-websocket-version",
+    "strict-transport-security",
+    "te",
+    "trailer",
+    "upgrade",
+    "upgrade-insecure-requests",
+    "vary",
+    "via",
+    "warning",
+    "www-authenticate",
+    "x-content-type-options",
+    "x-forwarded-for",
+    "x-forwarded-host",
+    "x-forwarded-port",
+    "x-forwarded-proto",
+    "x-frame-options",
+    "x-request-id",
+    "x-requested-with",
+    "x-xss-protection"
+  );
+
+  /**
+   * Build the interning table of the well known names, each name is present in its lower case form and in its
+   * capitalized form, e.g {@code content-type} and {@code Content-Type}.
+   */
+  private static AsciiString[] knownNames(CharSequence... names) {
+    AsciiString[] table = new AsciiString[1024];
+    for (CharSequence name : names) {
+      AsciiString lowerCase = name instanceof AsciiString ? (AsciiString) name : AsciiString.cached(name.toString());
+      char[] chars = name.toString().toCharArray();
+      for (int i = 0;i < chars.length;i++) {
+        if (i == 0 || chars[i - 1] == '-') {
+          chars[i] = Character.toUpperCase(chars[i]);
+        }
+      }
+      for (AsciiString known : new AsciiString[]{lowerCase, AsciiString.cached(new String(chars))}) {
+        int slot = known.hashCode() & (table.length - 1);
+        while (table[slot] != null) {
+          slot = (slot + 1) & (table.length - 1);
+        }
+        table[slot] = known;
+      }
+    }
+    return table;
+  }
+
+  /**
+   * @return the shared constant equal to the {@code name} or the {@code name} itself
+   */
+  private static CharSequence intern(int h, CharSequence name) {
+    if (name instanceof AsciiString) {
+      return name;
+    }
+    int mask = KNOWN_NAMES.length - 1;
+    int slot = h & mask;
+    AsciiString known;
+    while ((known = KNOWN_NAMES[slot]) != null) {
+      if (known.hashCode() == h && known.contentEquals(name)) {
+        return known;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return name;
+  }
+
+  private static boolean nameEquals(CharSequence name, CharSequence key) {
+    return name == key || AsciiString.contentEqualsIgnoreCase(name, key);
+  }
+
+  /**
+   * Create an immutable snapshot of {@code headers} encoded once for HTTP/1.x.
+   *
+   * @param headers the headers to encode
+   * @return the snapshot
+   */
+  public static VertxHttpHeaders preEncoded(MultiMap headers) {
+    VertxHttpHeaders snapshot = new VertxHttpHeaders();
+    for (Map.Entry<String, String> header : headers) {
+      HttpUtils.validateHeader(header.getKey());
+      HttpUtils.validateHeader(header.getValue());
+      snapshot.add(new AsciiString(header.getKey()), new AsciiString(header.getValue()));
+    }
+    ByteBuf buf = Unpooled.directBuffer();
+    snapshot.encode(buf);
+    snapshot.encoded = Unpooled.unreleasableBuffer(buf);
+    snapshot.encodedLength = snapshot.length;
+    snapshot.readOnly = true;
+    return snapshot;
+  }
+
   @Override
   public MultiMap setAll(MultiMap headers) {
+    if (headers instanceof VertxHttpHeaders && ((VertxHttpHeaders) headers).readOnly && !readOnly) {
+      return addAll((VertxHttpHeaders) headers);
+    }
     return set0(headers);
   }
 
@@ -50,22 +227,32 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
     return names().size();
   }
 
-  private static int index(int hash) {
-    return hash & 0x0000000F;
-  }
-
-  private final VertxHttpHeaders.MapEntry[] entries = new VertxHttpHeaders.MapEntry[16];
-  private final VertxHttpHeaders.MapEntry head = new VertxHttpHeaders.MapEntry();
+  // The entries in insertion order, a removed entry has a null name
+  private CharSequence[] names;
+  private CharSequence[] values;
+  private int[] hashes;
+  // The number of used slots in the entry arrays, including removed entries
+  private int length;
+  // The number of live entries
+  private int count;
+  // Entry index + 1 or 0 for an empty slot
+  private int[] index;
+  // The encoded form of the first encodedLength entries
+  private ByteBuf encoded;
+  private int encodedLength;
+  private boolean readOnly;
 
   public VertxHttpHeaders() {
-    head.before = head.after = head;
+    names = new CharSequence[INITIAL_CAPACITY];
+    values = new CharSequence[INITIAL_CAPACITY];
+    hashes = new int[INITIAL_CAPACITY];
+    index = new int[INITIAL_CAPACITY * 2];
   }
 
   @Override
   public VertxHttpHeaders add(CharSequence name, CharSequence value) {
     int h = AsciiString.hashCode(name);
-    int i = index(h);
-    add0(h, i, name, value);
+    add0(h, name, value);
     return this;
   }
 
@@ -87,9 +274,8 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
   @Override
   public VertxHttpHeaders add(CharSequence name, Iterable values) {
     int h = AsciiString.hashCode(name);
-    int i = index(h);
     for (Object vstr: values) {
-      add0(h, i, name, (String) vstr);
+      add0(h, name, (String) vstr);
     }
     return this;
   }
@@ -101,6 +287,9 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
 
   @Override
   public MultiMap addAll(MultiMap headers) {
+    if (headers instanceof VertxHttpHeaders && ((VertxHttpHeaders) headers).readOnly && count == 0 && !readOnly) {
+      return addAll((VertxHttpHeaders) headers);
+    }
     return addAll(headers.entries());
   }
 
@@ -109,6 +298,24 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
     return addAll(map.entrySet());
   }
 
+  private MultiMap addAll(VertxHttpHeaders snapshot) {
+    // Share the entries and the encoded form of the snapshot
+    clear();
+    if (snapshot.length > names.length) {
+      resize(Integer.highestOneBit(snapshot.length - 1) << 1);
+    }
+    System.arraycopy(snapshot.names, 0, names, 0, snapshot.length);
+    System.arraycopy(snapshot.values, 0, values, 0, snapshot.length);
+    System.arraycopy(snapshot.hashes, 0, hashes, 0, snapshot.length);
+    length = count = snapshot.length;
+    for (int i = 0;i < length;i++) {
+      insert(i);
+    }
+    encoded = snapshot.encoded;
+    encodedLength = snapshot.encodedLength;
+    return this;
+  }
+
   private MultiMap addAll(Iterable<Map.Entry<String, String>> headers) {
     for (Map.Entry<String, String> entry: headers) {
       add(entry.getKey(), entry.getValue());
@@ -120,8 +327,7 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
   public VertxHttpHeaders remove(CharSequence name) {
     Objects.requireNonNull(name, "name");
     int h = AsciiString.hashCode(name);
-    int i = index(h);
-    remove0(h, i, name);
+    remove0(h, name);
     return this;
   }
 
@@ -155,14 +361,13 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
     Objects.requireNonNull(values, "values");
 
     int h = AsciiString.hashCode(name);
-    int i = index(h);
 
-    remove0(h, i, name);
+    remove0(h, name);
     for (Object v: values) {
       if (v == null) {
         break;
       }
-      add0(h, i, name, (String) v);
+      add0(h, name, (String) v);
     }
 
     return this;
@@ -176,16 +381,16 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
   @Override
   public boolean contains(CharSequence name, CharSequence value, boolean ignoreCase) {
     int h = AsciiString.hashCode(name);
-    int i = index(h);
-    VertxHttpHeaders.MapEntry e = entries[i];
     HashingStrategy<CharSequence> strategy = ignoreCase ? CASE_INSENSITIVE_HASHER : CASE_SENSITIVE_HASHER;
-    while (e != null) {
-      if (e.hash == h && AsciiString.contentEqualsIgnoreCase(name, e.key)) {
-        if (strategy.equals(value, e.getValue())) {
-          return true;
-        }
+    int mask = index.length - 1;
+    int slot = h & mask;
+    int e;
+    while ((e = index[slot]) != 0) {
+      int i = e - 1;
+      if (hashes[i] == h && nameEquals(name, names[i]) && strategy.equals(value, values[i])) {
+        return true;
       }
-      e = e.next;
+      slot = (slot + 1) & mask;
     }
     return false;
   }
@@ -221,16 +426,13 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
   public List<String> getAll(CharSequence name) {
     Objects.requireNonNull(name, "name");
 
-    LinkedList<String> values = new LinkedList<>();
+    List<String> values = new ArrayList<>();
 
     int h = AsciiString.hashCode(name);
-    int i = index(h);
-    VertxHttpHeaders.MapEntry e = entries[i];
-    while (e != null) {
-      if (e.hash == h && AsciiString.contentEqualsIgnoreCase(name, e.key)) {
-        values.addFirst(e.getValue().toString());
+    for (int i = 0;i < length;i++) {
+      if (hashes[i] == h && names[i] != null && nameEquals(name, names[i])) {
+        values.add(this.values[i].toString());
       }
-      e = e.next;
     }
     return values;
   }
@@ -242,38 +444,38 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
 
   @Override
   public void forEach(Consumer<? super Map.Entry<String, String>> action) {
-    VertxHttpHeaders.MapEntry e = head.after;
-    while (e != head) {
-      action.accept(new AbstractMap.SimpleEntry<>(e.key.toString(), e.value.toString()));
-      e = e.after;
+    for (int i = 0;i < length;i++) {
+      if (names[i] != null) {
+        action.accept(new AbstractMap.SimpleEntry<>(names[i].toString(), values[i].toString()));
+      }
     }
   }
 
   @Override
   public List<Map.Entry<String, String>> entries() {
-    List<Map.Entry<String, String>> all = new ArrayList<>(size());
-    VertxHttpHeaders.MapEntry e = head.after;
-    while (e != head) {
-      final MapEntry f = e;
-      all.add(new Map.Entry<String, String>() {
-        @Override
-        public String getKey() {
-          return f.key.toString();
-        }
-        @Override
-        public String getValue() {
-          return f.value.toString();
-        }
-        @Override
-        public String setValue(String value) {
-          return f.setValue(value).toString();
-        }
-        @Override
-        public String toString() {
-          return getKey() + ": " + getValue();
-        }
-      });
-      e = e.after;
+    List<Map.Entry<String, String>> all = new ArrayList<>(count);
+    for (int i = 0;i < length;i++) {
+      if (names[i] != null) {
+        final MapEntry f = new MapEntry(i);
+        all.add(new Map.Entry<String, String>() {
+          @Override
+          public String getKey() {
+            return f.getKey().toString();
+          }
+          @Override
+          public String getValue() {
+            return f.getValue().toString();
+          }
+          @Override
+          public String setValue(String value) {
+            return f.setValue(value).toString();
+          }
+          @Override
+          public String toString() {
+            return getKey() + ": " + getValue();
+          }
+        });
+      }
     }
     return all;
   }
@@ -285,26 +487,30 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
 
   @Override
   public boolean isEmpty() {
-    return head == head.after;
+    return count == 0;
   }
 
   @Override
   public Set<String> names() {
     Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-    VertxHttpHeaders.MapEntry e = head.after;
-    while (e != head) {
-      names.add(e.getKey().toString());
-      e = e.after;
+    for (int i = 0;i < length;i++) {
+      if (this.names[i] != null) {
+        names.add(this.names[i].toString());
+      }
     }
     return names;
   }
 
   @Override
   public VertxHttpHeaders clear() {
-    for (int i = 0; i < entries.length; i ++) {
-      entries[i] = null;
-    }
-    head.before = head.after = head;
+    checkWritable();
+    encoded = null;
+    encodedLength = 0;
+    Arrays.fill(names, 0, length, null);
+    Arrays.fill(values, 0, length, null);
+    Arrays.fill(index, 0);
+    length = 0;
+    count = 0;
     return this;
   }
 
@@ -349,20 +555,30 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
   @Override
   public Iterator<Map.Entry<CharSequence, CharSequence>> iteratorCharSequence() {
     return new Iterator<Map.Entry<CharSequence, CharSequence>>() {
-      VertxHttpHeaders.MapEntry current = head.after;
+      int current = skipRemoved(0);
       @Override
       public boolean hasNext() {
-        return current != head;
+        return current < length;
       }
       @Override
       public Map.Entry<CharSequence, CharSequence> next() {
-        Map.Entry<CharSequence, CharSequence> next = current;
-        current = current.after;
+        if (current >= length) {
+          throw new NoSuchElementException();
+        }
+        Map.Entry<CharSequence, CharSequence> next = new MapEntry(current);
+        current = skipRemoved(current + 1);
         return next;
       }
     };
   }
 
+  private int skipRemoved(int i) {
+    while (i < length && names[i] == null) {
+      i++;
+    }
+    return i;
+  }
+
   @Override
   public HttpHeaders addInt(CharSequence name, int value) {
     throw new UnsupportedOperationException();
@@ -383,52 +599,36 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
     throw new UnsupportedOperationException();
   }
 
-  private static final class MapEntry implements Map.Entry<CharSequence, CharSequence> {
-    final int hash;
-    final CharSequence key;
-    CharSequence value;
-    VertxHttpHeaders.MapEntry next;
-    VertxHttpHeaders.MapEntry before, after;
-
-    MapEntry() {
-      this.hash = -1;
-      this.key = null;
-      this.value = null;
-    }
+  /**
+   * A view of an entry of the arrays.
+   */
+  private final class MapEntry implements Map.Entry<CharSequence, CharSequence> {
 
-    MapEntry(int hash, CharSequence key, CharSequence value) {
-      this.hash = hash;
-      this.key = key;
-      this.value = value;
-    }
+    final int pos;
 
-    void remove() {
-      before.after = after;
-      after.before = before;
-    }
-
-    void addBefore(VertxHttpHeaders.MapEntry e) {
-      after  = e;
-      before = e.before;
-      before.after = this;
-      after.before = this;
+    MapEntry(int pos) {
+      this.pos = pos;
     }
 
     @Override
     public CharSequence getKey() {
-      return key;
+      return names[pos];
     }
 
     @Override
     public CharSequence getValue() {
-      return value;
+      return values[pos];
     }
 
     @Override
     public CharSequence setValue(CharSequence value) {
       Objects.requireNonNull(value, "value");
-      CharSequence oldValue = this.value;
-      this.value = value;
+      checkWritable();
+      if (pos < encodedLength) {
+        encoded = null;
+      }
+      CharSequence oldValue = values[pos];
+      values[pos] = value;
       return oldValue;
     }
 
@@ -438,81 +638,177 @@ public final class VertxHttpHeaders extends HttpHeaders implements MultiMap {
     }
   }
 
-  private void remove0(int h, int i, CharSequence name) {
-    VertxHttpHeaders.MapEntry e = entries[i];
-    if (e == null) {
-      return;
-    }
-
-    for (;;) {
-      if (e.hash == h && AsciiString.contentEqualsIgnoreCase(name, e.key)) {
-        e.remove();
-        VertxHttpHeaders.MapEntry next = e.next;
-        if (next != null) {
-          entries[i] = next;
-          e = next;
-        } else {
-          entries[i] = null;
-          return;
+  private void remove0(int h, CharSequence name) {
+    checkWritable();
+    int mask = index.length - 1;
+    int slot = h & mask;
+    int e;
+    while ((e = index[slot]) != 0) {
+      int i = e - 1;
+      if (hashes[i] == h && nameEquals(name, names[i])) {
+        if (i < encodedLength) {
+          encoded = null;
         }
+        names[i] = null;
+        values[i] = null;
+        count--;
+        // Another entry might be shifted in this slot, check it again
+        deleteSlot(slot);
       } else {
-        break;
+        slot = (slot + 1) & mask;
       }
     }
+  }
 
-    for (;;) {
-      VertxHttpHeaders.MapEntry next = e.next;
-      if (next == null) {
+  /**
+   * Delete an index slot, shifting back the next entries of the probe sequence so they remain reachable.
+   */
+  private void deleteSlot(int hole) {
+    int mask = index.length - 1;
+    int slot = hole;
+    while (true) {
+      slot = (slot + 1) & mask;
+      int e = index[slot];
+      if (e == 0) {
         break;
       }
-      if (next.hash == h && AsciiString.contentEqualsIgnoreCase(name, next.key)) {
-        e.next = next.next;
-        next.remove();
-      } else {
-        e = next;
+      int home = hashes[e - 1] & mask;
+      // The entry can move to the hole when its home slot is not cyclically within (hole, slot]
+      if (hole <= slot ? (home <= hole || home > slot) : (home <= hole && home > slot)) {
+        index[hole] = e;
+        hole = slot;
       }
     }
+    index[hole] = 0;
   }
 
-  private void add0(int h, int i, final CharSequence name, final CharSequence value) {
+  private void add0(int h, CharSequence name, final CharSequence value) {
     if (!(name instanceof AsciiString)) {
       HttpUtils.validateHeader(name);
     }
     if (!(value instanceof AsciiString)) {
       HttpUtils.validateHeader(value);
     }
-    // Update the hash table.
-    VertxHttpHeaders.MapEntry e = entries[i];
-    VertxHttpHeaders.MapEntry newEntry;
-    entries[i] = newEntry = new VertxHttpHeaders.MapEntry(h, name, value);
-    newEntry.next = e;
+    checkWritable();
+    if (length == names.length) {
+      // Reclaim the removed entries before growing
+      resize(count < length / 2 ? names.length : names.length * 2);
+    }
+    int i = length++;
+    names[i] = intern(h, name);
+    values[i] = value;
+    hashes[i] = h;
+    count++;
+    insert(i);
+  }
+
+  private void checkWritable() {
+    if (readOnly) {
+      throw new UnsupportedOperationException("Pre-encoded headers are immutable");
+    }
+  }
 
-    // Update the linked list.
-    newEntry.addBefore(head);
+  /**
+   * Encode the headers for HTTP/1.x, the entries of a pre-encoded snapshot that were not modified are copied at once.
+   *
+   * @param buf the buffer to write to
+   */
+  public void encode(ByteBuf buf) {
+    int from = 0;
+    if (encoded != null) {
+      buf.writeBytes(encoded, encoded.readerIndex(), encoded.readableBytes());
+      from = encodedLength;
+    }
+    for (int i = from;i < length;i++) {
+      if (names[i] != null) {
+        encodeHeader(names[i], values[i], buf);
+      }
+    }
+  }
+
+  private static void encodeHeader(CharSequence name, CharSequence value, ByteBuf buf) {
+    int nameLen = name.length();
+    int valueLen = value.length();
+    buf.ensureWritable(nameLen + valueLen + 4);
+    int offset = buf.writerIndex();
+    writeAscii(buf, offset, name);
+    offset += nameLen;
+    ByteBufUtil.setShortBE(buf, offset, COLON_AND_SPACE_SHORT);
+    offset += 2;
+    writeAscii(buf, offset, value);
+    offset += valueLen;
+    ByteBufUtil.setShortBE(buf, offset, CRLF_SHORT);
+    offset += 2;
+    buf.writerIndex(offset);
+  }
+
+  private static void writeAscii(ByteBuf buf, int offset, CharSequence value) {
+    if (value instanceof AsciiString) {
+      ByteBufUtil.copy((AsciiString) value, 0, buf, offset, value.length());
+    } else {
+      buf.setCharSequence(offset, value, CharsetUtil.US_ASCII);
+    }
+  }
+
+  private void insert(int i) {
+    int mask = index.length - 1;
+    int slot = hashes[i] & mask;
+    while (index[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    index[slot] = i + 1;
+  }
+
+  private void resize(int capacity) {
+    CharSequence[] names = new CharSequence[capacity];
+    CharSequence[] values = new CharSequence[capacity];
+    int[] hashes = new int[capacity];
+    int j = 0;
+    for (int i = 0;i < length;i++) {
+      if (this.names[i] != null) {
+        names[j] = this.names[i];
+        values[j] = this.values[i];
+        hashes[j] = this.hashes[i];
+        j++;
+      }
+    }
+    this.names = names;
+    this.values = values;
+    this.hashes = hashes;
+    this.length = j;
+    this.index = new int[capacity * 2];
+    for (int i = 0;i < j;i++) {
+      insert(i);
+    }
   }
 
   private VertxHttpHeaders set0(final CharSequence name, final CharSequence strVal) {
     int h = AsciiString.hashCode(name);
-    int i = index(h);
-    remove0(h, i, name);
+    remove0(h, name);
     if (strVal != null) {
       // test me
-      add0(h, i, name, strVal);
+      add0(h, name, strVal);
     }
     return this;
   }
 
+  /**
+   * @return the value of the last entry added with this name
+   */
   private CharSequence get0(CharSequence name) {
     int h = AsciiString.hashCode(name);
-    int i = index(h);
-    VertxHttpHeaders.MapEntry e = entries[i];
-    while (e != null) {
-      if (e.hash == h && AsciiString.contentEqualsIgnoreCase(name, e.key)) {
-        return e.getValue();
+    int mask = index.length - 1;
+    int slot = h & mask;
+    int last = -1;
+    int e;
+    while ((e = index[slot]) != 0) {
+      int i = e - 1;
+      if (i > last && hashes[i] == h && nameEquals(name, names[i])) {
+        last = i;
       }
-      e = e.next;
+      slot = (slot + 1) & mask;
     }
-    return null;
+    return last != -1 ? values[last] : null;
   }
 
   private MultiMap set0(Iterable<Map.Entry<String, String>> map) {
@@ -12,6 +12,7 @@
 package io.vertx.core.http.impl.pool;
 
 import io.netty.channel.Channel;
+import io.netty.util.concurrent.EventExecutor;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -62,6 +63,16 @@ import java.util.function.BiConsumer;
  * it is either added to the queue or served from the pool) and decremented when the it gets a reply (either with
  * a connection or with a failure).
  *
+ * A pool can be a shard of a {@link ShardedPool}, the weight is then reserved against the budget shared by all the
+ * shards and a waiter queued in a shard can be lent a connection available in another shard. Lending only holds the
+ * lock of the lending shard, the pool lock is never held when calling another shard.
+ *
+ * A shard can be owned by an {@link #eventLoop}, the connections running on this event loop are then recycled in the
+ * {@link #local} queue confined to the event loop and a waiter calling from the event loop is served inline from this
+ * queue, without holding the pool lock, allocating a {@link Waiter} or executing a task. The events of these connections
+ * are always handled on the event loop, the local connections are published to the {@link #available} list when
+ * waiters are queued in a shard, so the pool lock is only used to steal connections between shards.
+ *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
@@ -82,6 +93,8 @@ public class Pool<C> {
     ContextInternal context;  // Context associated with the connection
     long weight;              // The weight that participates in the pool weight
     long expirationTimestamp; // The expiration timestamp when (concurrency == capacity) otherwise -1L
+    boolean owned;            // Whether the connection runs on the event loop owning the pool
+    boolean local;            // Whether the connection is confined to the event loop owning the pool
 
     @Override
     public String toString() {
@@ -96,7 +109,7 @@ public class Pool<C> {
   private final BiConsumer<Channel, C> connectionRemoved;
 
   private final int queueMaxSize;                                   // the queue max size (does not include inflight waiters)
-  private final Queue<Waiter<C>> waitersQueue = new ArrayDeque<>(); // The waiters pending
+  private final Deque<Waiter<C>> waitersQueue = new ArrayDeque<>(); // The waiters pending
   private int waitersCount;                                         // The number of waiters (including the inflight waiters not in the queue)
 
   private final Deque<Holder<C>> available;                         // Available connections
@@ -109,6 +122,14 @@ public class Pool<C> {
   private boolean closed;
   private final Handler<Void> poolClosed;
 
+  private final ShardedPool<C> owner;                               // The sharded pool this pool is a shard of or null
+  private final EventExecutor eventLoop;                            // The event loop owning this shard or null
+  private final Deque<Holder<C>> local;                             // Available connections confined to the event loop
+  private volatile boolean localAvailable;                          // Whether local connections are available, read by other threads
+  private volatile boolean lendable;                                // Whether connections are available, read by other shards
+  private volatile boolean waiting;                                 // Whether waiters are queued, read by other shards
+  private volatile boolean surplus;                                 // Whether other shards can be served from this pool
+  private boolean surplusReleased;                                  // Whether the surplus includes released weight
 
   public Pool(ConnectionProvider<C> connector,
               int queueMaxSize,
@@ -118,6 +139,22 @@ public class Pool<C> {
               BiConsumer<Channel, C> connectionAdded,
               BiConsumer<Channel, C> connectionRemoved,
               boolean fifo) {
+    this(null, null, connector, queueMaxSize, initialWeight, maxWeight, poolClosed, connectionAdded, connectionRemoved, fifo);
+  }
+
+  Pool(ShardedPool<C> owner,
+       EventExecutor eventLoop,
+       ConnectionProvider<C> connector,
+       int queueMaxSize,
+       long initialWeight,
+       long maxWeight,
+       Handler<Void> poolClosed,
+       BiConsumer<Channel, C> connectionAdded,
+       BiConsumer<Channel, C> connectionRemoved,
+       boolean fifo) {
+    this.owner = owner;
+    this.eventLoop = eventLoop;
+    this.local = eventLoop != null ? new ArrayDeque<>() : null;
     this.maxWeight = maxWeight;
     this.initialWeight = initialWeight;
     this.connector = connector;
@@ -152,33 +189,198 @@ public class Pool<C> {
    * @param handler the handler
    * @return whether the pool can satisfy the request
    */
-  public synchronized boolean getConnection(ContextInternal context, Handler<AsyncResult<C>> handler) {
-    if (closed) {
+  public boolean getConnection(ContextInternal context, Handler<AsyncResult<C>> handler) {
+    Waiter<C> waiter = new Waiter<>(context, handler);
+    boolean queued = false;
+    synchronized (this) {
+      if (closed) {
+        return false;
+      }
+      int size = waitersQueue.size();
+      if (size == 0 && acquireConnection(waiter)) {
+        waitersCount++;
+      } else if (queueMaxSize < 0  || size < queueMaxSize) {
+        waitersCount++;
+        addWaiter(waiter);
+        queued = true;
+      } else {
+        waiter.context.nettyEventLoop().execute(() -> {
+          waiter.handler.handle(Future.failedFuture(new ConnectionPoolTooBusyException("Connection pool reached max wait queue size of " + queueMaxSize)));
+        });
+      }
+      updateLendable();
+    }
+    handOffSurplus();
+    if (queued && owner != null) {
+      publishLocal();
+      owner.steal(this);
+    }
+    return true;
+  }
+
+  /**
+   * Borrow a local connection when called from the event loop owning the pool and no waiters are queued, the
+   * connection is delivered inline.
+   *
+   * @param handler the handler
+   * @return whether the handler was called with a connection
+   */
+  boolean borrowLocal(Handler<AsyncResult<C>> handler) {
+    if (eventLoop == null || waiting || !eventLoop.inEventLoop()) {
       return false;
     }
-    Waiter<C> waiter = new Waiter<>(context, handler);
-    int size = waitersQueue.size();
-    if (size == 0 && acquireConnection(waiter)) {
-      waitersCount++;
-    } else if (queueMaxSize < 0  || size < queueMaxSize) {
-      waitersCount++;
-      waitersQueue.add(waiter);
-    } else {
-      waiter.context.nettyEventLoop().execute(() -> {
-        waiter.handler.handle(Future.failedFuture(new ConnectionPoolTooBusyException("Connection pool reached max wait queue size of " + queueMaxSize)));
-      });
+    Holder<C> conn = local.peek();
+    if (conn == null) {
+      return false;
     }
+    long capacity = conn.capacity--;
+    if (capacity == 1) {
+      conn.expirationTimestamp = -1L;
+      local.poll();
+      updateLocalAvailable();
+    }
+    if (capacity == conn.concurrency) {
+      connector.activate(conn.connection);
+    }
+    handler.handle(Future.succeededFuture(conn.connection));
     return true;
   }
 
+  /**
+   * Recycle a local connection on the event loop owning the pool, the local connections are published when waiters
+   * are queued.
+   *
+   * @return whether the connection was recycled
+   */
+  private boolean recycleLocal(Holder<C> holder, long timestamp) {
+    if (!holder.local) {
+      return false;
+    }
+    long newCapacity = holder.capacity + 1;
+    if (newCapacity > holder.concurrency) {
+      log.debug("Attempt to recycle a connection more than permitted");
+      return true;
+    }
+    if (timestamp == 0L && newCapacity == holder.concurrency) {
+      if (holder.capacity > 0) {
+        local.remove(holder);
+        updateLocalAvailable();
+      }
+      holder.expirationTimestamp = -1L;
+      holder.capacity = 0;
+      connector.close(holder.connection);
+      return true;
+    }
+    if (holder.capacity == 0) {
+      if (fifo) {
+        local.addLast(holder);
+      } else {
+        local.addFirst(holder);
+      }
+      updateLocalAvailable();
+    }
+    holder.expirationTimestamp = timestamp;
+    holder.capacity = newCapacity;
+    if (newCapacity == holder.concurrency) {
+      connector.deactivate(holder.connection);
+    }
+    // Read after the connection is made available, a waiter queued concurrently reads localAvailable after it
+    if (waiting || owner.isWaiting()) {
+      publishLocal();
+    }
+    return true;
+  }
+
+  /**
+   * Move an idle connection recycled on the event loop owning the pool to the local connections when no waiters
+   * are queued.
+   */
+  private void localize(Holder<C> holder) {
+    if (holder.owned && !holder.removed && holder.capacity == holder.concurrency && !waiting && !owner.isWaiting()) {
+      available.remove(holder);
+      holder.local = true;
+      local.add(holder);
+      updateLocalAvailable();
+      updateLendable();
+    }
+  }
+
+  /**
+   * Return a local connection to the pool lock, the connection events are handled on the event loop so it can
+   * only be called from the event loop.
+   */
+  private void unlocal(Holder<C> holder) {
+    if (holder.local) {
+      holder.local = false;
+      if (holder.capacity > 0) {
+        local.remove(holder);
+        available.add(holder);
+        updateLocalAvailable();
+        updateLendable();
+      }
+    }
+  }
+
+  /**
+   * Publish the local connections to the waiters of this pool and of the other shards, on the event loop owning
+   * the pool.
+   */
+  void publishLocal() {
+    if (eventLoop == null || !localAvailable) {
+      return;
+    }
+    if (!eventLoop.inEventLoop()) {
+      eventLoop.execute(this::publishLocal);
+      return;
+    }
+    synchronized (this) {
+      Holder<C> holder;
+      while ((holder = local.poll()) != null) {
+        holder.local = false;
+        available.add(holder);
+      }
+      updateLocalAvailable();
+      checkPending();
+    }
+    surplus(false);
+  }
+
+  private void updateLocalAvailable() {
+    if (localAvailable != local.size() > 0) {
+      localAvailable = !localAvailable;
+    }
+  }
+
   /**
    * Attempt to acquire a connection for the waiter, either borrowed from the pool or by creating a new connection.
    *
-   * This method does not modify the waitersQueue list.
+   * This method does not modify the waitersQueue list. No connection is created while local connections are available,
+   * the waiter is then served when they are published on the event loop.
    *
    * @return wether the waiter is assigned a connection (or a future connection)
    */
   private boolean acquireConnection(Waiter<C> waiter) {
+    if (borrowConnection(waiter)) {
+      waitersCount--;
+      return true;
+    } else if (!localAvailable && reserveWeight()) {
+      waiter.context.nettyEventLoop().execute(() -> {
+        createConnection(waiter);
+      });
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Borrow an available connection for the waiter.
+   *
+   * This method does not modify the waiters count.
+   *
+   * @return whether the waiter is assigned a connection
+   */
+  private boolean borrowConnection(Waiter<C> waiter) {
     if (available.size() > 0) {
       Holder<C> conn = available.peek();
       long capacity = conn.capacity--;
@@ -187,7 +389,6 @@ public class Pool<C> {
         available.poll();
       }
       ContextInternal ctx = conn.context;
-      waitersCount--;
       if (capacity == conn.concurrency) {
         connector.activate(conn.connection);
       }
@@ -195,35 +396,188 @@ public class Pool<C> {
         waiter.handler.handle(Future.succeededFuture(conn.connection));
       });
       return true;
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Lend an available connection to the waiter of another shard.
+   *
+   * @return whether the waiter is assigned a connection
+   */
+  boolean lend(Waiter<C> waiter) {
+    boolean lent;
+    synchronized (this) {
+      lent = !closed && borrowConnection(waiter);
+      updateLendable();
+    }
+    handOffSurplus();
+    return lent;
+  }
+
+  /**
+   * Serve the waiters queue with connections lent by {@code other} while it has connections available, a waiter is
+   * put back at the head of the queue when {@code other} fails to lend a connection.
+   */
+  void serveFrom(Pool<C> other) {
+    try {
+      while (true) {
+        Waiter<C> waiter;
+        synchronized (this) {
+          checkPending();
+          if (!other.lendable) {
+            return;
+          }
+          waiter = pollWaiter();
+          if (waiter == null) {
+            return;
+          }
+          waitersCount--;
+        }
+        if (!other.lend(waiter)) {
+          synchronized (this) {
+            waitersCount++;
+            waitersQueue.addFirst(waiter);
+            setWaiting(true);
+            checkPending();
+          }
+          return;
+        }
+      }
+    } finally {
+      handOffSurplus();
+    }
+  }
+
+  void servePending() {
+    synchronized (this) {
+      checkPending();
+    }
+    handOffSurplus();
+  }
+
+  boolean isLendable() {
+    return lendable;
+  }
+
+  boolean isWaiting() {
+    return waiting;
+  }
+
+  private boolean reserveWeight() {
+    if (owner != null) {
+      if (owner.reserveWeight(initialWeight)) {
+        weight += initialWeight;
+        return true;
+      }
+      return false;
     } else if (weight < maxWeight) {
       weight += initialWeight;
-      waiter.context.nettyEventLoop().execute(() -> {
-        createConnection(waiter);
-      });
       return true;
     } else {
       return false;
     }
   }
 
+  private void addWeight(long delta) {
+    weight += delta;
+    if (owner != null) {
+      owner.addWeight(delta);
+    }
+  }
+
+  private void addWaiter(Waiter<C> waiter) {
+    waitersQueue.add(waiter);
+    setWaiting(true);
+  }
+
+  private Waiter<C> pollWaiter() {
+    Waiter<C> waiter = waitersQueue.poll();
+    if (waitersQueue.isEmpty()) {
+      setWaiting(false);
+    }
+    return waiter;
+  }
+
+  private void setWaiting(boolean value) {
+    if (owner != null && waiting != value) {
+      waiting = value;
+      owner.waiting(value);
+    }
+  }
+
+  private void updateLendable() {
+    if (owner != null && lendable != available.size() > 0) {
+      lendable = !lendable;
+    }
+  }
+
+  /**
+   * Record a surplus and hand it to the other shards, nothing is recorded when no waiters are queued in the shards:
+   * a waiter steals from the other shards after it is queued.
+   *
+   * @param released whether weight was released, otherwise only the available connections can serve other shards
+   */
+  private void surplus(boolean released) {
+    if (owner != null && owner.isWaiting()) {
+      synchronized (this) {
+        surplus = true;
+        surplusReleased |= released;
+      }
+      handOffSurplus();
+    }
+  }
+
+  /**
+   * Hand the recorded surplus to the other shards. Another shard is never called while holding the pool lock, when
+   * the lock is held the surplus stays recorded and is handed off by the lock holder after it releases the lock.
+   */
+  private void handOffSurplus() {
+    if (owner == null || !surplus || Thread.holdsLock(this)) {
+      return;
+    }
+    boolean released;
+    synchronized (this) {
+      if (!surplus) {
+        return;
+      }
+      released = surplusReleased;
+      surplus = false;
+      surplusReleased = false;
+    }
+    owner.surplus(this, released);
+  }
+
   /**
    * Close all unused connections with a {@code timestamp} greater than expiration timestamp.
    *
    * @param timestamp the timestamp value
    * @return the number of closed connections when calling this method
    */
-  public synchronized int closeIdle(long timestamp) {
+  public int closeIdle(long timestamp) {
+    if (eventLoop != null && localAvailable) {
+      if (!eventLoop.inEventLoop()) {
+        eventLoop.execute(() -> closeIdle(timestamp));
+        return 0;
+      }
+      publishLocal();
+    }
     int removed = 0;
-    if (waitersQueue.isEmpty() && available.size() > 0) {
-      List<Holder<C>> copy = new ArrayList<>(available);
-      for (Holder<C> conn : copy) {
-        if (conn.capacity == conn.concurrency && conn.expirationTimestamp <= timestamp) {
-          removed++;
-          closeConnection(conn);
-          connector.close(conn.connection);
+    synchronized (this) {
+      if (waitersQueue.isEmpty() && available.size() > 0) {
+        List<Holder<C>> copy = new ArrayList<>(available);
+        for (Holder<C> conn : copy) {
+          if (conn.capacity == conn.concurrency && conn.expirationTimestamp <= timestamp) {
+            removed++;
+            closeConnection(conn);
+            connector.close(conn.connection);
+          }
         }
+        updateLendable();
       }
     }
+    handOffSurplus();
     return removed;
   }
 
@@ -231,21 +585,27 @@ public class Pool<C> {
     while (waitersQueue.size() > 0) {
       Waiter<C> waiter = waitersQueue.peek();
       if (acquireConnection(waiter)) {
-        waitersQueue.poll();
+        pollWaiter();
       } else {
         break;
       }
     }
+    updateLendable();
   }
 
   private ConnectionListener<C> createListener(Holder<C> holder) {
     return new ConnectionListener<C>() {
       @Override
       public void onConcurrencyChange(long concurrency) {
+        if (holder.owned && !eventLoop.inEventLoop()) {
+          eventLoop.execute(() -> onConcurrencyChange(concurrency));
+          return;
+        }
         synchronized (Pool.this) {
           if (holder.removed) {
             return;
           }
+          unlocal(holder);
           if (holder.concurrency < concurrency) {
             long diff = concurrency - holder.concurrency;
             if (holder.capacity == 0) {
@@ -258,6 +618,7 @@ public class Pool<C> {
             throw new UnsupportedOperationException("Not yet implemented");
           }
         }
+        surplus(false);
       }
 
       @Override
@@ -265,22 +626,39 @@ public class Pool<C> {
         if (expirationTimestamp < 0L) {
           throw new IllegalArgumentException("Invalid TTL");
         }
+        if (holder.owned) {
+          if (!eventLoop.inEventLoop()) {
+            eventLoop.execute(() -> onRecycle(expirationTimestamp));
+            return;
+          }
+          if (recycleLocal(holder, expirationTimestamp)) {
+            return;
+          }
+        }
         synchronized (Pool.this) {
           if (holder.removed) {
             return;
           }
           recycle(holder, 1, expirationTimestamp);
+          localize(holder);
         }
+        surplus(expirationTimestamp == 0L);
       }
 
       @Override
       public void onDiscard() {
+        if (holder.owned && !eventLoop.inEventLoop()) {
+          eventLoop.execute(this::onDiscard);
+          return;
+        }
         synchronized (Pool.this) {
           if (holder.removed) {
             return;
           }
+          unlocal(holder);
           closed(holder);
         }
+        surplus(true);
       }
     };
   }
@@ -296,32 +674,40 @@ public class Pool<C> {
           initConnection(holder, result.context(), result.concurrency(), result.connection(), result.channel(), result.weight());
         }
         // Init connection - state might change (i.e init could close the connection)
+        boolean requeued;
         synchronized (Pool.this) {
-          if (holder.capacity == 0) {
-            waitersQueue.add(waiter);
+          requeued = holder.capacity == 0;
+          if (requeued) {
+            addWaiter(waiter);
             checkPending();
-            return;
-          }
-          waitersCount--;
-          holder.capacity--;
-          if (holder.capacity > 0) {
-            available.add(holder);
+          } else {
+            waitersCount--;
+            holder.capacity--;
+            if (holder.capacity > 0) {
+              available.add(holder);
+            }
+            connector.activate(holder.connection);
           }
-          connector.activate(holder.connection);
+        }
+        if (requeued) {
+          handOffSurplus();
+          return;
         }
         waiter.handler.handle(Future.succeededFuture(holder.connection));
         synchronized (Pool.this) {
           checkPending();
         }
+        surplus(false);
       } else {
         waiter.handler.handle(Future.failedFuture(ar.cause()));
         synchronized (Pool.this) {
           waitersCount--;
-          Pool.this.weight -= initialWeight;
+          addWeight(-initialWeight);
           holder.removed = true;
           checkPending();
           checkClose();
         }
+        surplus(true);
       }
     });
   }
@@ -345,7 +731,7 @@ public class Pool<C> {
       available.remove(holder);
       holder.capacity = 0;
     }
-    weight -= holder.weight;
+    addWeight(-holder.weight);
   }
 
   // These methods assume to be called under synchronization
@@ -378,7 +764,7 @@ public class Pool<C> {
   }
 
   private void initConnection(Holder<C> holder, ContextInternal context, long concurrency, C conn, Channel channel, long weight) {
-    this.weight += initialWeight - weight;
+    addWeight(initialWeight - weight);
     holder.context = context;
     holder.concurrency = concurrency;
     holder.connection = conn;
@@ -386,11 +772,12 @@ public class Pool<C> {
     holder.weight = weight;
     holder.capacity = concurrency;
     holder.expirationTimestamp = -1L;
+    holder.owned = eventLoop != null && context.nettyEventLoop() == eventLoop;
     connectionAdded.accept(holder.channel, holder.connection);
   }
 
   private void checkClose() {
-    if (weight == 0 && waitersCount == 0) {
+    if (owner == null && weight == 0 && waitersCount == 0) {
       // No waitersQueue and no connections - remove the ConnQueue
       closed = true;
       poolClosed.handle(null);
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl.pool;
+
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.ContextInternal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * A pool split in shards, usually one shard per event loop, so waiters running on different event loops do not
+ * contend on the same pool lock.
+ *
+ * The shards share the {@link #maxWeight} budget: the weight of a new connection is reserved with a CAS on the
+ * shared {@link #weight} instead of the shard weight.
+ *
+ * A waiter queued in a shard steals an available connection from another shard, likewise when a shard recycles a
+ * connection or releases weight while waiters are queued in other shards, these shards are served with the surplus.
+ * A shard lock is never held while calling another shard.
+ *
+ * The max wait queue size is divided between the shards.
+ *
+ * When the pool is created with event loops, each shard is owned by its event loop: a waiter calling from the event
+ * loop of its shard borrows a connection running on this event loop inline and without locking, see {@link Pool}.
+ * The number of shards with queued waiters is tracked in {@link #waitingShards} so the shards do not look for
+ * waiters to serve when there are none.
+ *
+ * Like {@link Pool}, a sharded pool is closed when it has no connections and no waiters, the count of waiters of all
+ * the shards is tracked in {@link #waiters} and set to {@code -1} when the pool is closed.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class ShardedPool<C> {
+
+  private final Pool<C>[] shards;
+  private final long maxWeight;
+  private final AtomicLong weight = new AtomicLong(); // The weight of all the shards
+  private final AtomicInteger waiters = new AtomicInteger(); // The waiters of all the shards or -1 when closed
+  private final AtomicInteger waitingShards = new AtomicInteger(); // The shards with queued waiters
+  private final Handler<Void> poolClosed;
+
+  public ShardedPool(ConnectionProvider<C> connector,
+                     int numShards,
+                     int queueMaxSize,
+                     long initialWeight,
+                     long maxWeight,
+                     Handler<Void> poolClosed,
+                     BiConsumer<Channel, C> connectionAdded,
+                     BiConsumer<Channel, C> connectionRemoved,
+                     boolean fifo) {
+    this(connector, new EventExecutor[Math.max(numShards, 0)], queueMaxSize, initialWeight, maxWeight, poolClosed, connectionAdded, connectionRemoved, fifo);
+  }
+
+  /**
+   * Create a pool with a shard owned by each event loop of {@code eventLoops}, a {@code null} event loop creates a
+   * shard that is not owned.
+   */
+  @SuppressWarnings("unchecked")
+  public ShardedPool(ConnectionProvider<C> connector,
+                     EventExecutor[] eventLoops,
+                     int queueMaxSize,
+                     long initialWeight,
+                     long maxWeight,
+                     Handler<Void> poolClosed,
+                     BiConsumer<Channel, C> connectionAdded,
+                     BiConsumer<Channel, C> connectionRemoved,
+                     boolean fifo) {
+    int numShards = eventLoops.length;
+    if (numShards < 1) {
+      throw new IllegalArgumentException("numShards must be > 0");
+    }
+    this.maxWeight = maxWeight;
+    this.poolClosed = poolClosed;
+    this.shards = new Pool[numShards];
+    for (int i = 0;i < numShards;i++) {
+      shards[i] = new Pool<>(this, eventLoops[i], connector, shardQueueMaxSize(queueMaxSize, numShards, i), initialWeight, maxWeight, null, connectionAdded, connectionRemoved, fifo);
+    }
+  }
+
+  /**
+   * @return the share of the {@code queueMaxSize} of the shard at {@code index}, the shares sum up to {@code queueMaxSize}
+   */
+  static int shardQueueMaxSize(int queueMaxSize, int numShards, int index) {
+    if (queueMaxSize < 0) {
+      return queueMaxSize;
+    }
+    return queueMaxSize / numShards + (index < queueMaxSize % numShards ? 1 : 0);
+  }
+
+  public int size() {
+    return shards.length;
+  }
+
+  public Pool<C> shard(int index) {
+    return shards[index];
+  }
+
+  public long weight() {
+    return weight.get();
+  }
+
+  public int waitersInQueue() {
+    int count = 0;
+    for (Pool<C> shard : shards) {
+      count += shard.waitersInQueue();
+    }
+    return count;
+  }
+
+  /**
+   * Get a connection for a waiter asynchronously from the shard at {@code index}.
+   *
+   * @param index the shard index
+   * @param context the context
+   * @param handler the handler
+   * @return whether the pool can satisfy the request
+   */
+  public boolean getConnection(int index, ContextInternal context, Handler<AsyncResult<C>> handler) {
+    Pool<C> shard = shards[index];
+    if (shard.borrowLocal(handler)) {
+      // A local connection holds weight, the pool cannot be closed
+      return true;
+    }
+    while (true) {
+      int count = waiters.get();
+      if (count < 0) {
+        return false;
+      }
+      if (waiters.compareAndSet(count, count + 1)) {
+        break;
+      }
+    }
+    return shard.getConnection(context, ar -> {
+      if (waiters.decrementAndGet() == 0) {
+        checkClose();
+      }
+      handler.handle(ar);
+    });
+  }
+
+  /**
+   * Close all unused connections of all shards with a {@code timestamp} greater than expiration timestamp.
+   *
+   * @param timestamp the timestamp value
+   * @return the number of closed connections when calling this method
+   */
+  public int closeIdle(long timestamp) {
+    int removed = 0;
+    for (Pool<C> shard : shards) {
+      int n = shard.closeIdle(timestamp);
+      if (n > 0) {
+        removed += n;
+        surplus(shard, true);
+      }
+    }
+    return removed;
+  }
+
+  boolean reserveWeight(long delta) {
+    while (true) {
+      long current = weight.get();
+      if (current >= maxWeight) {
+        return false;
+      }
+      if (weight.compareAndSet(current, current + delta)) {
+        return true;
+      }
+    }
+  }
+
+  void addWeight(long delta) {
+    if (weight.addAndGet(delta) == 0L) {
+      checkClose();
+    }
+  }
+
+  /**
+   * Close the pool when it has no connections and no waiters, this only uses the shared counters and can be called
+   * while holding the lock of a shard.
+   */
+  private void checkClose() {
+    if (weight.get() == 0L && waiters.compareAndSet(0, -1)) {
+      // The weight is only reserved by waiters, it cannot increase once the waiters are locked out
+      if (weight.get() == 0L) {
+        poolClosed.handle(null);
+      } else {
+        waiters.set(0);
+      }
+    }
+  }
+
+  boolean isWaiting() {
+    return waitingShards.get() > 0;
+  }
+
+  void waiting(boolean value) {
+    if (value) {
+      waitingShards.incrementAndGet();
+    } else {
+      waitingShards.decrementAndGet();
+    }
+  }
+
+  /**
+   * Serve the waiters of {@code to} with the connections available in the other shards, the shards with local
+   * connections publish them on their event loop.
+   */
+  void steal(Pool<C> to) {
+    if (weight.get() < maxWeight) {
+      // Weight was released by another shard after the waiter failed to reserve it
+      to.servePending();
+    }
+    for (Pool<C> from : shards) {
+      if (!to.isWaiting()) {
+        break;
+      }
+      if (from != to) {
+        from.publishLocal();
+        if (from.isLendable()) {
+          to.serveFrom(from);
+        }
+      }
+    }
+  }
+
+  /**
+   * Serve the waiters of the other shards with the connections available in {@code from} or with the weight it released.
+   */
+  void surplus(Pool<C> from, boolean released) {
+    if (!isWaiting()) {
+      return;
+    }
+    for (Pool<C> to : shards) {
+      if (!released && !from.isLendable()) {
+        break;
+      }
+      if (to != from && to.isWaiting()) {
+        to.serveFrom(from);
+      }
+    }
+  }
+}
@@ -193,10 +193,17 @@ abstract class ContextImpl implements ContextInternal {
   // Run the task asynchronously on this same context
   @Override
   public void runOnContext(Handler<Void> task) {
+    tryRunOnContext(task);
+  }
+
+  @Override
+  public boolean tryRunOnContext(Handler<Void> task) {
     try {
       executeAsync(task);
+      return true;
     } catch (RejectedExecutionException ignore) {
       // Pool is already shut down
+      return false;
     }
   }
 
@@ -69,6 +69,15 @@ public interface ContextInternal extends Context {
   @Override
   VertxInternal owner();
 
+  /**
+   * Like {@link #runOnContext(Handler)} but the caller is told when the {@code task} is dropped because this
+   * context cannot execute tasks anymore.
+   *
+   * @param task the task to run
+   * @return {@code false} when the {@code task} has been rejected and will never run
+   */
+  boolean tryRunOnContext(Handler<Void> task);
+
   /**
    * Like {@link #executeFromIO(Object, Handler)} but with no argument.
    */
@@ -14,8 +14,9 @@ package io.vertx.core.impl;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
-import java.util.LinkedList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A task queue that always run all tasks in order. The executor to run the tasks is passed when
@@ -25,6 +26,10 @@ import java.util.concurrent.Executor;
  * More specifically, any call B to the {@link #execute(Runnable, Executor)} method that happens-after another call A to the
  * same method, will result in B's task running after A's.
  *
+ * The queue is a lock-free multi-producer / single-consumer linked list: producers append with a single atomic
+ * swap of the tail and the runner, which is scheduled by the producer that moves the queue out of the idle state,
+ * is the only consumer.
+ *
  * @author <a href="david.lloyd@jboss.com">David Lloyd</a>
  * @author <a href="mailto:tim.fox@jboss.com">Tim Fox</a>
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -35,8 +40,9 @@ public class TaskQueue {
 
   private static class Task {
 
-    private final Runnable runnable;
+    private Runnable runnable;
     private final Executor exec;
+    private volatile Task next;
 
     public Task(Runnable runnable, Executor exec) {
       this.runnable = runnable;
@@ -44,41 +50,64 @@ public class TaskQueue {
     }
   }
 
-  // @protectedby tasks
-  private final LinkedList<Task> tasks = new LinkedList<>();
+  // Consumer side, only accessed by the runner
+  private Task head;
+
+  // Producer side
+  private final AtomicReference<Task> tail;
+
+  // Whether the runner is scheduled or running
+  private final AtomicBoolean scheduled = new AtomicBoolean();
 
-  // @protectedby tasks
+  // @protectedby scheduled
   private Executor current;
 
   private final Runnable runner;
 
   public TaskQueue() {
+    Task stub = new Task(null, null);
+    head = stub;
+    tail = new AtomicReference<>(stub);
     runner = this::run;
   }
 
+  private Task peek() {
+    Task next = head.next;
+    if (next == null && head != tail.get()) {
+      // A producer swapped the tail but did not link its task yet
+      do {
+        next = head.next;
+      } while (next == null);
+    }
+    return next;
+  }
+
   private void run() {
     for (; ; ) {
-      final Task task;
-      synchronized (tasks) {
-        task = tasks.poll();
-        if (task == null) {
-          current = null;
-          return;
-        }
-        if (task.exec != current) {
-          tasks.addFirst(task);
-          task.exec.execute(runner);
-          current = task.exec;
+      Task task = peek();
+      if (task == null) {
+        scheduled.set(false);
+        // A producer may have appended a task after the peek and lost the race to schedule the runner
+        if (head == tail.get() || !scheduled.compareAndSet(false, true)) {
           return;
         }
+        continue;
+      }
+      if (task.exec != current) {
+        current = task.exec;
+        task.exec.execute(runner);
+        return;
       }
+      head = task;
+      Runnable runnable = task.runnable;
+      task.runnable = null;
       try {
-        task.runnable.run();
+        runnable.run();
       } catch (Throwable t) {
         log.error("Caught unexpected Throwable", t);
       }
     }
-  };
+  }
 
   /**
    * Run a task.
@@ -86,12 +115,12 @@ public class TaskQueue {
    * @param task the task to run.
    */
   public void execute(Runnable task, Executor executor) {
-    synchronized (tasks) {
-      tasks.add(new Task(task, executor));
-      if (current == null) {
-        current = executor;
-        executor.execute(runner);
-      }
+    Task t = new Task(task, executor);
+    Task prev = tail.getAndSet(t);
+    prev.next = t;
+    if (scheduled.compareAndSet(false, true)) {
+      current = executor;
+      executor.execute(runner);
     }
   }
 }
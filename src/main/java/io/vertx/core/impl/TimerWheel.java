@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Closeable;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.spi.metrics.VertxMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A hashed timing wheel owned by a single event loop.
+ * <p>
+ * Timers are kept in an array of buckets indexed by their deadline tick. Arming and cancelling a timer from the
+ * event loop thread is a constant time list operation, other threads hand over the timer to the event loop. The
+ * wheel is advanced by a single task scheduled on the event loop at the first tick holding timers, the empty ticks
+ * are skipped. Each tick expires the timers of the elapsed buckets in a batch.
+ * <p>
+ * Each bucket keeps a lower bound of the deadline ticks of its timers, exact after the bucket has been visited by a
+ * tick, so the next tick is found from the buckets without walking their timers.
+ * <p>
+ * The live timers are registered in a table of slots, a timer id is {@code (generation << SLOT_BITS | slot) * stride + index}
+ * so the owning wheel and the slot of a timer are found from its id, the generation of the slot tells apart the
+ * timers that reused the slot.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+class TimerWheel {
+
+  private static final int WHEEL_SIZE = 512;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  private static final int SLOT_BITS = 24;
+  private static final long SLOT_MASK = (1L << SLOT_BITS) - 1;
+
+  private final EventLoop eventLoop;
+  private final int index;
+  private final int stride;
+  private final long tickNanos;
+  private final VertxMetrics metrics;
+  private final long startTime = System.nanoTime();
+  private final long generationMask;
+  private final ConcurrentLinkedQueue<Timeout> inbox = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean inboxScheduled = new AtomicBoolean();
+  private final Runnable drainInbox = this::drainInbox;
+  private final Runnable tick = this::tick;
+
+  // Only accessed from the event loop thread
+  private final Timeout[] heads = new Timeout[WHEEL_SIZE];
+  private final Timeout[] tails = new Timeout[WHEEL_SIZE];
+  private final long[] minTicks = new long[WHEEL_SIZE];
+  private final ArrayList<Timeout> expired = new ArrayList<>();
+  private long processedTick;
+  private int size;
+  private boolean ticking;
+  private long scheduledTick = Long.MAX_VALUE;
+  private ScheduledFuture<?> scheduledTickFuture;
+
+  // Guarded by this
+  private Timeout[] slots = new Timeout[64];
+  private long[] generations = new long[64];
+  private int[] freeSlots = new int[64];
+  private int freeCount;
+  private int usedSlots;
+
+  TimerWheel(EventLoop eventLoop, int index, int stride, long tickDuration, VertxMetrics metrics) {
+    this.eventLoop = eventLoop;
+    this.index = index;
+    this.stride = stride;
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+    this.metrics = metrics;
+    // Generations wrap around so the ids never overflow
+    this.generationMask = Long.highestOneBit((Long.MAX_VALUE / stride - 1) >>> SLOT_BITS) - 1;
+    Arrays.fill(minTicks, Long.MAX_VALUE);
+  }
+
+  long schedule(ContextImpl context, Handler<Long> handler, long delay, boolean periodic) {
+    Timeout timeout = new Timeout(handler, periodic, TimeUnit.MILLISECONDS.toNanos(delay), context);
+    long timerID = register(timeout);
+    context.addCloseHook(timeout);
+    if (metrics != null) {
+      metrics.timerCreated(timerID);
+    }
+    if (eventLoop.inEventLoop()) {
+      arm(timeout);
+    } else {
+      handOver(timeout);
+    }
+    return timerID;
+  }
+
+  boolean cancel(long timerID) {
+    Timeout timeout = unregister(timerID);
+    if (timeout != null) {
+      timeout.context.removeCloseHook(timeout);
+      return timeout.cancel();
+    } else {
+      return false;
+    }
+  }
+
+  private synchronized long register(Timeout timeout) {
+    int slot;
+    if (freeCount > 0) {
+      slot = freeSlots[--freeCount];
+    } else {
+      if (usedSlots > SLOT_MASK) {
+        throw new IllegalStateException("Too many timers");
+      }
+      if (usedSlots == slots.length) {
+        int capacity = slots.length * 2;
+        slots = Arrays.copyOf(slots, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+      }
+      slot = usedSlots++;
+    }
+    long generation = generations[slot];
+    generations[slot] = (generation + 1) & generationMask;
+    slots[slot] = timeout;
+    timeout.timerID = ((generation << SLOT_BITS) | slot) * stride + index;
+    return timeout.timerID;
+  }
+
+  /**
+   * @return the timer of the {@code timerID} if it is still registered, it is not registered anymore after this call
+   */
+  private synchronized Timeout unregister(long timerID) {
+    long slot = (timerID / stride) & SLOT_MASK;
+    if (slot >= usedSlots) {
+      return null;
+    }
+    Timeout timeout = slots[(int) slot];
+    if (timeout == null || timeout.timerID != timerID) {
+      return null;
+    }
+    slots[(int) slot] = null;
+    freeSlots[freeCount++] = (int) slot;
+    return timeout;
+  }
+
+  private void handOver(Timeout timeout) {
+    inbox.add(timeout);
+    if (inboxScheduled.compareAndSet(false, true)) {
+      try {
+        eventLoop.execute(drainInbox);
+      } catch (RejectedExecutionException ignore) {
+        // Event loop is already shut down
+      }
+    }
+  }
+
+  private void drainInbox() {
+    inboxScheduled.set(false);
+    Timeout timeout;
+    while ((timeout = inbox.poll()) != null) {
+      if (timeout.cancelled.get()) {
+        if (timeout.linked) {
+          unlink(timeout);
+        }
+      } else if (!timeout.linked) {
+        arm(timeout);
+      }
+    }
+  }
+
+  private long currentTick() {
+    return (System.nanoTime() - startTime) / tickNanos;
+  }
+
+  private void arm(Timeout timeout) {
+    if (size == 0 && !ticking) {
+      processedTick = currentTick();
+    }
+    // Round up so a timer never fires before its deadline
+    long deadlineTick = (timeout.deadline - startTime + tickNanos - 1) / tickNanos;
+    if (deadlineTick <= processedTick) {
+      deadlineTick = processedTick + 1;
+    }
+    timeout.deadlineTick = deadlineTick;
+    int bucket = (int) (deadlineTick & WHEEL_MASK);
+    Timeout tail = tails[bucket];
+    timeout.prev = tail;
+    timeout.next = null;
+    if (tail == null) {
+      heads[bucket] = timeout;
+    } else {
+      tail.next = timeout;
+    }
+    tails[bucket] = timeout;
+    if (deadlineTick < minTicks[bucket]) {
+      minTicks[bucket] = deadlineTick;
+    }
+    timeout.linked = true;
+    size++;
+    if (!ticking && deadlineTick < scheduledTick) {
+      scheduleTick(deadlineTick);
+    }
+  }
+
+  private void unlink(Timeout timeout) {
+    int bucket = (int) (timeout.deadlineTick & WHEEL_MASK);
+    if (timeout.prev == null) {
+      heads[bucket] = timeout.next;
+    } else {
+      timeout.prev.next = timeout.next;
+    }
+    if (timeout.next == null) {
+      tails[bucket] = timeout.prev;
+    } else {
+      timeout.next.prev = timeout.prev;
+    }
+    if (heads[bucket] == null) {
+      minTicks[bucket] = Long.MAX_VALUE;
+    }
+    timeout.prev = null;
+    timeout.next = null;
+    timeout.linked = false;
+    size--;
+  }
+
+  /**
+   * Schedule the tick task at {@code tick}, replacing the tick task scheduled at a later tick.
+   */
+  private void scheduleTick(long tick) {
+    if (scheduledTickFuture != null) {
+      scheduledTickFuture.cancel(false);
+      scheduledTickFuture = null;
+    }
+    long delay = startTime + tick * tickNanos - System.nanoTime();
+    try {
+      scheduledTickFuture = eventLoop.schedule(this.tick, Math.max(delay, 0), TimeUnit.NANOSECONDS);
+      scheduledTick = tick;
+    } catch (RejectedExecutionException ignore) {
+      // Event loop is already shut down
+    }
+  }
+
+  /**
+   * @return the first tick after the processed tick that may hold a timer, or {@code Long.MAX_VALUE} when the wheel
+   * is empty
+   */
+  private long nextTick() {
+    long next = Long.MAX_VALUE;
+    // The bucket of a tick only holds timers at this tick or at the next turns of the wheel
+    for (long t = processedTick + 1; t <= processedTick + WHEEL_SIZE && t < next; t++) {
+      next = Math.min(next, minTicks[(int) (t & WHEEL_MASK)]);
+    }
+    return next;
+  }
+
+  private void tick() {
+    ticking = true;
+    scheduledTick = Long.MAX_VALUE;
+    scheduledTickFuture = null;
+    long nowTick = currentTick();
+    // A full turn of the wheel visits every bucket
+    long lastTick = Math.min(nowTick, processedTick + WHEEL_SIZE);
+    for (long t = processedTick + 1; t <= lastTick; t++) {
+      int bucket = (int) (t & WHEEL_MASK);
+      long minTick = Long.MAX_VALUE;
+      Timeout timeout = heads[bucket];
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.deadlineTick <= nowTick) {
+          unlink(timeout);
+          expired.add(timeout);
+        } else {
+          minTick = Math.min(minTick, timeout.deadlineTick);
+        }
+        timeout = next;
+      }
+      // The cancelled timers may have left a lower bound
+      minTicks[bucket] = minTick;
+    }
+    processedTick = nowTick;
+    try {
+      for (int i = 0; i < expired.size(); i++) {
+        Timeout timeout = expired.get(i);
+        if (!timeout.cancelled.get()) {
+          timeout.fire();
+          if (timeout.periodic && !timeout.cancelled.get()) {
+            long now = System.nanoTime();
+            timeout.deadline = Math.max(timeout.deadline + timeout.delay, now);
+            arm(timeout);
+          }
+        }
+      }
+    } finally {
+      expired.clear();
+      ticking = false;
+      if (size > 0) {
+        scheduleTick(nextTick());
+      }
+    }
+  }
+
+  class Timeout implements Handler<Void>, Closeable {
+
+    long timerID;
+    final Handler<Long> handler;
+    final boolean periodic;
+    final long delay;
+    final ContextImpl context;
+    final AtomicBoolean cancelled = new AtomicBoolean();
+    long deadline;
+
+    // Only accessed from the event loop thread
+    long deadlineTick;
+    Timeout prev;
+    Timeout next;
+    boolean linked;
+
+    Timeout(Handler<Long> handler, boolean periodic, long delay, ContextImpl context) {
+      this.handler = handler;
+      this.periodic = periodic;
+      this.delay = delay;
+      this.context = context;
+      this.deadline = System.nanoTime() + delay;
+    }
+
+    void fire() {
+      if (context.nettyEventLoop() == eventLoop) {
+        context.executeFromIO(this);
+      } else {
+        context.runOnContext(this);
+      }
+    }
+
+    boolean cancel() {
+      if (cancelled.compareAndSet(false, true)) {
+        if (metrics != null) {
+          metrics.timerEnded(timerID, true);
+        }
+        if (eventLoop.inEventLoop()) {
+          if (linked) {
+            unlink(this);
+          }
+        } else {
+          handOver(this);
+        }
+        return true;
+      } else {
+        return false;
+      }
+    }
+
+    public void handle(Void v) {
+      if (!cancelled.get()) {
+        try {
+          handler.handle(timerID);
+        } finally {
+          if (!periodic) {
+            // Clean up after it's fired
+            cleanupNonPeriodic();
+          }
+        }
+      }
+    }
+
+    private void cleanupNonPeriodic() {
+      unregister(timerID);
+      if (metrics != null) {
+        metrics.timerEnded(timerID, false);
+      }
+      context.removeCloseHook(this);
+    }
+
+    // Called via Context close hook when Verticle is undeployed
+    public void close(Handler<AsyncResult<Void>> completionHandler) {
+      unregister(timerID);
+      cancel();
+      completionHandler.handle(Future.succeededFuture());
+    }
+  }
+}
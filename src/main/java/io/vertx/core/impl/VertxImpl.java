@@ -108,6 +108,8 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final VertxMetrics metrics;
   private final ConcurrentMap<Long, InternalTimerHandler> timeouts = new ConcurrentHashMap<>();
   private final AtomicLong timeoutCounter = new AtomicLong(0);
+  private final TimerWheel[] timerWheels;
+  private final Map<EventLoop, TimerWheel> timerWheelsByEventLoop;
   private final ClusterManager clusterManager;
   private final DeploymentManager deploymentManager;
   private final FileResolver fileResolver;
@@ -160,6 +162,21 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
 
     metrics = initialiseMetrics(options);
 
+    if (options.isTimerWheelEnabled()) {
+      List<EventLoop> eventLoops = new ArrayList<>();
+      eventLoopGroup.forEach(executor -> eventLoops.add((EventLoop) executor));
+      timerWheels = new TimerWheel[eventLoops.size()];
+      timerWheelsByEventLoop = new IdentityHashMap<>();
+      for (int i = 0;i < timerWheels.length;i++) {
+        EventLoop eventLoop = eventLoops.get(i);
+        timerWheels[i] = new TimerWheel(eventLoop, i, timerWheels.length, options.getTimerWheelTickDuration(), metrics);
+        timerWheelsByEventLoop.put(eventLoop, timerWheels[i]);
+      }
+    } else {
+      timerWheels = null;
+      timerWheelsByEventLoop = null;
+    }
+
     ExecutorService workerExec = Executors.newFixedThreadPool(options.getWorkerPoolSize(),
         new VertxThreadFactory("vert.x-worker-thread-", checker, true, options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit()));
     PoolMetrics workerPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-worker-thread", options.getWorkerPoolSize()) : null;
@@ -394,6 +411,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   }
 
   public boolean cancelTimer(long id) {
+    if (timerWheels != null) {
+      return id >= 0 && timerWheels[(int) (id % timerWheels.length)].cancel(id);
+    }
     InternalTimerHandler handler = timeouts.remove(id);
     if (handler != null) {
       handler.context.removeCloseHook(handler);
@@ -490,6 +510,13 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     if (delay < 1) {
       throw new IllegalArgumentException("Cannot schedule a timer with delay < 1 ms");
     }
+    if (timerWheels != null) {
+      TimerWheel wheel = timerWheelsByEventLoop.get(context.nettyEventLoop());
+      if (wheel == null) {
+        wheel = timerWheels[(int) (timeoutCounter.getAndIncrement() % timerWheels.length)];
+      }
+      return wheel.schedule(context, handler, delay, periodic);
+    }
     long timerId = timeoutCounter.getAndIncrement();
     InternalTimerHandler task = new InternalTimerHandler(timerId, handler, periodic, delay, context);
     timeouts.put(timerId, task);
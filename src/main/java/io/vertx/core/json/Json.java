@@ -13,19 +13,25 @@ package io.vertx.core.json;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 
 import java.io.DataInput;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -83,13 +89,166 @@ public class Json {
    * @throws EncodeException if a property cannot be encoded.
    */
   public static Buffer encodeToBuffer(Object obj) throws EncodeException {
+    Buffer buffer = Buffer.buffer();
+    encodeToBuffer(obj, buffer);
+    return buffer;
+  }
+
+  /**
+   * Encode a POJO to JSON using the underlying Jackson mapper and append it to a buffer.
+   *
+   * @param obj a POJO
+   * @param buffer the buffer to append to
+   * @throws EncodeException if a property cannot be encoded.
+   */
+  public static void encodeToBuffer(Object obj, Buffer buffer) throws EncodeException {
     try {
-      return Buffer.buffer(mapper.writeValueAsBytes(obj));
+      // The mapper creates the generator so that its configuration applies, the stream appends to the buffer
+      mapper.writeValue(new BufferOutputStream(buffer), obj);
     } catch (Exception e) {
       throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
     }
   }
 
+  /**
+   * Encode the map or list of a JSON object or array and append it to a buffer.
+   * <p>
+   * The JSON objects, arrays and their values are written by a generator appending directly to the buffer, other
+   * values are encoded with the underlying Jackson mapper. This is used by the cluster serialization of
+   * {@link JsonObject} and {@link JsonArray} which the event bus codecs use too.
+   *
+   * @param val the map or list
+   * @param buffer the buffer to append to
+   * @throws EncodeException if a property cannot be encoded.
+   */
+  static void encodeJsonToBuffer(Object val, Buffer buffer) throws EncodeException {
+    try (JsonGenerator generator = mapper.getFactory().createGenerator(new BufferOutputStream(buffer))) {
+      encodeValue(val, generator);
+    } catch (Exception e) {
+      throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void encodeValue(Object val, JsonGenerator generator) throws IOException {
+    if (val instanceof JsonObject) {
+      val = ((JsonObject) val).getMap();
+    } else if (val instanceof JsonArray) {
+      val = ((JsonArray) val).getList();
+    }
+    if (val == null) {
+      generator.writeNull();
+    } else if (val instanceof String) {
+      generator.writeString((String) val);
+    } else if (val instanceof Map) {
+      generator.writeStartObject();
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) val).entrySet()) {
+        generator.writeFieldName(String.valueOf(entry.getKey()));
+        encodeValue(entry.getValue(), generator);
+      }
+      generator.writeEndObject();
+    } else if (val instanceof List) {
+      generator.writeStartArray();
+      for (Object item : (List<Object>) val) {
+        encodeValue(item, generator);
+      }
+      generator.writeEndArray();
+    } else if (val instanceof Integer || val instanceof Short || val instanceof Byte) {
+      generator.writeNumber(((Number) val).intValue());
+    } else if (val instanceof Long) {
+      generator.writeNumber((Long) val);
+    } else if (val instanceof Double) {
+      generator.writeNumber((Double) val);
+    } else if (val instanceof Float) {
+      generator.writeNumber((Float) val);
+    } else if (val instanceof BigInteger) {
+      generator.writeNumber((BigInteger) val);
+    } else if (val instanceof Boolean) {
+      generator.writeBoolean((Boolean) val);
+    } else if (val instanceof CharSequence || val instanceof Character) {
+      generator.writeString(val.toString());
+    } else {
+      mapper.writeValue(generator, val);
+    }
+  }
+
+  /**
+   * Decode the JSON object of a buffer, parsing it directly from the buffer.
+   *
+   * @throws DecodeException when the buffer does not contain a JSON object.
+   */
+  @SuppressWarnings("unchecked")
+  static Map<String, Object> decodeObject(Buffer buf) throws DecodeException {
+    return (Map<String, Object>) decode(buf, JsonToken.START_OBJECT);
+  }
+
+  /**
+   * Decode the JSON array of a buffer, parsing it directly from the buffer.
+   *
+   * @throws DecodeException when the buffer does not contain a JSON array.
+   */
+  @SuppressWarnings("unchecked")
+  static List<Object> decodeArray(Buffer buf) throws DecodeException {
+    return (List<Object>) decode(buf, JsonToken.START_ARRAY);
+  }
+
+  private static Object decode(Buffer buf, JsonToken expected) throws DecodeException {
+    ByteBuf byteBuf = buf.getByteBuf();
+    try (JsonParser parser = byteBuf.hasArray() ?
+      mapper.getFactory().createParser(byteBuf.array(), byteBuf.arrayOffset() + byteBuf.readerIndex(), byteBuf.readableBytes()) :
+      mapper.getFactory().createParser((InputStream) new ByteBufInputStream(byteBuf))) {
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.VALUE_NULL) {
+        return null;
+      }
+      if (token != expected) {
+        throw new DecodeException("Failed to decode: expected " + expected + " instead of " + token);
+      }
+      return decodeValue(parser, token);
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
+  private static Object decodeValue(JsonParser parser, JsonToken token) throws IOException {
+    if (token == null) {
+      throw new DecodeException("Failed to decode: unexpected end of input");
+    }
+    switch (token) {
+      case START_OBJECT: {
+        Map<String, Object> map = new LinkedHashMap<>();
+        String name;
+        while ((name = parser.nextFieldName()) != null) {
+          map.put(name, decodeValue(parser, parser.nextToken()));
+        }
+        return map;
+      }
+      case START_ARRAY: {
+        List<Object> list = new ArrayList<>();
+        JsonToken next;
+        while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+          list.add(decodeValue(parser, next));
+        }
+        return list;
+      }
+      case VALUE_STRING:
+        return parser.getText();
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        return parser.getNumberValue();
+      case VALUE_TRUE:
+        return Boolean.TRUE;
+      case VALUE_FALSE:
+        return Boolean.FALSE;
+      case VALUE_NULL:
+        return null;
+      case VALUE_EMBEDDED_OBJECT:
+        return parser.getEmbeddedObject();
+      default:
+        throw new DecodeException("Failed to decode: unexpected token " + token);
+    }
+  }
+
   /**
    * Encode a POJO to JSON with pretty indentation, using the underlying Jackson mapper.
    *
@@ -213,11 +372,46 @@ public class Json {
     return val;
   }
 
+  static Object checkAndCopyImmutable(Object val) {
+    if (val instanceof JsonObject) {
+      return ((JsonObject) val).toImmutable();
+    } else if (val instanceof JsonArray) {
+      return ((JsonArray) val).toImmutable();
+    } else if (val instanceof Map) {
+      return new JsonObject((Map) val).toImmutable();
+    } else if (val instanceof List) {
+      return new JsonArray((List) val).toImmutable();
+    }
+    return checkAndCopy(val, false);
+  }
+
   static <T> Stream<T> asStream(Iterator<T> sourceIterator) {
     Iterable<T> iterable = () -> sourceIterator;
     return StreamSupport.stream(iterable.spliterator(), false);
   }
 
+  /**
+   * Appends the generator output to a buffer.
+   */
+  private static class BufferOutputStream extends OutputStream {
+
+    private final Buffer buffer;
+
+    private BufferOutputStream(Buffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+      buffer.appendByte((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      buffer.appendBytes(b, off, len);
+    }
+  }
+
   private static class JsonObjectSerializer extends JsonSerializer<JsonObject> {
     @Override
     public void serialize(JsonObject value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
@@ -37,6 +37,7 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareable {
 
   private List<Object> list;
+  private boolean immutable;
 
   /**
    * Create an instance from a String of JSON
@@ -582,6 +583,36 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
     return new JsonArray(copiedList);
   }
 
+  /**
+   * Create an immutable copy of the JSON array, the nested JSON objects and arrays are immutable too. Modifying an
+   * immutable JSON array throws an {@code UnsupportedOperationException}.
+   * <p>
+   * Since it cannot be modified, an immutable JSON array is sent by reference to the local event bus consumers
+   * instead of being copied for each of them.
+   *
+   * @return an immutable copy of the array or this array when it is already immutable
+   */
+  public JsonArray toImmutable() {
+    if (immutable) {
+      return this;
+    }
+    List<Object> copiedList = new ArrayList<>(list.size());
+    for (Object val: list) {
+      copiedList.add(Json.checkAndCopyImmutable(val));
+    }
+    JsonArray copy = new JsonArray(Collections.unmodifiableList(copiedList));
+    copy.immutable = true;
+    return copy;
+  }
+
+  /**
+   * @return whether this JSON array is immutable
+   * @see #toImmutable()
+   */
+  public boolean isImmutable() {
+    return immutable;
+  }
+
   /**
    * Get a Stream over the entries in the JSON array
    *
@@ -637,18 +668,17 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
 
   @Override
   public void writeToBuffer(Buffer buffer) {
-    String encoded = encode();
-    byte[] bytes = encoded.getBytes();
-    buffer.appendInt(bytes.length);
-    buffer.appendBytes(bytes);
+    int pos = buffer.length();
+    buffer.appendInt(0);
+    Json.encodeJsonToBuffer(list, buffer);
+    buffer.setInt(pos, buffer.length() - pos - 4);
   }
 
   @Override
   public int readFromBuffer(int pos, Buffer buffer) {
     int length = buffer.getInt(pos);
     int start = pos + 4;
-    String encoded = buffer.getString(start, start + length);
-    fromJson(encoded);
+    fromBuffer(buffer.slice(start, start + length));
     return pos + length + 4;
   }
 
@@ -657,7 +687,7 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
   }
 
   private void fromBuffer(Buffer buf) {
-    list = Json.decodeValue(buf, List.class);
+    list = Json.decodeArray(buf);
   }
 
   private class Iter implements Iterator<Object> {
@@ -15,7 +15,6 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.core.shareddata.impl.ClusterSerializable;
 
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Stream;
@@ -38,6 +37,7 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterSerializable, Shareable {
 
   private Map<String, Object> map;
+  private boolean immutable;
 
   /**
    * Create an instance from a string of JSON
@@ -794,7 +794,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
   @Override
   public JsonObject copy() {
     Map<String, Object> copiedMap;
-    if (map instanceof LinkedHashMap) {
+    if (immutable || map instanceof LinkedHashMap) {
       copiedMap = new LinkedHashMap<>(map.size());
     } else {
       copiedMap = new HashMap<>(map.size());
@@ -807,6 +807,41 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     return new JsonObject(copiedMap);
   }
 
+  /**
+   * Create an immutable copy of the JSON object, the nested JSON objects and arrays are immutable too. Modifying an
+   * immutable JSON object throws an {@code UnsupportedOperationException}.
+   * <p>
+   * Since it cannot be modified, an immutable JSON object is sent by reference to the local event bus consumers
+   * instead of being copied for each of them.
+   *
+   * @return an immutable copy of the object or this object when it is already immutable
+   */
+  public JsonObject toImmutable() {
+    if (immutable) {
+      return this;
+    }
+    Map<String, Object> copiedMap;
+    if (map instanceof LinkedHashMap) {
+      copiedMap = new LinkedHashMap<>(map.size());
+    } else {
+      copiedMap = new HashMap<>(map.size());
+    }
+    for (Map.Entry<String, Object> entry: map.entrySet()) {
+      copiedMap.put(entry.getKey(), Json.checkAndCopyImmutable(entry.getValue()));
+    }
+    JsonObject copy = new JsonObject(Collections.unmodifiableMap(copiedMap));
+    copy.immutable = true;
+    return copy;
+  }
+
+  /**
+   * @return whether this JSON object is immutable
+   * @see #toImmutable()
+   */
+  public boolean isImmutable() {
+    return immutable;
+  }
+
   /**
    * Get the underlying {@code Map} as is.
    *
@@ -937,18 +972,17 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
 
   @Override
   public void writeToBuffer(Buffer buffer) {
-    String encoded = encode();
-    byte[] bytes = encoded.getBytes(StandardCharsets.UTF_8);
-    buffer.appendInt(bytes.length);
-    buffer.appendBytes(bytes);
+    int pos = buffer.length();
+    buffer.appendInt(0);
+    Json.encodeJsonToBuffer(map, buffer);
+    buffer.setInt(pos, buffer.length() - pos - 4);
   }
 
   @Override
   public int readFromBuffer(int pos, Buffer buffer) {
     int length = buffer.getInt(pos);
     int start = pos + 4;
-    String encoded = buffer.getString(start, start + length);
-    fromJson(encoded);
+    fromBuffer(buffer.slice(start, start + length));
     return pos + length + 4;
   }
 
@@ -957,7 +991,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
   }
 
   private void fromBuffer(Buffer buf) {
-    map = Json.decodeValue(buf, Map.class);
+    map = Json.decodeObject(buf);
   }
 
   private class Iter implements Iterator<Map.Entry<String, Object>> {
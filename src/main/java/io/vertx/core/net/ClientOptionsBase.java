@@ -222,6 +222,11 @@ public abstract class ClientOptionsBase extends TCPSSLOptions {
     return (ClientOptionsBase) super.setUsePooledBuffers(usePooledBuffers);
   }
 
+  @Override
+  public ClientOptionsBase setUsePooledInboundBuffers(boolean usePooledInboundBuffers) {
+    return (ClientOptionsBase) super.setUsePooledInboundBuffers(usePooledInboundBuffers);
+  }
+
   @Override
   public ClientOptionsBase setIdleTimeout(int idleTimeout) {
     return (ClientOptionsBase) super.setIdleTimeout(idleTimeout);
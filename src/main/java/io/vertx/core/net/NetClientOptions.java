@@ -138,6 +138,12 @@ public class NetClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public NetClientOptions setUsePooledInboundBuffers(boolean usePooledInboundBuffers) {
+    super.setUsePooledInboundBuffers(usePooledInboundBuffers);
+    return this;
+  }
+
   @Override
   public NetClientOptions setIdleTimeout(int idleTimeout) {
     super.setIdleTimeout(idleTimeout);
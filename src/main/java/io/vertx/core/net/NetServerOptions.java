@@ -158,6 +158,12 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public NetServerOptions setUsePooledInboundBuffers(boolean usePooledInboundBuffers) {
+    super.setUsePooledInboundBuffers(usePooledInboundBuffers);
+    return this;
+  }
+
   @Override
   public NetServerOptions setIdleTimeout(int idleTimeout) {
     super.setIdleTimeout(idleTimeout);
@@ -18,6 +18,8 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
 
+import java.util.List;
+
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
 import javax.security.cert.X509Certificate;
@@ -44,6 +46,17 @@ public interface NetSocket extends ReadStream<Buffer>, WriteStream<Buffer> {
   @Override
   NetSocket handler(Handler<Buffer> handler);
 
+  /**
+   * Set a batch handler on the socket. This handler serves a similar purpose to {@link #handler(Handler)} except that
+   * the buffers read together from the connection are delivered in a single call, in place of the {@link #handler(Handler)}.
+   * The batches respect the flow control of this stream.
+   *
+   * @param handler the handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  NetSocket batchHandler(@Nullable Handler<List<Buffer>> handler);
+
   @Override
   NetSocket pause();
 
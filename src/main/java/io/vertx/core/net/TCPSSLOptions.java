@@ -47,6 +47,11 @@ public abstract class TCPSSLOptions extends NetworkOptions {
    */
   public static final boolean DEFAULT_USE_POOLED_BUFFERS = false;
 
+  /**
+   * The default value of delivering the inbound data in pooled buffers = false
+   */
+  public static final boolean DEFAULT_USE_POOLED_INBOUND_BUFFERS = false;
+
   /**
    * SSL enable by default = false
    */
@@ -100,6 +105,7 @@ public abstract class TCPSSLOptions extends NetworkOptions {
   private boolean tcpKeepAlive;
   private int soLinger;
   private boolean usePooledBuffers;
+  private boolean usePooledInboundBuffers;
   private int idleTimeout;
   private TimeUnit idleTimeoutUnit;
   private boolean ssl;
@@ -134,6 +140,7 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     this.tcpKeepAlive = other.isTcpKeepAlive();
     this.soLinger = other.getSoLinger();
     this.usePooledBuffers = other.isUsePooledBuffers();
+    this.usePooledInboundBuffers = other.isUsePooledInboundBuffers();
     this.idleTimeout = other.getIdleTimeout();
     this.idleTimeoutUnit = other.getIdleTimeoutUnit() != null ? other.getIdleTimeoutUnit() : DEFAULT_IDLE_TIMEOUT_TIME_UNIT;
     this.ssl = other.isSsl();
@@ -177,6 +184,7 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     tcpKeepAlive = DEFAULT_TCP_KEEP_ALIVE;
     soLinger = DEFAULT_SO_LINGER;
     usePooledBuffers = DEFAULT_USE_POOLED_BUFFERS;
+    usePooledInboundBuffers = DEFAULT_USE_POOLED_INBOUND_BUFFERS;
     idleTimeout = DEFAULT_IDLE_TIMEOUT;
     idleTimeoutUnit = DEFAULT_IDLE_TIMEOUT_TIME_UNIT;
     ssl = DEFAULT_SSL;
@@ -268,6 +276,30 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     return this;
   }
 
+  /**
+   * @return whether the inbound data is delivered in pooled buffers
+   */
+  public boolean isUsePooledInboundBuffers() {
+    return usePooledInboundBuffers;
+  }
+
+  /**
+   * Set whether the buffers delivered to the data handlers of net sockets and of HTTP/1.x request and response
+   * bodies are backed by the pooled memory the data was read into instead of being copied to the heap.
+   * <p>
+   * Such a buffer is only valid until the handler it is delivered to returns and is released afterwards, the buffers
+   * queued while the stream is paused are released when the connection is closed. A handler that keeps the buffer or
+   * writes it to another stream, e.g with a {@link io.vertx.core.streams.Pump}, must keep a {@link Buffer#copy() copy}
+   * of it instead.
+   *
+   * @param usePooledInboundBuffers true to deliver the inbound data in pooled buffers
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setUsePooledInboundBuffers(boolean usePooledInboundBuffers) {
+    this.usePooledInboundBuffers = usePooledInboundBuffers;
+    return this;
+  }
+
   /**
    * Set the idle timeout, default time unit is seconds. Zero means don't timeout.
    * This determines if a connection will timeout and be closed if no data is received within the timeout.
@@ -732,6 +764,7 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     if (tcpQuickAck != that.tcpQuickAck) return false;
     if (tcpCork != that.tcpCork) return false;
     if (usePooledBuffers != that.usePooledBuffers) return false;
+    if (usePooledInboundBuffers != that.usePooledInboundBuffers) return false;
     if (crlPaths != null ? !crlPaths.equals(that.crlPaths) : that.crlPaths != null) return false;
     if (crlValues != null ? !crlValues.equals(that.crlValues) : that.crlValues != null) return false;
     if (enabledCipherSuites != null ? !enabledCipherSuites.equals(that.enabledCipherSuites) : that.enabledCipherSuites != null)
@@ -755,6 +788,7 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     result = 31 * result + (tcpKeepAlive ? 1 : 0);
     result = 31 * result + soLinger;
     result = 31 * result + (usePooledBuffers ? 1 : 0);
+    result = 31 * result + (usePooledInboundBuffers ? 1 : 0);
     result = 31 * result + idleTimeout;
     result = 31 * result + (idleTimeoutUnit != null ? idleTimeoutUnit.hashCode() : 0);
     result = 31 * result + (ssl ? 1 : 0);
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.net.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedWriteHandler;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link ChunkedInput} reading a file region in chunks on a worker thread instead of the event loop, used when
+ * the file cannot be sent with a zero-copy {@link io.netty.channel.FileRegion}, e.g when the connection uses TLS.
+ * <p>
+ * The next chunk is read in a pooled direct buffer while the current one is written. When the
+ * {@link ChunkedWriteHandler} asks for a chunk that is not read yet, {@code null} is returned and the transfer is
+ * resumed when the read completes. The handler only asks for chunks when the channel is writable, which provides
+ * the back-pressure.
+ * <p>
+ * The state is only accessed from the channel event loop, except for the read performed by the worker.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+class AsyncChunkedFile implements ChunkedInput<ByteBuf> {
+
+  private final RandomAccessFile raf;
+  private final FileChannel channel;
+  private final ChannelHandlerContext chctx;
+  private final ChunkedWriteHandler writeHandler;
+  private final Executor worker;
+  private final long startOffset;
+  private final long endOffset;
+  private final int chunkSize;
+  private long readOffset;
+  private long progress;
+  private boolean reading;
+  private ByteBuf chunk;
+  private Throwable failure;
+  private volatile boolean closed;
+
+  AsyncChunkedFile(RandomAccessFile raf, long offset, long length, int chunkSize,
+                   ChannelHandlerContext chctx, ChunkedWriteHandler writeHandler, Executor worker) {
+    this.raf = raf;
+    this.channel = raf.getChannel();
+    this.chctx = chctx;
+    this.writeHandler = writeHandler;
+    this.worker = worker;
+    this.startOffset = offset;
+    this.endOffset = offset + length;
+    this.chunkSize = chunkSize;
+    this.readOffset = offset;
+  }
+
+  @Override
+  public boolean isEndOfInput() {
+    return chunk == null && !reading && failure == null && readOffset >= endOffset;
+  }
+
+  @Override
+  public void close() throws Exception {
+    closed = true;
+    if (chunk != null) {
+      chunk.release();
+      chunk = null;
+    }
+    raf.close();
+  }
+
+  @Deprecated
+  @Override
+  public ByteBuf readChunk(ChannelHandlerContext ctx) throws Exception {
+    return readChunk(ctx.alloc());
+  }
+
+  @Override
+  public ByteBuf readChunk(ByteBufAllocator allocator) throws Exception {
+    if (failure != null) {
+      Throwable cause = failure;
+      failure = null;
+      throw cause instanceof Exception ? (Exception) cause : new IOException(cause);
+    }
+    ByteBuf next = chunk;
+    chunk = null;
+    if (next != null) {
+      progress += next.readableBytes();
+    }
+    if (!reading && readOffset < endOffset) {
+      // Prefetch the next chunk while this one is written
+      read(allocator);
+    }
+    return next;
+  }
+
+  private void read(ByteBufAllocator allocator) {
+    int len = (int) Math.min(chunkSize, endOffset - readOffset);
+    long position = readOffset;
+    readOffset += len;
+    reading = true;
+    worker.execute(() -> {
+      ByteBuf buf = allocator.directBuffer(len);
+      Throwable err = null;
+      try {
+        while (buf.isWritable()) {
+          if (buf.writeBytes(channel, position + buf.writerIndex(), buf.writableBytes()) < 0) {
+            throw new EOFException();
+          }
+        }
+      } catch (Throwable t) {
+        buf.release();
+        buf = null;
+        err = t;
+      }
+      ByteBuf result = buf;
+      Throwable cause = err;
+      chctx.executor().execute(() -> {
+        reading = false;
+        if (closed) {
+          if (result != null) {
+            result.release();
+          }
+          return;
+        }
+        chunk = result;
+        failure = cause;
+        writeHandler.resumeTransfer();
+      });
+    });
+  }
+
+  @Override
+  public long length() {
+    return endOffset - startOffset;
+  }
+
+  @Override
+  public long progress() {
+    return progress;
+  }
+}
@@ -13,7 +13,7 @@ package io.vertx.core.net.impl;
 
 import io.netty.channel.*;
 import io.netty.handler.ssl.SslHandler;
-import io.netty.handler.stream.ChunkedFile;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.vertx.core.*;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
@@ -50,6 +50,11 @@ public abstract class ConnectionBase {
   public static final VertxException CLOSED_EXCEPTION = new VertxException("Connection was closed", true);
   private static final Logger log = LoggerFactory.getLogger(ConnectionBase.class);
 
+  /**
+   * The default size of the chunks read from a file that cannot be sent with zero-copy = 8192
+   */
+  public static final int DEFAULT_SEND_FILE_CHUNK_SIZE = 8192;
+
   private final VoidChannelPromise voidPromise;
   protected final VertxInternal vertx;
   protected final ChannelHandlerContext chctx;
@@ -87,9 +92,24 @@ public abstract class ConnectionBase {
     read = true;
   }
 
+  /**
+   * Defer the flush of the messages written until {@link #endReadAndFlush()} is called, like the messages
+   * written while reading.
+   *
+   * @return {@code false} when the flush is already deferred by a read in progress
+   */
+  protected synchronized final boolean deferFlush() {
+    if (read) {
+      return false;
+    }
+    read = true;
+    return true;
+  }
+
   protected synchronized final void endReadAndFlush() {
     if (read) {
       read = false;
+      handleReadComplete();
       if (needsFlush && writeInProgress == 0) {
         needsFlush = false;
         chctx.flush();
@@ -234,6 +254,12 @@ public abstract class ConnectionBase {
 
   protected abstract void handleInterestedOpsChanged();
 
+  /**
+   * Called when the messages of a read burst have been handled, before the pending writes are flushed.
+   */
+  protected void handleReadComplete() {
+  }
+
   protected void addFuture(final Handler<AsyncResult<Void>> completionHandler, final ChannelFuture future) {
     if (future != null) {
       future.addListener(channelFuture -> context.executeFromIO(v -> {
@@ -272,12 +298,20 @@ public abstract class ConnectionBase {
     return chctx.pipeline().get(SslHandler.class) != null;
   }
 
+  /**
+   * @return the size of the chunks read from the file when it cannot be sent with zero-copy
+   */
+  protected int sendFileChunkSize() {
+    return DEFAULT_SEND_FILE_CHUNK_SIZE;
+  }
+
   protected ChannelFuture sendFile(RandomAccessFile raf, long offset, long length) throws IOException {
     // Write the content.
     ChannelPromise writeFuture = chctx.newPromise();
     if (!supportsFileRegion()) {
-      // Cannot use zero-copy
-      writeToChannel(new ChunkedFile(raf, offset, length, 8192), writeFuture);
+      // Cannot use zero-copy, read the file in chunks on a worker to not block the event loop
+      ChunkedWriteHandler writeHandler = chctx.pipeline().get(ChunkedWriteHandler.class);
+      writeToChannel(new AsyncChunkedFile(raf, offset, length, sendFileChunkSize(), chctx, writeHandler, vertx.getWorkerPool()), writeFuture);
     } else {
       // No encryption - use zero-copy.
       FileRegion region = new DefaultFileRegion(raf.getChannel(), offset, length);
@@ -236,7 +236,7 @@ public class NetClientImpl implements MetricsProvider, NetClient {
 
     initChannel(ch.pipeline());
 
-    VertxNetHandler handler = new VertxNetHandler(ctx -> new NetSocketImpl(vertx, ctx, remoteAddress, context, sslHelper, metrics));
+    VertxNetHandler handler = new VertxNetHandler(ctx -> new NetSocketImpl(vertx, ctx, remoteAddress, context, sslHelper, metrics, options.isUsePooledInboundBuffers()));
     handler.addHandler(sock -> {
       socketMap.put(ch, sock);
       context.executeFromIO(v -> {
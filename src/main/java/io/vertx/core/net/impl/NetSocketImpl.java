@@ -42,6 +42,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -69,23 +71,28 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
   private final SSLHelper helper;
   private final SocketAddress remoteAddress;
   private final TCPMetrics metrics;
+  private final boolean pooledBuffers;
   private Handler<Void> endHandler;
   private Handler<Void> drainHandler;
   private Queue<Object> pending;
+  private Handler<Object> messageHandler = NULL_MSG_HANDLER;
+  private boolean batching;
+  private List<Object> readBatch;
   private MessageConsumer registration;
 
   public NetSocketImpl(VertxInternal vertx, ChannelHandlerContext channel, ContextInternal context,
-                       SSLHelper helper, TCPMetrics metrics) {
-    this(vertx, channel, null, context, helper, metrics);
+                       SSLHelper helper, TCPMetrics metrics, boolean pooledBuffers) {
+    this(vertx, channel, null, context, helper, metrics, pooledBuffers);
   }
 
   public NetSocketImpl(VertxInternal vertx, ChannelHandlerContext channel, SocketAddress remoteAddress, ContextInternal context,
-                       SSLHelper helper, TCPMetrics metrics) {
+                       SSLHelper helper, TCPMetrics metrics, boolean pooledBuffers) {
     super(vertx, channel, context);
     this.helper = helper;
     this.writeHandlerID = "__vertx.net." + UUID.randomUUID().toString();
     this.remoteAddress = remoteAddress;
     this.metrics = metrics;
+    this.pooledBuffers = pooledBuffers;
     pending = Queue.queue(context, 0);
     pending.writableHandler(v -> doResume());
     pending.handler(NULL_MSG_HANDLER);
@@ -164,10 +171,23 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
 
   @Override
   public synchronized NetSocketInternal messageHandler(Handler<Object> handler) {
+    if (handler == null) {
+      handler = NULL_MSG_HANDLER;
+    }
+    messageHandler = handler;
+    pending.handler(handler);
+    return this;
+  }
+
+  @Override
+  public synchronized NetSocket batchHandler(Handler<List<Buffer>> handler) {
     if (handler != null) {
-      pending.handler(handler);
+      pending.batchHandler(new DataBatchHandler(channelHandlerContext().alloc(), handler));
+      batching = true;
     } else {
-      pending.handler(NULL_MSG_HANDLER);
+      pending.batchHandler(null);
+      batching = false;
+      flushReadBatch();
     }
     return this;
   }
@@ -332,6 +352,7 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
   @Override
   protected synchronized void handleClosed() {
     checkContext();
+    flushReadBatch();
     if (endHandler != null) {
       endHandler.handle(null);
     }
@@ -344,11 +365,34 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
 
   public synchronized void handleMessage(Object msg) {
     checkContext();
-    if (!pending.add(msg)) {
+    if (batching) {
+      // Delivered at the end of the read burst
+      if (readBatch == null) {
+        readBatch = new ArrayList<>();
+      }
+      readBatch.add(msg);
+    } else if (!pending.add(msg)) {
       doPause();
     }
   }
 
+  @Override
+  protected synchronized void handleReadComplete() {
+    flushReadBatch();
+  }
+
+  private void flushReadBatch() {
+    List<Object> batch = readBatch;
+    if (batch != null) {
+      readBatch = null;
+      pending.addAll(batch);
+      // The queue signals the writable handler when it is drained
+      if (!pending.isWritable()) {
+        doPause();
+      }
+    }
+  }
+
   private class DataMessageHandler implements Handler<Object> {
 
     private final Handler<Buffer> dataHandler;
@@ -363,6 +407,17 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
     public void handle(Object event) {
       if (event instanceof ByteBuf) {
         ByteBuf byteBuf = (ByteBuf) event;
+        if (pooledBuffers) {
+          // The buffer is only valid until the handler returns
+          try {
+            Buffer data = Buffer.buffer(byteBuf);
+            reportBytesRead(data.length());
+            dataHandler.handle(data);
+          } finally {
+            byteBuf.release();
+          }
+          return;
+        }
         byteBuf = VertxHandler.safeBuffer(byteBuf, allocator);
         Buffer data = Buffer.buffer(byteBuf);
         reportBytesRead(data.length());
@@ -371,6 +426,60 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
     }
   }
 
+  private class DataBatchHandler implements Handler<List<Object>> {
+
+    private final Handler<List<Buffer>> dataHandler;
+    private final ByteBufAllocator allocator;
+
+    DataBatchHandler(ByteBufAllocator allocator, Handler<List<Buffer>> dataHandler) {
+      this.allocator = allocator;
+      this.dataHandler = dataHandler;
+    }
+
+    @Override
+    public void handle(List<Object> events) {
+      int from = 0;
+      for (int i = 0;i < events.size();i++) {
+        Object event = events.get(i);
+        if (!(event instanceof ByteBuf)) {
+          // Not data, e.g a message decoded by a handler of the pipeline, it is delivered in order to the message handler
+          handleData(events, from, i);
+          from = i + 1;
+          messageHandler.handle(event);
+        }
+      }
+      handleData(events, from, events.size());
+    }
+
+    private void handleData(List<Object> events, int from, int to) {
+      if (from == to) {
+        return;
+      }
+      List<Buffer> batch = new ArrayList<>(to - from);
+      long numberOfBytes = 0;
+      for (int i = from;i < to;i++) {
+        ByteBuf byteBuf = (ByteBuf) events.get(i);
+        if (!pooledBuffers) {
+          byteBuf = VertxHandler.safeBuffer(byteBuf, allocator);
+        }
+        Buffer data = Buffer.buffer(byteBuf);
+        numberOfBytes += data.length();
+        batch.add(data);
+      }
+      try {
+        reportBytesRead(numberOfBytes);
+        dataHandler.handle(batch);
+      } finally {
+        if (pooledBuffers) {
+          // The buffers are only valid until the handler returns
+          for (int i = from;i < to;i++) {
+            ((ByteBuf) events.get(i)).release();
+          }
+        }
+      }
+    }
+  }
+
   private void write(ByteBuf buff) {
     reportBytesWritten(buff.readableBytes());
     super.writeToChannel(buff);
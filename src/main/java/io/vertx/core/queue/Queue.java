@@ -14,6 +14,8 @@ import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.queue.impl.BufferedQueue;
 
+import java.util.List;
+
 /**
  * An event-driven queue.
  * <p/>
@@ -29,6 +31,9 @@ import io.vertx.core.queue.impl.BufferedQueue;
  * <h3>Consuming from the queue</h3>
  * The consumer should set an {@link #handler} to receive the elements from the queue to consume elements in an
  * event driven manner.
+ * <p/>
+ * The consumer can instead set a {@link #batchHandler} to receive the available elements in batches, e.g to process
+ * them with a single write or flush.
  *
  * <h3>Queue mode</h3>
  * The queue is either in <i>flowing</i> or <i>fetch</i> mode.
@@ -56,8 +61,7 @@ import io.vertx.core.queue.impl.BufferedQueue;
  * </ul>
  * This class is optimised for performance when used on the same event loop. However it can be used safely from other threads.
  * <p/>
- * The internal state is protected using the synchronized keyword. If always used on the same event loop, then
- * we benefit from biased locking which makes the overhead of synchronized near zero.
+ * The internal state is maintained with atomic operations only.
  *
  * <h3>Element delivery</h3>
  * When the queue operates on a context and many elements are pushed simultaneously, the queue will deliver at most
@@ -179,6 +183,18 @@ public interface Queue<T> {
    */
   Queue<T> handler(Handler<T> handler);
 
+  /**
+   * Set an {@code handler} to be called with batches of elements available from this queue.
+   * <p/>
+   * When a batch handler is set, it is called instead of the {@link #handler}. A batch contains at most
+   * {@link QueueOptions#getMaxElementsPerTick()} elements and never more elements than the actual demand, the remaining elements
+   * are delivered in subsequent batches.
+   *
+   * @param handler the handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  Queue<T> batchHandler(Handler<List<T>> handler);
+
   /**
    * Set an {@code handler} to be called when an exception is thrown by an handler.
    *
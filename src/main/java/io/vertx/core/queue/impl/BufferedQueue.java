@@ -8,6 +8,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
  */
+
 package io.vertx.core.queue.impl;
 
 import io.vertx.core.Context;
@@ -17,25 +18,40 @@ import io.vertx.core.impl.Arguments;
 import io.vertx.core.queue.Queue;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * A thread safe queue, the state is maintained with atomic operations only.
+ * <p>
+ * Elements are kept in a lock-free linked queue, the thread that wins the {@code emitting} flag becomes the only
+ * consumer of this queue until it releases the flag. After releasing the flag the consumer checks again the queue
+ * so an element added concurrently is never left behind.
+ *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class BufferedQueue<T> implements Queue<T> {
 
-  private ArrayDeque<T> pending = new ArrayDeque<>();
+  private final ConcurrentLinkedQueue<T> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicLong demand = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicBoolean emitting = new AtomicBoolean();
+  private final AtomicBoolean writable = new AtomicBoolean(true);
   private final long highWaterMark;
   private final int maxElementsPerTick;
-  private long demand;
-  private Handler<Void> writableHandler;
-  private Handler<Void> emptyHandler;
-  private Handler<T> elementHandler;
-  private Handler<Throwable> exceptionHandler;
-  private boolean emitting;
-  private boolean writable;
   private final Context context;
+  private volatile Handler<Void> writableHandler;
+  private volatile Handler<Void> emptyHandler;
+  private volatile Handler<T> elementHandler;
+  private volatile Handler<List<T>> batchHandler;
+  private volatile Handler<Throwable> exceptionHandler;
 
   public BufferedQueue(Context context, long highWaterMark, int maxElementsPerTick) {
     Arguments.require(highWaterMark >= 0, "highWaterMark " + highWaterMark + " >= 0");
@@ -43,162 +59,172 @@ public class BufferedQueue<T> implements Queue<T> {
     this.context = context;
     this.highWaterMark = highWaterMark;
     this.maxElementsPerTick = maxElementsPerTick;
-    this.demand = Long.MAX_VALUE;
-    this.writable = true;
-    this.emitting = false;
   }
 
   @Override
   public boolean add(T element) {
-    boolean r;
-    synchronized (this) {
-      if (emitting || demand == 0) {
-        pending.add(element);
-        writable = pending.size() < highWaterMark;
-        return writable;
-      } else {
-        emitting = true;
-        r = writable;
-        if (pending.size() > 0) {
-          pending.add(element);
-          element = pending.poll();
-        }
-      }
+    pending.add(element);
+    int s = size.incrementAndGet();
+    if (demand.get() != 0L && emitting.compareAndSet(false, true)) {
+      boolean r = writable.get();
+      safeHandle();
+      return r;
     }
-    safeHandle(element);
-    return r;
+    return enqueued(s);
   }
 
   /**
-   * Calling this method assumes to own the emission and demand > 0, note the thread owning the emission can implicitly
+   * Update the writability after elements have been enqueued without being emitted.
+   */
+  private boolean enqueued(int s) {
+    if (s < highWaterMark) {
+      return true;
+    }
+    writable.set(false);
+    // The consumer may have drained the queue before the writability was cleared
+    if (size.get() == 0 && emitting.compareAndSet(false, true)) {
+      release();
+    }
+    return false;
+  }
+
+  /**
+   * Calling this method assumes to own the emission, note the thread owning the emission can implicitly
    * transfer it to the context thread and should not assume ownership after this method is called.
-   *
-   * @param elt the element to offer
    */
-  private void safeHandle(T elt) {
+  private void safeHandle() {
     if (context == null || context == Vertx.currentContext()) {
-      Handler<T> handler;
-      synchronized (this) {
-        handler = elementHandler;
-        if (demand != Long.MAX_VALUE) {
-          demand--;
-        }
-      }
-      if (handler != null) {
-        handler.handle(elt);
+      if (batchHandler != null) {
+        drain();
+        return;
       }
-      boolean drain;
-      synchronized (this) {
-        drain = pending.size() > 0 && demand > 0L;
+      T elt = next();
+      if (elt != null) {
+        Handler<T> handler = elementHandler;
+        if (handler != null) {
+          boolean handled = false;
+          try {
+            handler.handle(elt);
+            handled = true;
+          } finally {
+            if (!handled) {
+              emitting.set(false);
+            }
+          }
+        }
       }
-      if (drain) {
-        drain();
-      } else {
-        synchronized (this) {
-          emitting = false;
+      if (!canEmit()) {
+        emitting.set(false);
+        // Check again for an element added concurrently
+        if (!canEmit() || !emitting.compareAndSet(false, true)) {
+          return;
         }
       }
+      drain();
     } else {
-      context.runOnContext(v -> {
-        safeHandle(elt);
-      });
+      context.runOnContext(v -> safeHandle());
     }
   }
 
   @Override
   public boolean addAll(Iterable<T> iterable) {
-    boolean ret;
-    synchronized (this) {
-      Iterator<T> it = iterable.iterator();
-      if (!it.hasNext()) {
-        return writable;
-      }
-      do {
-        pending.add(it.next());
-      } while (it.hasNext());
-      writable = pending.size() < highWaterMark;
-      if (emitting) {
-        return writable;
+    Iterator<T> it = iterable.iterator();
+    if (!it.hasNext()) {
+      return writable.get();
+    }
+    int s;
+    do {
+      pending.add(it.next());
+      s = size.incrementAndGet();
+    } while (it.hasNext());
+    if (emitting.compareAndSet(false, true)) {
+      boolean r = s < highWaterMark;
+      if (!r) {
+        writable.set(false);
       }
-      emitting = true;
-      ret = writable;
+      safeDrain();
+      return r;
     }
-    drain();
-    return ret;
+    return enqueued(s);
   }
 
   @Override
-  public synchronized Queue<T> writableHandler(Handler<Void> handler) {
+  public Queue<T> writableHandler(Handler<Void> handler) {
     writableHandler = handler;
     return this;
   }
 
   @Override
-  public synchronized Queue<T> emptyHandler(Handler<Void> handler) {
+  public Queue<T> emptyHandler(Handler<Void> handler) {
     emptyHandler = handler;
     return this;
   }
 
   @Override
-  public synchronized boolean isPaused() {
-    return demand == 0;
+  public boolean isPaused() {
+    return demand.get() == 0L;
   }
 
   @Override
-  public synchronized Queue<T> handler(Handler<T> handler) {
+  public Queue<T> handler(Handler<T> handler) {
     elementHandler = handler;
     return this;
   }
 
   @Override
-  public synchronized Queue<T> exceptionHandler(Handler<Throwable> handler) {
+  public Queue<T> batchHandler(Handler<List<T>> handler) {
+    batchHandler = handler;
+    return this;
+  }
+
+  @Override
+  public Queue<T> exceptionHandler(Handler<Throwable> handler) {
     exceptionHandler = handler;
     return this;
   }
 
   @Override
-  public synchronized Queue<T> pause() {
-    demand = 0;
+  public Queue<T> pause() {
+    demand.set(0L);
     return this;
   }
 
   private void safeDrain() {
     if (context == null || context == Vertx.currentContext()) {
       drain();
-    } else if (context != Vertx.currentContext()) {
+    } else {
       context.runOnContext(v -> drain());
     }
   }
 
+  /**
+   * Drain the queue, this assumes to own the emission.
+   */
   private void drain() {
-    if (context == null) {
-      for (;drainBatch();) {
-        //
-      }
-      stopEmitting();
-    } else {
-      if (drainBatch()) {
+    do {
+      if (context == null) {
+        for (;drainBatch();) {
+          //
+        }
+      } else if (drainBatch()) {
         context.runOnContext(v -> drain());
-      } else {
-        stopEmitting();
+        return;
       }
-    }
+    } while (stopEmitting());
   }
 
   private boolean drainBatch() {
+    Handler<List<T>> batch = batchHandler;
+    if (batch != null) {
+      return drainBatch(batch);
+    }
     int max = maxElementsPerTick;
     while (max-- > 0) {
-      Handler<T> handler;
-      T event;
-      synchronized (this) {
-        if (demand == 0 || (event = pending.poll()) == null) {
-          return false;
-        }
-        if (demand != Long.MAX_VALUE) {
-          demand--;
-        }
-        handler = elementHandler;
+      T event = next();
+      if (event == null) {
+        return false;
       }
+      Handler<T> handler = elementHandler;
       if (handler != null) {
         try {
           handler.handle(event);
@@ -210,40 +236,114 @@ public class BufferedQueue<T> implements Queue<T> {
     return true;
   }
 
-  private void stopEmitting() {
+  private boolean drainBatch(Handler<List<T>> handler) {
+    List<T> batch = null;
+    int max = maxElementsPerTick;
+    while (max > 0) {
+      T event = next();
+      if (event == null) {
+        break;
+      }
+      if (batch == null) {
+        batch = new ArrayList<>(Math.min(max, size.get() + 1));
+      }
+      batch.add(event);
+      max--;
+    }
+    if (batch == null) {
+      return false;
+    }
+    try {
+      handler.handle(batch);
+    } catch (Throwable e) {
+      handleException(e);
+    }
+    return max == 0;
+  }
+
+  /**
+   * @return the next element to emit according to the demand or {@code null}
+   */
+  private T next() {
+    if (pending.peek() == null || !acquireDemand()) {
+      return null;
+    }
+    T elt = pending.poll();
+    if (elt == null) {
+      // Polled concurrently by poll or clear
+      releaseDemand();
+    } else {
+      size.decrementAndGet();
+    }
+    return elt;
+  }
+
+  private boolean acquireDemand() {
+    while (true) {
+      long d = demand.get();
+      if (d == 0L) {
+        return false;
+      } else if (d == Long.MAX_VALUE || demand.compareAndSet(d, d - 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void releaseDemand() {
+    while (true) {
+      long d = demand.get();
+      if (d == 0L || d == Long.MAX_VALUE || demand.compareAndSet(d, d + 1)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Stop emitting and signal the writable and empty handlers.
+   *
+   * @return {@code true} when the emission has been acquired again because elements can be emitted
+   */
+  private boolean stopEmitting() {
     Handler<Void> h1 = null;
     Handler<Void> h2 = null;
-    synchronized (this) {
-      emitting = false;
-      if (!writable && pending.isEmpty()) {
-        writable = true;
+    boolean empty = pending.isEmpty();
+    if (empty) {
+      if (writable.compareAndSet(false, true)) {
         h1 = writableHandler;
       }
-      if (pending.isEmpty()) {
-        h2 = emptyHandler;
-      }
+      h2 = emptyHandler;
     }
+    emitting.set(false);
     if (h1 != null) {
       h1.handle(null);
     }
     if (h2 != null) {
       h2.handle(null);
     }
+    return canEmit() && emitting.compareAndSet(false, true);
+  }
+
+  private boolean canEmit() {
+    return !pending.isEmpty() && demand.get() != 0L;
+  }
+
+  /**
+   * Release the emission acquired outside of the emitting path.
+   */
+  private void release() {
+    if (stopEmitting()) {
+      safeDrain();
+    }
   }
 
   @Override
   public Queue<T> resume() {
-    synchronized (this) {
-      if (demand == Long.MAX_VALUE) {
-        return this;
-      }
-      demand = Long.MAX_VALUE;
-      if (emitting || pending.isEmpty()) {
-        return this;
-      }
-      emitting = true;
+    if (demand.getAndSet(Long.MAX_VALUE) == Long.MAX_VALUE) {
+      return this;
+    }
+    if (!pending.isEmpty() && emitting.compareAndSet(false, true)) {
+      safeDrain();
     }
-    safeDrain();
     return this;
   }
 
@@ -255,79 +355,78 @@ public class BufferedQueue<T> implements Queue<T> {
     if (amount == 0) {
       return this;
     }
-    synchronized (this) {
-      demand += amount;
-      if (demand < 0L) {
-        demand = Long.MAX_VALUE;
+    while (true) {
+      long d = demand.get();
+      long n = d + amount;
+      if (n < 0L) {
+        n = Long.MAX_VALUE;
       }
-      if (emitting || pending.isEmpty()) {
-        return this;
-      } else {
-        emitting = true;
+      if (demand.compareAndSet(d, n)) {
+        break;
       }
     }
-    safeDrain();
+    if (!pending.isEmpty() && emitting.compareAndSet(false, true)) {
+      safeDrain();
+    }
     return this;
   }
 
   @Override
   public T poll() {
-    T elt;
-    synchronized (this) {
-      elt = pending.pop();
-      if (emitting) {
-        return elt;
-      }
-      emitting = true;
+    T elt = pending.poll();
+    if (elt == null) {
+      throw new NoSuchElementException();
+    }
+    size.decrementAndGet();
+    if (emitting.compareAndSet(false, true)) {
+      release();
     }
-    stopEmitting();
     return elt;
   }
 
   @Override
   public Iterable<T> pollAll() {
-    Iterable<T> all;
-    synchronized (this) {
-      if (pending.isEmpty()) {
-        return Collections.emptyList();
-      }
-      all = pending;
-      pending = new ArrayDeque<>();
-      if (emitting) {
-        return all;
-      }
+    if (pending.isEmpty()) {
+      return Collections.emptyList();
+    }
+    ArrayDeque<T> all = new ArrayDeque<>();
+    T elt;
+    while ((elt = pending.poll()) != null) {
+      size.decrementAndGet();
+      all.add(elt);
+    }
+    if (emitting.compareAndSet(false, true)) {
+      release();
     }
-    stopEmitting();
     return all;
   }
 
   @Override
-  public synchronized void clear() {
-    pending.clear();
+  public void clear() {
+    while (pending.poll() != null) {
+      size.decrementAndGet();
+    }
   }
 
   @Override
-  public synchronized boolean isWritable() {
-    return writable;
+  public boolean isWritable() {
+    return writable.get();
   }
 
   @Override
-  public synchronized int size() {
-    return pending.size();
+  public int size() {
+    return size.get();
   }
 
   @Override
-  public synchronized boolean isEmpty() {
+  public boolean isEmpty() {
     return pending.isEmpty();
   }
 
   private void handleException(Throwable err) {
-    Handler<Throwable> handler;
-    synchronized (this) {
-      if ((handler = exceptionHandler) == null) {
-        return;
-      }
+    Handler<Throwable> handler = exceptionHandler;
+    if (handler != null) {
+      handler.handle(err);
     }
-    handler.handle(err);
   }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.shareddata;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring a local {@link AsyncMap}.
+ *
+ * @author Thomas Segismont
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class LocalAsyncMapOptions {
+
+  /**
+   * The default maximum number of entries = -1 (unbounded)
+   */
+  public static final int DEFAULT_MAX_SIZE = -1;
+
+  private int maxSize = DEFAULT_MAX_SIZE;
+
+  /**
+   * Default constructor
+   */
+  public LocalAsyncMapOptions() {
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other The other {@link LocalAsyncMapOptions} to copy when creating this
+   */
+  public LocalAsyncMapOptions(LocalAsyncMapOptions other) {
+    this.maxSize = other.getMaxSize();
+  }
+
+  /**
+   * Creates a new instance of {@link LocalAsyncMapOptions} from the JSON object. This JSON object has (generally)
+   * been generated using {@link #toJson()}.
+   *
+   * @param json the json object
+   */
+  public LocalAsyncMapOptions(JsonObject json) {
+    this();
+
+    LocalAsyncMapOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * Builds a JSON object representing the current {@link LocalAsyncMapOptions}.
+   *
+   * @return the JSON representation
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    LocalAsyncMapOptionsConverter.toJson(this, json);
+    return json;
+  }
+
+  /**
+   * @return the maximum number of entries of the map
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Set the maximum number of entries of the map, when the map grows beyond this size the least recently
+   * used entries are evicted. The default value {@code -1} means the map is unbounded.
+   *
+   * @param maxSize the maximum number of entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public LocalAsyncMapOptions setMaxSize(int maxSize) {
+    if (maxSize < 1 && maxSize != -1) {
+      throw new IllegalArgumentException("maxSize must be > 0 or -1 (unbounded)");
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    LocalAsyncMapOptions that = (LocalAsyncMapOptions) o;
+
+    return maxSize == that.maxSize;
+  }
+
+  @Override
+  public int hashCode() {
+    return maxSize;
+  }
+
+  @Override
+  public String toString() {
+    return "LocalAsyncMapOptions{" +
+    "maxSize=" + maxSize +
+    '}';
+  }
+}
@@ -60,6 +60,18 @@ public interface SharedData {
    */
   <K, V> void getAsyncMap(String name, Handler<AsyncResult<AsyncMap<K, V>>> resultHandler);
 
+  /**
+   * Get the local {@link AsyncMap} with the specified name, the map is only accessible from this Vert.x instance
+   * even when clustered.
+   * <p>
+   * The {@code options} are used when the map is created, they are ignored when the map already exists.
+   *
+   * @param name the name of the map
+   * @param options the map options
+   * @param resultHandler the map will be returned asynchronously in this handler
+   */
+  <K, V> void getLocalAsyncMap(String name, LocalAsyncMapOptions options, Handler<AsyncResult<AsyncMap<K, V>>> resultHandler);
+
   /**
    * Get an asynchronous lock with the specified name. The lock will be passed to the handler when it is available.
    * <p>
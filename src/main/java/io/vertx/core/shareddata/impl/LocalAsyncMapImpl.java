@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2018 Contributors to the Eclipse Foundation
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -11,116 +11,169 @@
 
 package io.vertx.core.shareddata.impl;
 
+import io.netty.util.concurrent.EventExecutor;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.shareddata.AsyncMap;
+import io.vertx.core.shareddata.LocalAsyncMapOptions;
+import io.vertx.core.spi.metrics.AsyncMapMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
 
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.concurrent.TimeUnit.*;
 import static java.util.stream.Collectors.*;
 
 /**
+ * A local {@link AsyncMap}.
+ * <p>
+ * Entries with a time to live are kept in an expiry index ordered by expiration time, a single task scheduled for the
+ * earliest expiration sweeps the index. Lookups check the expiration time so an entry is never visible after its
+ * time to live elapsed, even if it has not been swept yet.
+ * <p>
+ * When the map is bounded, the entries are also kept in a least recently used list and the head of the list
+ * is evicted when the map grows beyond its maximum size.
+ *
  * @author Thomas Segismont
  */
 public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
 
-  private final Vertx vertx;
-  private final ConcurrentMap<K, Holder<V>> map;
+  private final ConcurrentMap<K, Holder<K, V>> map;
+  private final EventExecutor sweeper;
+  private final int maxSize;
+  private final AsyncMapMetrics metrics;
+  private final AtomicLong sequence = new AtomicLong();
+  private final ConcurrentSkipListSet<Holder<K, V>> expirations = new ConcurrentSkipListSet<>();
+
+  // Guarded by expirations
+  private ScheduledFuture<?> sweepFuture;
+  private long sweepTime;
+
+  // Guarded by this, only maintained when the map is bounded
+  private Holder<K, V> lruHead;
+  private Holder<K, V> lruTail;
 
   public LocalAsyncMapImpl(Vertx vertx) {
-    this.vertx = vertx;
-    map = new ConcurrentHashMap<>();
+    this((VertxInternal) vertx, null, new LocalAsyncMapOptions());
+  }
+
+  public LocalAsyncMapImpl(VertxInternal vertx, String name, LocalAsyncMapOptions options) {
+    VertxMetrics vertxMetrics = vertx.metricsSPI();
+    this.map = new ConcurrentHashMap<>();
+    this.sweeper = vertx.getEventLoopGroup().next();
+    this.maxSize = options.getMaxSize();
+    this.metrics = vertxMetrics != null && name != null ? vertxMetrics.createAsyncMapMetrics(name, maxSize) : null;
   }
 
   @Override
   public void get(final K k, Handler<AsyncResult<V>> resultHandler) {
-    Holder<V> h = map.get(k);
+    Holder<K, V> h = map.get(k);
     if (h != null && h.hasNotExpired()) {
+      touch(h);
+      if (metrics != null) {
+        metrics.hit();
+      }
       resultHandler.handle(Future.succeededFuture(h.value));
     } else {
+      if (h != null) {
+        expire(h);
+      }
+      if (metrics != null) {
+        metrics.miss();
+      }
       resultHandler.handle(Future.succeededFuture());
     }
   }
 
   @Override
   public void put(final K k, final V v, Handler<AsyncResult<Void>> resultHandler) {
-    Holder<V> previous = map.put(k, new Holder<>(v));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
-    }
+    put(new Holder<>(k, v));
     resultHandler.handle(Future.succeededFuture());
   }
 
   @Override
   public void putIfAbsent(K k, V v, Handler<AsyncResult<V>> resultHandler) {
-    Holder<V> h = map.putIfAbsent(k, new Holder<>(v));
+    Holder<K, V> h = putIfAbsent(new Holder<>(k, v));
     resultHandler.handle(Future.succeededFuture(h == null ? null : h.value));
   }
 
   @Override
   public void put(K k, V v, long timeout, Handler<AsyncResult<Void>> completionHandler) {
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(timeout, l -> removeIfExpired(k));
-    Holder<V> previous = map.put(k, new Holder<>(v, timerId, timeout, timestamp));
-    if (previous != null && previous.expires()) {
-      vertx.cancelTimer(previous.timerId);
-    }
+    put(new Holder<>(k, v, timeout, System.nanoTime(), sequence.getAndIncrement()));
     completionHandler.handle(Future.succeededFuture());
   }
 
-  private void removeIfExpired(K k) {
-    map.computeIfPresent(k, (key, holder) -> holder.hasNotExpired() ? holder : null);
-  }
-
   @Override
   public void putIfAbsent(K k, V v, long timeout, Handler<AsyncResult<V>> completionHandler) {
-    long timestamp = System.nanoTime();
-    long timerId = vertx.setTimer(timeout, l -> removeIfExpired(k));
-    Holder<V> existing = map.putIfAbsent(k, new Holder<>(v, timerId, timeout, timestamp));
-    if (existing != null) {
-      if (existing.expires()) {
-        vertx.cancelTimer(timerId);
-      }
-      completionHandler.handle(Future.succeededFuture(existing.value));
-    } else {
-      completionHandler.handle(Future.succeededFuture());
+    Holder<K, V> h = putIfAbsent(new Holder<>(k, v, timeout, System.nanoTime(), sequence.getAndIncrement()));
+    completionHandler.handle(Future.succeededFuture(h == null ? null : h.value));
+  }
+
+  private void put(Holder<K, V> h) {
+    Holder<K, V> previous = map.put(h.key, h);
+    if (previous != null) {
+      removed(previous);
+    }
+    added(h);
+  }
+
+  private Holder<K, V> putIfAbsent(Holder<K, V> h) {
+    while (true) {
+      Holder<K, V> existing = map.putIfAbsent(h.key, h);
+      if (existing == null) {
+        added(h);
+        return null;
+      } else if (existing.hasNotExpired()) {
+        touch(existing);
+        return existing;
+      } else if (map.replace(h.key, existing, h)) {
+        expired(existing);
+        added(h);
+        return null;
+      }
     }
   }
 
   @Override
   public void removeIfPresent(K k, V v, Handler<AsyncResult<Boolean>> resultHandler) {
-    AtomicBoolean result = new AtomicBoolean();
+    AtomicReference<Holder<K, V>> result = new AtomicReference<>();
     map.computeIfPresent(k, (key, holder) -> {
       if (holder.value.equals(v)) {
-        result.compareAndSet(false, true);
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
+        result.set(holder);
         return null;
       }
       return holder;
     });
-    resultHandler.handle(Future.succeededFuture(result.get()));
+    Holder<K, V> removed = result.get();
+    if (removed != null) {
+      removed(removed);
+    }
+    resultHandler.handle(Future.succeededFuture(removed != null));
   }
 
   @Override
   public void replace(K k, V v, Handler<AsyncResult<V>> resultHandler) {
-    Holder<V> previous = map.replace(k, new Holder<>(v));
+    Holder<K, V> h = new Holder<>(k, v);
+    Holder<K, V> previous = map.replace(k, h);
     if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
+      removed(previous);
+      added(h);
       resultHandler.handle(Future.succeededFuture(previous.value));
     } else {
       resultHandler.handle(Future.succeededFuture());
@@ -129,22 +182,34 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
 
   @Override
   public void replaceIfPresent(K k, V oldValue, V newValue, Handler<AsyncResult<Boolean>> resultHandler) {
-    Holder<V> h = new Holder<>(newValue);
-    Holder<V> result = map.computeIfPresent(k, (key, holder) -> {
+    Holder<K, V> h = new Holder<>(k, newValue);
+    AtomicReference<Holder<K, V>> previous = new AtomicReference<>();
+    Holder<K, V> result = map.computeIfPresent(k, (key, holder) -> {
       if (holder.value.equals(oldValue)) {
-        if (holder.expires()) {
-          vertx.cancelTimer(holder.timerId);
-        }
+        previous.set(holder);
         return h;
       }
       return holder;
     });
+    if (h == result) {
+      removed(previous.get());
+      added(h);
+    }
     resultHandler.handle(Future.succeededFuture(h == result));
   }
 
   @Override
   public void clear(Handler<AsyncResult<Void>> resultHandler) {
-    map.clear();
+    synchronized (this) {
+      // The indexes are cleared before the map, a holder put concurrently is either indexed after or removed
+      // from its indexes by added(Holder) when the map does not contain it anymore
+      expirations.clear();
+      for (Holder<K, V> h = lruHead;h != null;h = h.next) {
+        h.linked = false;
+      }
+      lruHead = lruTail = null;
+      map.clear();
+    }
     resultHandler.handle(Future.succeededFuture());
   }
 
@@ -180,38 +245,193 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
 
   @Override
   public void remove(final K k, Handler<AsyncResult<V>> resultHandler) {
-    Holder<V> previous = map.remove(k);
+    Holder<K, V> previous = map.remove(k);
     if (previous != null) {
-      if (previous.expires()) {
-        vertx.cancelTimer(previous.timerId);
-      }
+      removed(previous);
       resultHandler.handle(Future.succeededFuture(previous.value));
     } else {
       resultHandler.handle(Future.succeededFuture());
     }
   }
 
-  private static class Holder<V> {
+  /**
+   * Index a holder that has been put in the map.
+   */
+  private void added(Holder<K, V> h) {
+    if (h.expires()) {
+      expirations.add(h);
+      scheduleSweep(h.expirationTime);
+    }
+    if (maxSize > 0) {
+      synchronized (this) {
+        linkLast(h);
+      }
+      evict();
+    }
+    if (map.get(h.key) != h) {
+      // Concurrently replaced before it was indexed
+      removed(h);
+    }
+  }
+
+  /**
+   * Remove from the indexes a holder that has been removed from the map.
+   */
+  private void removed(Holder<K, V> h) {
+    if (h.expires()) {
+      expirations.remove(h);
+    }
+    if (maxSize > 0) {
+      synchronized (this) {
+        if (h.linked) {
+          unlink(h);
+        }
+      }
+    }
+  }
+
+  private void expire(Holder<K, V> h) {
+    if (map.remove(h.key, h)) {
+      expired(h);
+    }
+  }
+
+  private void expired(Holder<K, V> h) {
+    removed(h);
+    if (metrics != null) {
+      metrics.expired();
+    }
+  }
+
+  private void touch(Holder<K, V> h) {
+    if (maxSize > 0) {
+      synchronized (this) {
+        if (h.linked && h != lruTail) {
+          unlink(h);
+          linkLast(h);
+        }
+      }
+    }
+  }
+
+  private void evict() {
+    while (map.size() > maxSize) {
+      Holder<K, V> eldest;
+      synchronized (this) {
+        eldest = lruHead;
+        if (eldest == null) {
+          return;
+        }
+        unlink(eldest);
+      }
+      if (map.remove(eldest.key, eldest)) {
+        if (eldest.expires()) {
+          expirations.remove(eldest);
+        }
+        if (metrics != null) {
+          metrics.evicted();
+        }
+      }
+    }
+  }
+
+  private void linkLast(Holder<K, V> h) {
+    h.prev = lruTail;
+    h.next = null;
+    if (lruTail == null) {
+      lruHead = h;
+    } else {
+      lruTail.next = h;
+    }
+    lruTail = h;
+    h.linked = true;
+  }
+
+  private void unlink(Holder<K, V> h) {
+    if (h.prev == null) {
+      lruHead = h.next;
+    } else {
+      h.prev.next = h.next;
+    }
+    if (h.next == null) {
+      lruTail = h.prev;
+    } else {
+      h.next.prev = h.prev;
+    }
+    h.prev = null;
+    h.next = null;
+    h.linked = false;
+  }
+
+  private void scheduleSweep(long time) {
+    synchronized (expirations) {
+      if (sweepFuture == null || time - sweepTime < 0) {
+        if (sweepFuture != null) {
+          sweepFuture.cancel(false);
+        }
+        sweepTime = time;
+        try {
+          sweepFuture = sweeper.schedule(this::sweep, Math.max(time - System.nanoTime(), 0), NANOSECONDS);
+        } catch (RejectedExecutionException ignore) {
+          // Vert.x is closed, expired entries are still never visible
+          sweepFuture = null;
+        }
+      }
+    }
+  }
+
+  private void sweep() {
+    synchronized (expirations) {
+      sweepFuture = null;
+    }
+    long now = System.nanoTime();
+    Holder<K, V> h;
+    while ((h = firstExpiration()) != null && now - h.expirationTime >= 0) {
+      expirations.remove(h);
+      expire(h);
+    }
+    if (h != null) {
+      scheduleSweep(h.expirationTime);
+    }
+  }
+
+  private Holder<K, V> firstExpiration() {
+    try {
+      return expirations.first();
+    } catch (NoSuchElementException e) {
+      return null;
+    }
+  }
+
+  private static class Holder<K, V> implements Comparable<Holder<K, V>> {
+    final K key;
     final V value;
-    final long timerId;
     final long ttl;
-    final long timestamp;
+    final long expirationTime;
+    final long sequence;
 
-    Holder(V value) {
+    // Guarded by the owning map, only used when the map is bounded
+    Holder<K, V> prev;
+    Holder<K, V> next;
+    boolean linked;
+
+    Holder(K key, V value) {
       Objects.requireNonNull(value);
+      this.key = key;
       this.value = value;
-      timestamp = ttl = timerId = 0;
+      expirationTime = ttl = sequence = 0;
     }
 
-    Holder(V value, long timerId, long ttl, long timestamp) {
+    Holder(K key, V value, long ttl, long timestamp, long sequence) {
       Objects.requireNonNull(value);
       if (ttl < 1) {
         throw new IllegalArgumentException("ttl must be positive: " + ttl);
       }
+      this.key = key;
       this.value = value;
-      this.timerId = timerId;
       this.ttl = ttl;
-      this.timestamp = timestamp;
+      this.expirationTime = timestamp + MILLISECONDS.toNanos(ttl);
+      this.sequence = sequence;
     }
 
     boolean expires() {
@@ -219,12 +439,21 @@ public class LocalAsyncMapImpl<K, V> implements AsyncMap<K, V> {
     }
 
     boolean hasNotExpired() {
-      return !expires() || MILLISECONDS.convert(System.nanoTime() - timestamp, NANOSECONDS) < ttl;
+      return !expires() || System.nanoTime() - expirationTime < 0;
+    }
+
+    @Override
+    public int compareTo(Holder<K, V> o) {
+      long diff = expirationTime - o.expirationTime;
+      if (diff != 0) {
+        return diff < 0 ? -1 : 1;
+      }
+      return Long.compare(sequence, o.sequence);
     }
 
     @Override
     public String toString() {
-      return "Holder{" + "value=" + value + ", timerId=" + timerId + ", ttl=" + ttl + ", timestamp=" + timestamp + '}';
+      return "Holder{" + "key=" + key + ", value=" + value + ", ttl=" + ttl + ", expirationTime=" + expirationTime + '}';
     }
   }
 }
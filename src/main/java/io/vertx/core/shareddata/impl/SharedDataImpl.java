@@ -19,6 +19,7 @@ import io.vertx.core.impl.Arguments;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.shareddata.AsyncMap;
 import io.vertx.core.shareddata.Counter;
+import io.vertx.core.shareddata.LocalAsyncMapOptions;
 import io.vertx.core.shareddata.LocalMap;
 import io.vertx.core.shareddata.Lock;
 import io.vertx.core.shareddata.SharedData;
@@ -126,12 +127,20 @@ public class SharedDataImpl implements SharedData {
     return (LocalMap<K, V>) localMaps.computeIfAbsent(name, n -> new LocalMapImpl<>(n, localMaps));
   }
 
+  @Override
   @SuppressWarnings("unchecked")
-  private <K, V> void getLocalAsyncMap(String name, Handler<AsyncResult<AsyncMap<K, V>>> resultHandler) {
-    LocalAsyncMapImpl<K, V> asyncMap = (LocalAsyncMapImpl<K, V>) localAsyncMaps.computeIfAbsent(name, n -> new LocalAsyncMapImpl<>(vertx));
+  public <K, V> void getLocalAsyncMap(String name, LocalAsyncMapOptions options, Handler<AsyncResult<AsyncMap<K, V>>> resultHandler) {
+    Objects.requireNonNull(name, "name");
+    Objects.requireNonNull(options, "options");
+    Objects.requireNonNull(resultHandler, "resultHandler");
+    LocalAsyncMapImpl<K, V> asyncMap = (LocalAsyncMapImpl<K, V>) localAsyncMaps.computeIfAbsent(name, n -> new LocalAsyncMapImpl<>(vertx, n, options));
     resultHandler.handle(Future.succeededFuture(new WrappedAsyncMap<>(asyncMap)));
   }
 
+  private <K, V> void getLocalAsyncMap(String name, Handler<AsyncResult<AsyncMap<K, V>>> resultHandler) {
+    getLocalAsyncMap(name, new LocalAsyncMapOptions(), resultHandler);
+  }
+
   private void getLocalLock(String name, long timeout, Handler<AsyncResult<Lock>> resultHandler) {
     localAsyncLocks.acquire(vertx.getOrCreateContext(), name, timeout, resultHandler);
   }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * An SPI used internally by Vert.x to gather metrics on local asynchronous maps.
+ * <p>
+ * No specific thread and context can be expected when these methods are called.
+ *
+ * @author Thomas Segismont
+ */
+public interface AsyncMapMetrics extends Metrics {
+
+  /**
+   * A lookup found a live entry.
+   */
+  default void hit() {
+  }
+
+  /**
+   * A lookup did not find a live entry.
+   */
+  default void miss() {
+  }
+
+  /**
+   * An entry has been evicted because the map exceeded its maximum size.
+   */
+  default void evicted() {
+  }
+
+  /**
+   * An entry has been removed because its time to live elapsed.
+   */
+  default void expired() {
+  }
+}
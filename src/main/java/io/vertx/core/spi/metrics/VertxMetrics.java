@@ -170,4 +170,15 @@ public interface VertxMetrics extends Metrics, Measured {
   default PoolMetrics<?> createPoolMetrics(String poolType, String poolName, int maxPoolSize) {
     return null;
   }
+
+  /**
+   * Provides the local async map metrics SPI.
+   *
+   * @param name the name of the map
+   * @param maxSize the map max size, or -1 if the map is unbounded
+   * @return the map metrics SPI or {@code null} when metrics are disabled
+   */
+  default AsyncMapMetrics createAsyncMapMetrics(String name, int maxSize) {
+    return null;
+  }
 }
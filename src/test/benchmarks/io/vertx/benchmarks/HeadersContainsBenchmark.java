@@ -20,6 +20,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import static io.vertx.benchmarks.HeadersUtils.setBaseHeaders;
+import static io.vertx.benchmarks.HeadersUtils.setLargeHeaders;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -29,6 +30,8 @@ public class HeadersContainsBenchmark extends BenchmarkBase {
 
   private HttpHeaders nettySmallHeaders;
   private VertxHttpHeaders vertxSmallHeaders;
+  private HttpHeaders nettyLargeHeaders;
+  private VertxHttpHeaders vertxLargeHeaders;
 
   @Setup
   public void setup() {
@@ -36,6 +39,10 @@ public class HeadersContainsBenchmark extends BenchmarkBase {
     vertxSmallHeaders = new VertxHttpHeaders();
     setBaseHeaders(nettySmallHeaders);
     setBaseHeaders(vertxSmallHeaders);
+    nettyLargeHeaders = new DefaultHttpHeaders();
+    vertxLargeHeaders = new VertxHttpHeaders();
+    setLargeHeaders(nettyLargeHeaders);
+    setLargeHeaders(vertxLargeHeaders);
   }
 
   @Benchmark
@@ -47,4 +54,24 @@ public class HeadersContainsBenchmark extends BenchmarkBase {
   public boolean vertxSmall() throws Exception {
     return vertxSmallHeaders.contains(HeadersUtils.CONTENT_LENGTH_HEADER);
   }
+
+  @Benchmark
+  public boolean nettyLarge() throws Exception {
+    return nettyLargeHeaders.contains(io.vertx.core.http.HttpHeaders.USER_AGENT);
+  }
+
+  @Benchmark
+  public boolean vertxLarge() throws Exception {
+    return vertxLargeHeaders.contains(io.vertx.core.http.HttpHeaders.USER_AGENT);
+  }
+
+  @Benchmark
+  public boolean nettyLargeMissing() throws Exception {
+    return nettyLargeHeaders.contains(HeadersUtils.CONTENT_LENGTH_HEADER);
+  }
+
+  @Benchmark
+  public boolean vertxLargeMissing() throws Exception {
+    return vertxLargeHeaders.contains(HeadersUtils.CONTENT_LENGTH_HEADER);
+  }
 }
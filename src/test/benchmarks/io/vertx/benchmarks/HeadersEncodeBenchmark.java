@@ -25,6 +25,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import static io.vertx.benchmarks.HeadersUtils.setBaseHeaders;
+import static io.vertx.benchmarks.HeadersUtils.setLargeHeaders;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -50,16 +51,22 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
   private HttpHeaders emptyHeaders;
   private HttpHeaders nettySmallHeaders;
   private HttpHeaders vertxSmallHeaders;
+  private HttpHeaders nettyLargeHeaders;
+  private HttpHeaders vertxLargeHeaders;
 
   @Setup
   public void setup() {
-    byteBuf = Unpooled.buffer(1024);
+    byteBuf = Unpooled.buffer(4096);
     encoder = new PublicEncoder();
     emptyHeaders = EmptyHttpHeaders.INSTANCE;
     nettySmallHeaders = new DefaultHttpHeaders();
     vertxSmallHeaders = new VertxHttpHeaders();
     setBaseHeaders(nettySmallHeaders);
     setBaseHeaders(vertxSmallHeaders);
+    nettyLargeHeaders = new DefaultHttpHeaders();
+    vertxLargeHeaders = new VertxHttpHeaders();
+    setLargeHeaders(nettyLargeHeaders);
+    setLargeHeaders(vertxLargeHeaders);
   }
 
   @Benchmark
@@ -82,4 +89,18 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
     encoder.encodeHeaders(vertxSmallHeaders, byteBuf);
     consume(byteBuf);
   }
+
+  @Benchmark
+  public void nettyLarge() throws Exception {
+    byteBuf.resetWriterIndex();
+    encoder.encodeHeaders(nettyLargeHeaders, byteBuf);
+    consume(byteBuf);
+  }
+
+  @Benchmark
+  public void vertxLarge() throws Exception {
+    byteBuf.resetWriterIndex();
+    encoder.encodeHeaders(vertxLargeHeaders, byteBuf);
+    consume(byteBuf);
+  }
 }
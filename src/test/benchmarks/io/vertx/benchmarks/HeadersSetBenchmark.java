@@ -21,6 +21,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import static io.vertx.benchmarks.HeadersUtils.setBaseHeaders;
+import static io.vertx.benchmarks.HeadersUtils.setLargeHeaders;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -34,11 +35,15 @@ public class HeadersSetBenchmark extends BenchmarkBase {
 
   private HttpHeaders nettySmallHeaders;
   private VertxHttpHeaders vertxSmallHeaders;
+  private HttpHeaders nettyLargeHeaders;
+  private VertxHttpHeaders vertxLargeHeaders;
 
   @Setup
   public void setup() {
     nettySmallHeaders = new DefaultHttpHeaders();
     vertxSmallHeaders = new VertxHttpHeaders();
+    nettyLargeHeaders = new DefaultHttpHeaders();
+    vertxLargeHeaders = new VertxHttpHeaders();
   }
 
   @Benchmark
@@ -54,4 +59,18 @@ public class HeadersSetBenchmark extends BenchmarkBase {
     setBaseHeaders(vertxSmallHeaders);
     consume(vertxSmallHeaders);
   }
+
+  @Benchmark
+  public void nettyLarge() throws Exception {
+    nettyLargeHeaders.clear();
+    setLargeHeaders(nettyLargeHeaders);
+    consume(nettyLargeHeaders);
+  }
+
+  @Benchmark
+  public void vertxLarge() throws Exception {
+    vertxLargeHeaders.clear();
+    setLargeHeaders(vertxLargeHeaders);
+    consume(vertxLargeHeaders);
+  }
 }
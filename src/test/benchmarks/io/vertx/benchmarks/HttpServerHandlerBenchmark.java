@@ -38,6 +38,7 @@ import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.impl.HttpHandlers;
 import io.vertx.core.http.impl.Http1xServerHandler;
+import io.vertx.core.http.impl.headers.VertxHttpHeaders;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.EventLoopContext;
 import io.vertx.core.impl.VertxInternal;
@@ -69,6 +70,7 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
   int writeIndex;
   VertxInternal vertx;
   EmbeddedChannel vertxChannel;
+  EmbeddedChannel vertxPreEncodedChannel;
   EmbeddedChannel nettyChannel;
 
   static class Alloc implements ByteBufAllocator {
@@ -201,25 +203,47 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
   private static final CharSequence SERVER = io.vertx.core.http.HttpHeaders.createOptimized("vert.x");
   private static final CharSequence DATE_STRING = io.vertx.core.http.HttpHeaders.createOptimized(java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME.format(java.time.ZonedDateTime.now()));
 
-  @Setup
-  public void setup() {
-    vertx = (VertxInternal) Vertx.vertx();
-    HttpServerOptions options = new HttpServerOptions();
-    vertxChannel = new EmbeddedChannel(
+  private static final MultiMap COMMON_HEADERS = io.vertx.core.http.HttpHeaders.preEncoded(MultiMap.caseInsensitiveMultiMap()
+      .add(HEADER_CONTENT_TYPE.toString(), RESPONSE_TYPE_PLAIN.toString())
+      .add(HEADER_SERVER.toString(), SERVER.toString()));
+
+  /**
+   * Encodes the {@link VertxHttpHeaders} like the server encoder does.
+   */
+  static class VertxResponseEncoder extends HttpResponseEncoder {
+    @Override
+    protected void encodeHeaders(HttpHeaders headers, ByteBuf buf) {
+      if (headers instanceof VertxHttpHeaders) {
+        ((VertxHttpHeaders) headers).encode(buf);
+      } else {
+        super.encodeHeaders(headers, buf);
+      }
+    }
+  }
+
+  private EmbeddedChannel createVertxChannel(HttpServerOptions options, HttpResponseEncoder encoder, Handler<HttpServerRequest> app) {
+    EmbeddedChannel channel = new EmbeddedChannel(
         new HttpRequestDecoder(
             options.getMaxInitialLineLength(),
             options.getMaxHeaderSize(),
             options.getMaxChunkSize(),
             false,
             options.getDecoderInitialBufferSize()),
-        new HttpResponseEncoder()
+        encoder
     );
-    vertxChannel.config().setAllocator(new Alloc());
-
-
+    channel.config().setAllocator(new Alloc());
+    ContextInternal context = new EventLoopContext(vertx, channel.eventLoop(), null, null, null, new JsonObject(), Thread.currentThread().getContextClassLoader());
+    HandlerHolder<HttpHandlers> holder = new HandlerHolder<>(context, new HttpHandlers(app, null, null, null));
+    Http1xServerHandler handler = new Http1xServerHandler(null, options, "localhost", holder, null, null);
+    channel.pipeline().addLast("handler", handler);
+    return channel;
+  }
 
-    ContextInternal context = new EventLoopContext(vertx, vertxChannel.eventLoop(), null, null, null, new JsonObject(), Thread.currentThread().getContextClassLoader());
-    Handler<HttpServerRequest> app = request -> {
+  @Setup
+  public void setup() {
+    vertx = (VertxInternal) Vertx.vertx();
+    HttpServerOptions options = new HttpServerOptions();
+    vertxChannel = createVertxChannel(options, new HttpResponseEncoder(), request -> {
       HttpServerResponse response = request.response();
       MultiMap headers = response.headers();
       headers
@@ -228,10 +252,14 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
           .add(HEADER_DATE, DATE_STRING)
           .add(HEADER_CONTENT_LENGTH, HELLO_WORLD_LENGTH);
       response.end(HELLO_WORLD_BUFFER);
-    };
-    HandlerHolder<HttpHandlers> holder = new HandlerHolder<>(context, new HttpHandlers(app, null, null, null));
-    Http1xServerHandler handler = new Http1xServerHandler(null, new HttpServerOptions(), "localhost", holder, null);
-    vertxChannel.pipeline().addLast("handler", handler);
+    });
+    vertxPreEncodedChannel = createVertxChannel(new HttpServerOptions().setDateHeaderEnabled(true), new VertxResponseEncoder(), request -> {
+      HttpServerResponse response = request.response();
+      response.headers()
+          .addAll(COMMON_HEADERS)
+          .add(HEADER_CONTENT_LENGTH, HELLO_WORLD_LENGTH);
+      response.end(HELLO_WORLD_BUFFER);
+    });
 
     nettyChannel = new EmbeddedChannel(new HttpRequestDecoder(
         options.getMaxInitialLineLength(),
@@ -310,6 +338,14 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
     consume(result);
   }
 
+  @Benchmark
+  public void vertxPreEncoded() {
+    GET.setIndex(readerIndex, writeIndex);
+    vertxPreEncodedChannel.writeInbound(GET);
+    ByteBuf result = (ByteBuf) vertxPreEncodedChannel.outboundMessages().poll();
+    consume(result);
+  }
+
   @Benchmark
   public void netty() {
     GET.setIndex(readerIndex, writeIndex);
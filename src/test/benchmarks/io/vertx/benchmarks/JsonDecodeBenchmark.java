@@ -11,6 +11,7 @@
 
 package io.vertx.benchmarks;
 
+import io.netty.buffer.ByteBufInputStream;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.Json;
@@ -22,6 +23,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.Map;
 
@@ -89,4 +91,22 @@ public class JsonDecodeBenchmark extends BenchmarkBase {
     pos += 4;
     consume(new JsonObject(buffer.slice(pos, pos + length)));
   }
+
+  @Benchmark
+  public void mapperSmall() throws Exception {
+    mapper(small);
+  }
+
+  @Benchmark
+  public void mapperLarge() throws Exception {
+    mapper(large);
+  }
+
+  private void mapper(Buffer buffer) throws Exception {
+    int pos = 0;
+    int length = buffer.getInt(pos);
+    pos += 4;
+    ByteBufInputStream in = new ByteBufInputStream(buffer.slice(pos, pos + length).getByteBuf());
+    consume(new JsonObject(Json.mapper.readValue((InputStream) in, Map.class)));
+  }
 }
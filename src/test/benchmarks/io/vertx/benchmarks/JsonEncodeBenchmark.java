@@ -90,4 +90,38 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
     buffer.appendBuffer(encoded);
     consume(buffer);
   }
+
+  @Benchmark
+  public void mapperSmall() throws Exception {
+    mapper(small);
+  }
+
+  @Benchmark
+  public void mapperLarge() throws Exception {
+    mapper(large);
+  }
+
+  private void mapper(JsonObject jsonObject) throws Exception {
+    Buffer buffer = Buffer.buffer();
+    byte[] encoded = Json.mapper.writeValueAsBytes(jsonObject.getMap());
+    buffer.appendInt(encoded.length);
+    buffer.appendBytes(encoded);
+    consume(buffer);
+  }
+
+  @Benchmark
+  public void inPlaceSmall() throws Exception {
+    inPlace(small);
+  }
+
+  @Benchmark
+  public void inPlaceLarge() throws Exception {
+    inPlace(large);
+  }
+
+  private void inPlace(JsonObject jsonObject) throws Exception {
+    Buffer buffer = Buffer.buffer();
+    jsonObject.writeToBuffer(buffer);
+    consume(buffer);
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.eventbus.impl.codecs.JsonObjectMessageCodec;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+
+/**
+ * Measures the cost of delivering a JSON object published to local consumers, each consumer receives the result
+ * of the codec transform.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@State(Scope.Thread)
+public class JsonPublishBenchmark extends BenchmarkBase {
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final JsonObject json) {
+  }
+
+  @Param({"1", "4", "16"})
+  public int consumers;
+
+  private JsonObjectMessageCodec codec;
+  private JsonObject small;
+  private JsonObject large;
+
+  @Setup
+  public void setup() {
+    ClassLoader classLoader = getClass().getClassLoader();
+    codec = new JsonObjectMessageCodec();
+    small = loadJson(classLoader.getResource("small.json"));
+    large = loadJson(classLoader.getResource("large.json"));
+  }
+
+  private JsonObject loadJson(URL url) {
+    try {
+      return new JsonObject(Json.mapper.readValue(url, Map.class));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Benchmark
+  public void copySmall() {
+    publish(small);
+  }
+
+  @Benchmark
+  public void copyLarge() {
+    publish(large);
+  }
+
+  @Benchmark
+  public void immutableSmall() {
+    publish(small.toImmutable());
+  }
+
+  @Benchmark
+  public void immutableLarge() {
+    publish(large.toImmutable());
+  }
+
+  private void publish(JsonObject json) {
+    for (int i = 0;i < consumers;i++) {
+      consume(codec.transform(json));
+    }
+  }
+}
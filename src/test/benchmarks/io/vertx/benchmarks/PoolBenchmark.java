@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.impl.pool.ConnectResult;
+import io.vertx.core.http.impl.pool.ConnectionListener;
+import io.vertx.core.http.impl.pool.ConnectionProvider;
+import io.vertx.core.http.impl.pool.Pool;
+import io.vertx.core.http.impl.pool.ShardedPool;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measures connection acquisition and recycling when several event loops share the pool of a host, connections
+ * are fake and connect immediately. The connections are acquired and recycled on the event loops, the sharded pool
+ * has a shard owned by each event loop.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@State(Scope.Benchmark)
+@Threads(PoolBenchmark.NUM_EVENT_LOOPS)
+public class PoolBenchmark extends BenchmarkBase {
+
+  static final int NUM_EVENT_LOOPS = 4;
+  private static final int BATCH_SIZE = 256;
+  private static final int MAX_POOL_SIZE = 16;
+
+  static class FakeConnection {
+
+    final ConnectionListener<FakeConnection> listener;
+
+    FakeConnection(ConnectionListener<FakeConnection> listener) {
+      this.listener = listener;
+    }
+  }
+
+  static class FakeConnectionProvider implements ConnectionProvider<FakeConnection> {
+
+    @Override
+    public void connect(ConnectionListener<FakeConnection> listener, ContextInternal context, Handler<AsyncResult<ConnectResult<FakeConnection>>> resultHandler) {
+      resultHandler.handle(Future.succeededFuture(new ConnectResult<>(new FakeConnection(listener), 1, null, context, 1)));
+    }
+
+    @Override
+    public void activate(FakeConnection conn) {
+    }
+
+    @Override
+    public void deactivate(FakeConnection conn) {
+    }
+
+    @Override
+    public void close(FakeConnection conn) {
+      conn.listener.onDiscard();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class EventLoopState {
+
+    int shard;
+    ContextInternal context;
+
+    @Setup
+    public void setup(PoolBenchmark benchmark) {
+      context = (ContextInternal) benchmark.vertx.getOrCreateContext();
+      for (int i = 0;i < NUM_EVENT_LOOPS;i++) {
+        if (benchmark.eventLoops[i] == context.nettyEventLoop()) {
+          shard = i;
+        }
+      }
+    }
+  }
+
+  @Param({"false", "true"})
+  public boolean sharded;
+
+  private Vertx vertx;
+  private Pool<FakeConnection> pool;
+  private ShardedPool<FakeConnection> shardedPool;
+  private final EventExecutor[] eventLoops = new EventExecutor[NUM_EVENT_LOOPS];
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(NUM_EVENT_LOOPS));
+    int index = 0;
+    for (EventExecutor eventLoop : ((VertxInternal) vertx).getEventLoopGroup()) {
+      eventLoops[index++] = eventLoop;
+    }
+    FakeConnectionProvider connector = new FakeConnectionProvider();
+    if (sharded) {
+      shardedPool = new ShardedPool<>(connector, eventLoops, -1, 1, MAX_POOL_SIZE, v -> {}, (channel, conn) -> {}, (channel, conn) -> {}, false);
+    } else {
+      pool = new Pool<>(connector, -1, 1, MAX_POOL_SIZE, v -> {}, (channel, conn) -> {}, (channel, conn) -> {}, false);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void acquireAndRecycle(EventLoopState state) throws Exception {
+    CountDownLatch latch = new CountDownLatch(BATCH_SIZE);
+    Handler<AsyncResult<FakeConnection>> handler = ar -> {
+      ar.result().listener.onRecycle(Long.MAX_VALUE);
+      latch.countDown();
+    };
+    state.context.runOnContext(v -> {
+      for (int i = 0;i < BATCH_SIZE;i++) {
+        if (sharded) {
+          shardedPool.getConnection(state.shard, state.context, handler);
+        } else {
+          pool.getConnection(state.context, handler);
+        }
+      }
+    });
+    latch.await();
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.queue.Queue;
+import io.vertx.core.queue.impl.BufferedQueue;
+import io.vertx.core.queue.impl.SynchronizedBufferedQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Measures the {@link Queue} operations on the event loop of the queue context, the way streams use the queue.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@State(Scope.Benchmark)
+public class QueueBenchmark extends BenchmarkBase {
+
+  private static final int BATCH_SIZE = 256;
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final Object elt) {
+  }
+
+  /**
+   * <ul>
+   *   <li>{@code synchronized}: the monitor based queue</li>
+   *   <li>{@code atomic}: the thread safe queue</li>
+   * </ul>
+   */
+  @Param({"synchronized", "atomic"})
+  public String variant;
+
+  private Vertx vertx;
+  private Context context;
+  private Queue<Object> queue;
+  private final Object element = new Object();
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    context = vertx.getOrCreateContext();
+    queue = onContext(() -> {
+      switch (variant) {
+        case "synchronized":
+          return new SynchronizedBufferedQueue<>(context, BATCH_SIZE, BATCH_SIZE);
+        case "atomic":
+          return new BufferedQueue<>(context, BATCH_SIZE, BATCH_SIZE);
+        default:
+          throw new IllegalArgumentException(variant);
+      }
+    });
+    queue.handler(QueueBenchmark::consume);
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  private <T> T onContext(java.util.function.Supplier<T> task) throws Exception {
+    CompletableFuture<T> fut = new CompletableFuture<>();
+    context.runOnContext(v -> {
+      try {
+        fut.complete(task.get());
+      } catch (Throwable t) {
+        fut.completeExceptionally(t);
+      }
+    });
+    return fut.get();
+  }
+
+  private void runOnContext(Handler<Void> task) throws Exception {
+    onContext(() -> {
+      task.handle(null);
+      return null;
+    });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void addFlowing() throws Exception {
+    runOnContext(v -> {
+      for (int i = 0;i < BATCH_SIZE;i++) {
+        queue.add(element);
+      }
+    });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void addPausedThenResume() throws Exception {
+    runOnContext(v -> {
+      queue.pause();
+      for (int i = 0;i < BATCH_SIZE;i++) {
+        queue.add(element);
+      }
+      queue.resume();
+    });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void addPausedThenTake() throws Exception {
+    runOnContext(v -> {
+      queue.pause();
+      for (int i = 0;i < BATCH_SIZE;i++) {
+        queue.add(element);
+      }
+      for (int i = 0;i < BATCH_SIZE;i++) {
+        queue.take(1);
+      }
+      queue.resume();
+    });
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.impl.SynchronizedTaskQueue;
+import io.vertx.core.impl.TaskQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Compares the lock-free {@link TaskQueue} with the former monitor based implementation: each producer thread
+ * submits a batch of ordered tasks and waits until the last one is executed.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@State(Scope.Benchmark)
+public class TaskQueueBenchmark extends BenchmarkBase {
+
+  private static final int BATCH_SIZE = 64;
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final String buf) {
+  }
+
+  ExecutorService executor;
+  TaskQueue queue;
+  SynchronizedTaskQueue synchronizedQueue;
+  Runnable task;
+
+  @Setup
+  public void setup() {
+    executor = Executors.newFixedThreadPool(4);
+    queue = new TaskQueue();
+    synchronizedQueue = new SynchronizedTaskQueue();
+    task = () -> consume("the-string");
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @State(Scope.Thread)
+  public static class ProducerState {
+
+    volatile boolean done;
+    Runnable marker;
+
+    @Setup
+    public void setup() {
+      marker = () -> done = true;
+    }
+
+    void await() {
+      while (!done) {
+        Thread.yield();
+      }
+      done = false;
+    }
+  }
+
+  private void submit(ProducerState state) {
+    for (int i = 0;i < BATCH_SIZE - 1;i++) {
+      queue.execute(task, executor);
+    }
+    queue.execute(state.marker, executor);
+    state.await();
+  }
+
+  private void submitSynchronized(ProducerState state) {
+    for (int i = 0;i < BATCH_SIZE - 1;i++) {
+      synchronizedQueue.execute(task, executor);
+    }
+    synchronizedQueue.execute(state.marker, executor);
+    state.await();
+  }
+
+  @Benchmark
+  @Threads(1)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void lockFree1(ProducerState state) {
+    submit(state);
+  }
+
+  @Benchmark
+  @Threads(4)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void lockFree4(ProducerState state) {
+    submit(state);
+  }
+
+  @Benchmark
+  @Threads(16)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void lockFree16(ProducerState state) {
+    submit(state);
+  }
+
+  @Benchmark
+  @Threads(1)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void synchronized1(ProducerState state) {
+    submitSynchronized(state);
+  }
+
+  @Benchmark
+  @Threads(4)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void synchronized4(ProducerState state) {
+    submitSynchronized(state);
+  }
+
+  @Benchmark
+  @Threads(16)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void synchronized16(ProducerState state) {
+    submitSynchronized(state);
+  }
+}
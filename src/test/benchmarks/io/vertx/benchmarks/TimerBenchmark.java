@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Measures the cost of arming and cancelling timers from the event loop, the typical pattern of request timeouts.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@State(Scope.Benchmark)
+public class TimerBenchmark extends BenchmarkBase {
+
+  private static final int BATCH_SIZE = 1024;
+
+  @Param({"false", "true"})
+  public boolean timerWheel;
+
+  private Vertx vertx;
+  private Context context;
+  private Handler<Long> noop;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx(new VertxOptions().setTimerWheelEnabled(timerWheel));
+    context = vertx.getOrCreateContext();
+    noop = id -> {};
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void setAndCancel() throws Exception {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    context.runOnContext(v -> {
+      for (int i = 0;i < BATCH_SIZE;i++) {
+        long id = vertx.setTimer(30_000, noop);
+        vertx.cancelTimer(id);
+      }
+      done.complete(null);
+    });
+    done.get();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void setManyThenCancel() throws Exception {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    context.runOnContext(v -> {
+      long[] ids = new long[BATCH_SIZE];
+      for (int i = 0;i < BATCH_SIZE;i++) {
+        ids[i] = vertx.setTimer(1_000 + i, noop);
+      }
+      for (long id : ids) {
+        vertx.cancelTimer(id);
+      }
+      done.complete(null);
+    });
+    done.get();
+  }
+}
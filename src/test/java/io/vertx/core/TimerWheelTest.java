@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the timer tests with timers scheduled on the event loop timing wheels.
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class TimerWheelTest extends TimerTest {
+
+  @Override
+  protected VertxOptions getOptions() {
+    return super.getOptions().setTimerWheelEnabled(true);
+  }
+
+  @Test
+  public void testTimerLongerThanWheelTurn() {
+    long start = System.nanoTime();
+    vertx.setTimer(700, id -> {
+      assertTrue(System.nanoTime() - start >= 700_000_000L);
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testTimersFireInDeadlineOrder() {
+    int num = 100;
+    AtomicInteger count = new AtomicInteger();
+    Context ctx = vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      for (int i = 0;i < num;i++) {
+        int expected = i;
+        vertx.setTimer(1 + i * 3, id -> {
+          assertEquals(expected, count.getAndIncrement());
+          if (expected == num - 1) {
+            testComplete();
+          }
+        });
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testCancelWithIdOfFiredTimer() {
+    vertx.setTimer(1, id1 -> {
+      vertx.runOnContext(v -> {
+        // The second timer reuses the slot of the first timer
+        long id2 = vertx.setTimer(50, id -> {
+          testComplete();
+        });
+        assertFalse(id1 == id2);
+        assertFalse(vertx.cancelTimer(id1));
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testCancelFromAnotherThread() throws Exception {
+    Context ctx = vertx.getOrCreateContext();
+    long[] ids = new long[100];
+    ctx.runOnContext(v -> {
+      for (int i = 0;i < ids.length;i++) {
+        ids[i] = vertx.setTimer(200, id -> fail("Cancelled timer should not fire"));
+      }
+      new Thread(() -> {
+        int cancelled = 0;
+        for (long id : ids) {
+          if (vertx.cancelTimer(id) && !vertx.cancelTimer(id)) {
+            cancelled++;
+          }
+        }
+        int expected = cancelled;
+        vertx.setTimer(400, id -> {
+          assertEquals(ids.length, expected);
+          testComplete();
+        });
+      }).start();
+    });
+    await();
+  }
+}
@@ -205,6 +205,19 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(TimeUnit.MINUTES, options.getWarningExceptionTimeUnit());
     assertEquals(options, options.setBlockedThreadCheckIntervalUnit(TimeUnit.MILLISECONDS));
     assertEquals(TimeUnit.MILLISECONDS, options.getBlockedThreadCheckIntervalUnit());
+    assertFalse(options.isTimerWheelEnabled());
+    assertEquals(options, options.setTimerWheelEnabled(true));
+    assertTrue(options.isTimerWheelEnabled());
+    assertEquals(VertxOptions.DEFAULT_TIMER_WHEEL_TICK_DURATION, options.getTimerWheelTickDuration());
+    randomLong = TestUtils.randomPositiveLong();
+    assertEquals(options, options.setTimerWheelTickDuration(randomLong));
+    assertEquals(randomLong, options.getTimerWheelTickDuration());
+    try {
+      options.setTimerWheelTickDuration(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
   }
 
   @Test
@@ -234,6 +247,8 @@ public class VertxOptionsTest extends VertxTestBase {
     TimeUnit maxWorkerExecuteTimeUnit = TimeUnit.MILLISECONDS;
     TimeUnit warningExceptionTimeUnit = TimeUnit.MINUTES;
     TimeUnit blockedThreadCheckIntervalUnit = TimeUnit.MINUTES;
+    boolean timerWheelEnabled = rand.nextBoolean();
+    long timerWheelTickDuration = TestUtils.randomPositiveLong();
     options.setClusterPort(clusterPort);
     options.setClusterPublicPort(clusterPublicPort);
     options.setEventLoopPoolSize(eventLoopPoolSize);
@@ -258,6 +273,8 @@ public class VertxOptionsTest extends VertxTestBase {
     options.setMaxWorkerExecuteTimeUnit(maxWorkerExecuteTimeUnit);
     options.setWarningExceptionTimeUnit(warningExceptionTimeUnit);
     options.setBlockedThreadCheckIntervalUnit(blockedThreadCheckIntervalUnit);
+    options.setTimerWheelEnabled(timerWheelEnabled);
+    options.setTimerWheelTickDuration(timerWheelTickDuration);
 
     options = new VertxOptions(options);
     assertEquals(clusterPort, options.getClusterPort());
@@ -284,6 +301,8 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(maxWorkerExecuteTimeUnit, options.getMaxWorkerExecuteTimeUnit());
     assertEquals(warningExceptionTimeUnit, options.getWarningExceptionTimeUnit());
     assertEquals(blockedThreadCheckIntervalUnit, options.getBlockedThreadCheckIntervalUnit());
+    assertEquals(timerWheelEnabled, options.isTimerWheelEnabled());
+    assertEquals(timerWheelTickDuration, options.getTimerWheelTickDuration());
   }
 
   @Test
@@ -311,6 +330,8 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(def.getMaxWorkerExecuteTimeUnit(), json.getMaxWorkerExecuteTimeUnit());
     assertEquals(def.getWarningExceptionTimeUnit(), json.getWarningExceptionTimeUnit());
     assertEquals(def.getBlockedThreadCheckIntervalUnit(), json.getBlockedThreadCheckIntervalUnit());
+    assertEquals(def.isTimerWheelEnabled(), json.isTimerWheelEnabled());
+    assertEquals(def.getTimerWheelTickDuration(), json.getTimerWheelTickDuration());
   }
 
   @Test
@@ -339,6 +360,8 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(TimeUnit.NANOSECONDS, options.getMaxWorkerExecuteTimeUnit());
     assertEquals(TimeUnit.NANOSECONDS, options.getWarningExceptionTimeUnit());
     assertEquals(TimeUnit.MILLISECONDS, options.getBlockedThreadCheckIntervalUnit());
+    assertFalse(options.isTimerWheelEnabled());
+    assertEquals(1, options.getTimerWheelTickDuration());
     int clusterPort = TestUtils.randomPortInt();
     int clusterPublicPort = TestUtils.randomPortInt();
     int eventLoopPoolSize = TestUtils.randomPositiveInt();
@@ -366,6 +389,8 @@ public class VertxOptionsTest extends VertxTestBase {
     TimeUnit maxWorkerExecuteTimeUnit = TimeUnit.MILLISECONDS;
     TimeUnit warningExceptionTimeUnit = TimeUnit.MINUTES;
     TimeUnit blockedThreadCheckIntervalUnit = TimeUnit.MINUTES;
+    boolean timerWheelEnabled = rand.nextBoolean();
+    long timerWheelTickDuration = TestUtils.randomPositiveLong();
     options = new VertxOptions(new JsonObject().
         put("clusterPort", clusterPort).
         put("clusterPublicPort", clusterPublicPort).
@@ -395,7 +420,9 @@ public class VertxOptionsTest extends VertxTestBase {
         put("maxEventLoopExecuteTimeUnit", maxEventLoopExecuteTimeUnit).
         put("maxWorkerExecuteTimeUnit", maxWorkerExecuteTimeUnit).
         put("warningExceptionTimeUnit", warningExceptionTimeUnit).
-        put("blockedThreadCheckIntervalUnit", blockedThreadCheckIntervalUnit)
+        put("blockedThreadCheckIntervalUnit", blockedThreadCheckIntervalUnit).
+        put("timerWheelEnabled", timerWheelEnabled).
+        put("timerWheelTickDuration", timerWheelTickDuration)
     );
     assertEquals(clusterPort, options.getClusterPort());
     assertEquals(clusterPublicPort, options.getClusterPublicPort());
@@ -424,6 +451,8 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(maxWorkerExecuteTimeUnit, options.getMaxWorkerExecuteTimeUnit());
     assertEquals(warningExceptionTimeUnit, options.getWarningExceptionTimeUnit());
     assertEquals(blockedThreadCheckIntervalUnit, options.getBlockedThreadCheckIntervalUnit());
+    assertEquals(timerWheelEnabled, options.isTimerWheelEnabled());
+    assertEquals(timerWheelTickDuration, options.getTimerWheelTickDuration());
   }
 
   @Test
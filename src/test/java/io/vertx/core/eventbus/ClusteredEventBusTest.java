@@ -13,11 +13,17 @@ package io.vertx.core.eventbus;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.impl.codecs.JsonArrayCompactMessageCodec;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.test.core.TestUtils;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -330,4 +336,229 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     }));
     await();
   }
+
+  @Test
+  public void testSendWithWriteBatching() {
+    testSendWithWriteBatching(new EventBusOptions().setClusterWriteBatchMaxBytes(512));
+  }
+
+  @Test
+  public void testSendWithWriteBatchingDelay() {
+    testSendWithWriteBatching(new EventBusOptions().setClusterWriteBatchMaxBytes(512).setClusterWriteBatchMaxDelay(1000));
+  }
+
+  private void testSendWithWriteBatching(EventBusOptions options) {
+    startNodes(2, new VertxOptions().setEventBusOptions(options));
+    int num = 1000;
+    Set<Integer> received = new HashSet<>();
+    vertices[1].eventBus().<Integer>consumer(ADDRESS1).handler(msg -> {
+      assertTrue(received.add(msg.body()));
+      if (received.size() == num) {
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      for (int i = 0; i < num; i++) {
+        vertices[0].eventBus().send(ADDRESS1, i);
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendMessagesOfVaryingSizes() {
+    startNodes(2);
+    List<Object> bodies = new ArrayList<>();
+    for (int i = 0;i < 20;i++) {
+      bodies.add(i);
+      bodies.add(TestUtils.randomUnicodeString(1 << i % 16));
+      bodies.add(TestUtils.randomBuffer(1 << i));
+      bodies.add(new JsonObject().put("value", TestUtils.randomAlphaString(1 << i % 16)));
+    }
+    List<Object> received = new ArrayList<>();
+    vertices[1].eventBus().consumer(ADDRESS1).handler(msg -> {
+      received.add(msg.body());
+      assertEquals("\u00e9t\u00e9", msg.headers().get("h"));
+      if (received.size() == bodies.size()) {
+        assertEquals(bodies, received);
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      for (Object body : bodies) {
+        vertices[0].eventBus().send(ADDRESS1, body, new DeliveryOptions().addHeader("h", "\u00e9t\u00e9"));
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendSmallBodiesToLongAddress() {
+    startNodes(2);
+    String address = TestUtils.randomAlphaString(1000);
+    int num = 200;
+    AtomicInteger received = new AtomicInteger();
+    vertices[1].eventBus().<JsonObject>consumer(address, msg -> {
+      assertEquals(new JsonObject().put("i", received.get()), msg.body());
+      if (received.incrementAndGet() == num) {
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      for (int i = 0;i < num;i++) {
+        vertices[0].eventBus().send(address, new JsonObject().put("i", i));
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendAfterUnknownCodec() throws Exception {
+    startNodes(2);
+    MessageCodec codec = new MyPOJOEncoder1();
+    // Only the sender knows the codec
+    vertices[0].eventBus().registerCodec(codec);
+    vertices[1].eventBus().<String>consumer(ADDRESS2, msg -> {
+      assertEquals("bar", msg.body());
+      testComplete();
+    });
+    vertices[1].eventBus().<String>consumer(ADDRESS1, msg -> {
+      // Let the ping establish the address dictionary before sending the next frames
+      vertices[0].setTimer(500, id -> {
+        vertices[0].eventBus().send(ADDRESS2, new MyPOJO("foo"), new DeliveryOptions().setCodecName(codec.name()));
+        vertices[0].eventBus().send(ADDRESS2, "bar");
+      });
+    }).completionHandler(onSuccess(v -> {
+      vertices[0].eventBus().send(ADDRESS1, "foo");
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendToManyAddresses() throws Exception {
+    startNodes(2);
+    // More addresses than the connection address dictionary holds
+    int numAddresses = 1100;
+    CountDownLatch registered = new CountDownLatch(numAddresses);
+    for (int i = 0;i < numAddresses;i++) {
+      String address = ADDRESS1 + "-" + i;
+      vertices[1].eventBus().<String>consumer(address, msg -> {
+        assertEquals(address, msg.body());
+        msg.reply(msg.body());
+      }).completionHandler(onSuccess(v -> registered.countDown()));
+    }
+    awaitLatch(registered);
+    sendToManyAddresses(numAddresses, 3);
+    await();
+  }
+
+  private void sendToManyAddresses(int numAddresses, int rounds) {
+    if (rounds == 0) {
+      testComplete();
+      return;
+    }
+    AtomicInteger replies = new AtomicInteger();
+    for (int i = 0;i < numAddresses;i++) {
+      String address = ADDRESS1 + "-" + i;
+      vertices[0].eventBus().<String>send(address, address, onSuccess(reply -> {
+        assertEquals(address, reply.body());
+        if (replies.incrementAndGet() == numAddresses) {
+          sendToManyAddresses(numAddresses, rounds - 1);
+        }
+      }));
+    }
+  }
+
+  @Test
+  public void testSendCompactJsonObject() {
+    startNodes(2, new VertxOptions().setEventBusOptions(new EventBusOptions().setCompactJsonEncoding(true)));
+    JsonArray items = new JsonArray();
+    for (int i = 0;i < 10;i++) {
+      items.add(new JsonObject().put("id", i).put("name", "item-" + i).put("price", i * 1.5D).put("ref", (long) i << 40));
+    }
+    JsonObject expected = new JsonObject()
+      .put("items", items)
+      .put("enabled", true)
+      .put("missing", (Object) null)
+      .put("name", "\u00e9t\u00e9");
+    vertices[1].eventBus().<JsonObject>consumer(ADDRESS1).handler(msg -> {
+      assertEquals(expected, msg.body());
+      testComplete();
+    }).completionHandler(onSuccess(v -> {
+      vertices[0].eventBus().send(ADDRESS1, expected);
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendCompactJsonArrayWithCodecName() {
+    startNodes(2);
+    JsonArray expected = new JsonArray().add(new JsonObject().put("a", -1)).add(new JsonObject().put("a", 2)).addNull().add(3.5F);
+    vertices[1].eventBus().<JsonArray>consumer(ADDRESS1).handler(msg -> {
+      assertEquals(expected, msg.body());
+      testComplete();
+    }).completionHandler(onSuccess(v -> {
+      vertices[0].eventBus().send(ADDRESS1, expected, new DeliveryOptions().setCodecName(JsonArrayCompactMessageCodec.NAME));
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendBatch() {
+    startNodes(2);
+    int num = 100;
+    List<Integer> batch = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      batch.add(i);
+    }
+    List<Integer> received = new ArrayList<>();
+    vertices[1].eventBus().<Integer>consumer(ADDRESS1).handler(msg -> {
+      received.add(msg.body());
+      if (received.size() == num) {
+        assertEquals(batch, received);
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      vertices[0].eventBus().sendBatch(ADDRESS1, batch);
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendBatchToBatchHandler() {
+    startNodes(2);
+    int num = 100;
+    List<Integer> batch = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      batch.add(i);
+    }
+    vertices[1].eventBus().<Integer>consumer(ADDRESS1).batchHandler(msgs -> {
+      // The batch is sent as a single frame
+      assertEquals(num, msgs.size());
+      for (int i = 0;i < num;i++) {
+        assertEquals(i, (int) msgs.get(i).body());
+      }
+      testComplete();
+    }).completionHandler(onSuccess(v -> {
+      vertices[0].eventBus().sendBatch(ADDRESS1, batch);
+    }));
+    await();
+  }
+
+  @Test
+  public void testPublishBatch() throws Exception {
+    int num = 10;
+    waitFor(2 * num);
+    startNodes(2);
+    List<Integer> batch = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      batch.add(i);
+    }
+    CountDownLatch registered = new CountDownLatch(2);
+    for (Vertx node : vertices) {
+      node.eventBus().<Integer>consumer(ADDRESS1).batchHandler(msgs -> {
+        msgs.forEach(msg -> complete());
+      }).completionHandler(onSuccess(v -> registered.countDown()));
+    }
+    awaitLatch(registered);
+    vertices[0].eventBus().publishBatch(ADDRESS1, batch);
+    await();
+  }
 }
@@ -113,4 +113,34 @@ public class JsonEventBusTest extends VertxTestBase {
     list.add("uhwqdiuh");
     await();
   }
+
+  @Test
+  public void testPublishImmutableObject() {
+    JsonObject obj = new JsonObject().put("foo", "bar").toImmutable();
+    int consumers = 3;
+    waitFor(consumers);
+    for (int i = 0;i < consumers;i++) {
+      eb.<JsonObject>consumer("foo").handler((Message<JsonObject> msg) -> {
+        assertSame(obj, msg.body());
+        complete();
+      });
+    }
+    eb.publish("foo", obj);
+    await();
+  }
+
+  @Test
+  public void testPublishImmutableArray() {
+    JsonArray arr = new JsonArray().add("foo").toImmutable();
+    int consumers = 3;
+    waitFor(consumers);
+    for (int i = 0;i < consumers;i++) {
+      eb.<JsonArray>consumer("foo").handler((Message<JsonArray> msg) -> {
+        assertSame(arr, msg.body());
+        complete();
+      });
+    }
+    eb.publish("foo", arr);
+    await();
+  }
 }
@@ -22,8 +22,11 @@ import io.vertx.core.streams.WriteStream;
 import io.vertx.test.core.TestUtils;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,6 +36,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static io.vertx.test.core.TestUtils.*;
 
@@ -90,6 +94,8 @@ public class LocalEventBusTest extends EventBusTestBase {
     assertNullPointerException(() -> eb.publish(null, ""));
     assertNullPointerException(() -> eb.publish(null, "", new DeliveryOptions()));
     assertNullPointerException(() -> eb.publish("", "", new DebuggingOptions()));
+    assertNullPointerException(() -> eb.sendBatch(null, Collections.singletonList(""), new DebuggingOptions()));
+    assertNullPointerException(() -> eb.publishBatch(null, Collections.singletonList(""), new DeliveryOptions(), new DebuggingOptions()));
     assertNullPointerException(() -> eb.consumer(null));
     assertNullPointerException(() -> eb.consumer(null, msg -> {}));
     assertNullPointerException(() -> eb.consumer(ADDRESS1, null));
@@ -1320,5 +1326,112 @@ public class LocalEventBusTest extends EventBusTestBase {
     });
     await();
   }
-}
 
+  @Test
+  public void testSendBatchToBatchHandler() {
+    List<String> batch = Arrays.asList("foo", "bar", "juu");
+    Context ctx = vertx.getOrCreateContext();
+    ctx.runOnContext(v1 -> {
+      MessageConsumer<String> consumer = eb.consumer(ADDRESS1);
+      consumer.batchHandler(msgs -> {
+        assertSame(ctx, Vertx.currentContext());
+        assertEquals(batch, msgs.stream().map(Message::body).collect(Collectors.toList()));
+        testComplete();
+      });
+      consumer.completionHandler(onSuccess(v2 -> eb.sendBatch(ADDRESS1, batch)));
+    });
+    await();
+  }
+
+  @Test
+  public void testSendBatchToHandler() {
+    List<String> batch = Arrays.asList("foo", "bar", "juu");
+    List<String> received = new ArrayList<>();
+    eb.<String>consumer(ADDRESS1).handler(msg -> {
+      received.add(msg.body());
+      if (received.size() == batch.size()) {
+        assertEquals(batch, received);
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> eb.sendBatch(ADDRESS1, batch)));
+    await();
+  }
+
+  @Test
+  public void testSendBatchToHandlerThatThrows() {
+    List<String> batch = Arrays.asList("foo", "bar", "juu");
+    List<String> received = new ArrayList<>();
+    AtomicInteger failures = new AtomicInteger();
+    vertx.exceptionHandler(err -> failures.incrementAndGet());
+    eb.<String>consumer(ADDRESS1).handler(msg -> {
+      received.add(msg.body());
+      if (received.size() == batch.size()) {
+        assertEquals(batch, received);
+        assertEquals(1, failures.get());
+        testComplete();
+      } else if (received.size() == 1) {
+        // The next messages of the batch are still delivered
+        throw new RuntimeException();
+      }
+    }).completionHandler(onSuccess(v -> eb.sendBatch(ADDRESS1, batch)));
+    await();
+  }
+
+  @Test
+  public void testSendBatchChoosesOneConsumer() throws Exception {
+    List<Integer> batch = Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7);
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch registered = new CountDownLatch(2);
+    for (int i = 0;i < 2;i++) {
+      eb.<Integer>consumer(ADDRESS1).batchHandler(msgs -> {
+        assertEquals(1, calls.incrementAndGet());
+        assertEquals(batch.size(), msgs.size());
+        vertx.setTimer(100, id -> testComplete());
+      }).completionHandler(onSuccess(v -> registered.countDown()));
+    }
+    awaitLatch(registered);
+    eb.sendBatch(ADDRESS1, batch);
+    await();
+  }
+
+  @Test
+  public void testPublishBatch() throws Exception {
+    List<String> batch = Arrays.asList("foo", "bar", "juu");
+    int numConsumers = 3;
+    waitFor(numConsumers);
+    CountDownLatch registered = new CountDownLatch(numConsumers);
+    for (int i = 0;i < numConsumers;i++) {
+      eb.<String>consumer(ADDRESS1).batchHandler(msgs -> {
+        assertEquals(batch, msgs.stream().map(Message::body).collect(Collectors.toList()));
+        complete();
+      }).completionHandler(onSuccess(v -> registered.countDown()));
+    }
+    awaitLatch(registered);
+    eb.publishBatch(ADDRESS1, batch);
+    await();
+  }
+
+  @Test
+  public void testBatchHandlerFetch() {
+    List<Integer> batch = Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    List<Integer> received = new ArrayList<>();
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    consumer.pause();
+    consumer.batchHandler(msgs -> {
+      // Never more messages than the demand
+      assertTrue(msgs.size() <= 3);
+      msgs.forEach(msg -> received.add(msg.body()));
+      if (received.size() == batch.size()) {
+        assertEquals(batch, received);
+        testComplete();
+      } else if (received.size() % 3 == 0) {
+        consumer.fetch(3);
+      }
+    });
+    consumer.completionHandler(onSuccess(v -> {
+      eb.sendBatch(ADDRESS1, batch);
+      vertx.setTimer(50, id -> consumer.fetch(3));
+    }));
+    await();
+  }
+}
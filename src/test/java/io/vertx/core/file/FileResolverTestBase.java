@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -280,6 +281,31 @@ public abstract class FileResolverTestBase extends VertxTestBase {
     assertTrue(errors.isEmpty());
   }
 
+  @Test
+  public void testResolveMissingFileFromCache() throws Exception {
+    AtomicInteger lookups = new AtomicInteger();
+    ClassLoader old = Thread.currentThread().getContextClassLoader();
+    try {
+      Thread.currentThread().setContextClassLoader(new ClassLoader(old) {
+        @Override
+        public URL getResource(String name) {
+          if ("missing.txt".equals(name)) {
+            lookups.incrementAndGet();
+          }
+          return super.getResource(name);
+        }
+      });
+      for (int i = 0; i < 3; i++) {
+        File file = resolver.resolveFile("missing.txt");
+        assertFalse(file.exists());
+        assertEquals("missing.txt", file.getPath());
+      }
+      assertEquals(1, lookups.get());
+    } finally {
+      Thread.currentThread().setContextClassLoader(old);
+    }
+  }
+
   @Test
   public void testEnableCaching() throws Exception {
     testCaching(true);
@@ -987,6 +987,31 @@ public class FileSystemTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testMapFile() throws Exception {
+    byte[] content = TestUtils.randomByteArray(1000);
+    String fileName = "some-file.dat";
+    createFile(fileName, content);
+
+    vertx.fileSystem().mapFile(testDir + pathSep + fileName, onSuccess(buff -> {
+      assertEquals(Buffer.buffer(content), buff);
+      assertTrue(buff.getByteBuf().isReadOnly());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testMapFileWritableAsyncFile() throws Exception {
+    String fileName = "some-file.dat";
+    createFile(fileName, TestUtils.randomByteArray(1000));
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions().setMapped(true), onFailure(err -> {
+      assertTrue(err instanceof FileSystemException);
+      testComplete();
+    }));
+    await();
+  }
+
   @Test
   public void testWriteFile() throws Exception {
     byte[] content = TestUtils.randomByteArray(1000);
@@ -1176,6 +1201,47 @@ public class FileSystemTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testWriteStreamWithWriteBatch() throws Exception {
+    testWriteStreamWithWriteBatch(new OpenOptions().setWriteBatchMaxBytes(4096));
+  }
+
+  @Test
+  public void testWriteStreamWithWriteBatchDelay() throws Exception {
+    testWriteStreamWithWriteBatch(new OpenOptions().setWriteBatchMaxBytes(4096).setWriteBatchMaxDelay(10));
+  }
+
+  private void testWriteStreamWithWriteBatch(OpenOptions options) throws Exception {
+    String fileName = "some-file.dat";
+    int chunkSize = 100;
+    int chunks = 100;
+    byte[] content = TestUtils.randomByteArray(chunkSize * chunks);
+    Buffer buff = Buffer.buffer(content);
+    vertx.fileSystem().open(testDir + pathSep + fileName, options, onSuccess(file -> {
+      file.exceptionHandler(t -> fail(t.getMessage()));
+      file.setWriteQueueMaxSize(chunkSize * 4);
+      for (int i = 0; i < chunks; i++) {
+        file.write(buff.getBuffer(i * chunkSize, (i + 1) * chunkSize));
+      }
+      // Batched bytes are accounted as outstanding writes
+      assertTrue(file.writeQueueFull());
+      file.drainHandler(v -> {
+        file.close(onSuccess(v2 -> {
+          byte[] readBytes;
+          try {
+            readBytes = Files.readAllBytes(Paths.get(testDir + pathSep + fileName));
+          } catch (IOException e) {
+            fail(e.getMessage());
+            return;
+          }
+          assertEquals(buff, Buffer.buffer(readBytes));
+          testComplete();
+        }));
+      });
+    }));
+    await();
+  }
+
   @Test
   public void testWriteStreamWithCompositeBuffer() throws Exception {
     String fileName = "some-file.dat";
@@ -1278,13 +1344,27 @@ public class FileSystemTest extends VertxTestBase {
     testReadStream(ReadStrategy.FETCH);
   }
 
+  @Test
+  public void testReadStreamMapped() throws Exception {
+    testReadStream(ReadStrategy.NONE, new OpenOptions().setWrite(false).setMapped(true));
+  }
+
+  @Test
+  public void testReadStreamMappedFetch() throws Exception {
+    testReadStream(ReadStrategy.FETCH, new OpenOptions().setWrite(false).setMapped(true));
+  }
+
   private void testReadStream(ReadStrategy strategy) throws Exception {
+    testReadStream(strategy, new OpenOptions());
+  }
+
+  private void testReadStream(ReadStrategy strategy, OpenOptions options) throws Exception {
     String fileName = "some-file.dat";
     int chunkSize = 1000;
     int chunks = 10;
     byte[] content = TestUtils.randomByteArray(chunkSize * chunks);
     createFile(fileName, content);
-    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions(), ar -> {
+    vertx.fileSystem().open(testDir + pathSep + fileName, options, ar -> {
       if (ar.succeeded()) {
         ReadStream<Buffer> rs = ar.result();
         strategy.init(rs);
@@ -11,10 +11,15 @@
 
 package io.vertx.core.http;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.test.core.TestUtils;
 import io.vertx.test.tls.Cert;
 import io.vertx.test.tls.Trust;
 import org.junit.Test;
 
+import java.io.File;
+import java.nio.file.Files;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -39,6 +44,34 @@ public class Http1xTLSTest extends HttpTLSTest {
     testTLS(Cert.NONE, Trust.SERVER_JKS, Cert.SERVER_JKS, Trust.NONE).serverUsesAlpn().clientUsesAlpn().pass();
   }
 
+  @Test
+  public void testSendFile() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(100 * 1024 + 17);
+    File file = testFolder.newFile();
+    Files.write(file.toPath(), expected.getBytes());
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setSsl(true)
+      .setKeyStoreOptions(Cert.SERVER_JKS.get())
+      .setHost(DEFAULT_HTTP_HOST)
+      .setPort(DEFAULT_HTTPS_PORT)
+      .setSendFileChunkSize(1000)
+    ).requestHandler(req -> {
+      req.response().sendFile(file.getAbsolutePath(), 10, expected.length(), onSuccess(v -> complete()));
+    });
+    startServer();
+    waitFor(2);
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setSsl(true).setTrustAll(true));
+    client.getNow(DEFAULT_HTTPS_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      resp.bodyHandler(body -> {
+        assertEquals(expected.getBuffer(10, expected.length()), body);
+        complete();
+      });
+    });
+    await();
+  }
+
   // RequestOptions tests
 
   @Test
@@ -116,6 +116,10 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setUsePooledBuffers(true));
     assertTrue(options.isUsePooledBuffers());
 
+    assertFalse(options.isUsePooledInboundBuffers());
+    assertEquals(options, options.setUsePooledInboundBuffers(true));
+    assertTrue(options.isUsePooledInboundBuffers());
+
     assertEquals(0, options.getIdleTimeout());
     assertEquals(TimeUnit.SECONDS, options.getIdleTimeoutUnit());
     assertEquals(options, options.setIdleTimeout(10));
@@ -262,6 +266,10 @@ public class Http1xTest extends HttpTest {
     assertEquals(256, options.getDecoderInitialBufferSize());
     assertIllegalArgumentException(() -> options.setDecoderInitialBufferSize(-1));
 
+    assertEquals(HttpClientOptions.DEFAULT_POOL_SHARDING, options.isPoolSharding());
+    assertEquals(options, options.setPoolSharding(true));
+    assertTrue(options.isPoolSharding());
+
     assertEquals(HttpClientOptions.DEFAULT_KEEP_ALIVE_TIMEOUT, options.getKeepAliveTimeout());
     assertEquals(options, options.setKeepAliveTimeout(10));
     assertEquals(10, options.getKeepAliveTimeout());
@@ -322,6 +330,10 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setUsePooledBuffers(true));
     assertTrue(options.isUsePooledBuffers());
 
+    assertFalse(options.isUsePooledInboundBuffers());
+    assertEquals(options, options.setUsePooledInboundBuffers(true));
+    assertTrue(options.isUsePooledInboundBuffers());
+
     assertEquals(0, options.getIdleTimeout());
     assertEquals(options, options.setIdleTimeout(10));
     assertEquals(10, options.getIdleTimeout());
@@ -418,6 +430,37 @@ public class Http1xTest extends HttpTest {
     assertEquals(256, options.getDecoderInitialBufferSize());
     assertIllegalArgumentException(() -> options.setDecoderInitialBufferSize(-1));
 
+    assertEquals(HttpServerOptions.DEFAULT_FILE_CACHE_MAX_ENTRIES, options.getFileCacheMaxEntries());
+    assertEquals(options, options.setFileCacheMaxEntries(100));
+    assertEquals(100, options.getFileCacheMaxEntries());
+    assertIllegalArgumentException(() -> options.setFileCacheMaxEntries(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_FILE_CACHE_MAX_CONTENT_SIZE, options.getFileCacheMaxContentSize());
+    assertEquals(options, options.setFileCacheMaxContentSize(1024));
+    assertEquals(1024, options.getFileCacheMaxContentSize());
+    assertIllegalArgumentException(() -> options.setFileCacheMaxContentSize(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_FILE_CACHE_CHECK_INTERVAL, options.getFileCacheCheckInterval());
+    assertEquals(options, options.setFileCacheCheckInterval(5000));
+    assertEquals(5000, options.getFileCacheCheckInterval());
+    assertIllegalArgumentException(() -> options.setFileCacheCheckInterval(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_SEND_FILE_CHUNK_SIZE, options.getSendFileChunkSize());
+    assertEquals(options, options.setSendFileChunkSize(16384));
+    assertEquals(16384, options.getSendFileChunkSize());
+    assertIllegalArgumentException(() -> options.setSendFileChunkSize(0));
+
+    assertEquals(HttpServerOptions.DEFAULT_MAX_FORM_ATTRIBUTE_SIZE, options.getMaxFormAttributeSize());
+    assertEquals(options, options.setMaxFormAttributeSize(1024));
+    assertEquals(1024, options.getMaxFormAttributeSize());
+    assertEquals(options, options.setMaxFormAttributeSize(-1));
+    assertEquals(-1, options.getMaxFormAttributeSize());
+    assertIllegalArgumentException(() -> options.setMaxFormAttributeSize(-2));
+
+    assertEquals(HttpServerOptions.DEFAULT_DATE_HEADER_ENABLED, options.isDateHeaderEnabled());
+    assertEquals(options, options.setDateHeaderEnabled(true));
+    assertTrue(options.isDateHeaderEnabled());
+
   }
 
   @Test
@@ -509,6 +552,7 @@ public class Http1xTest extends HttpTest {
     options.setDecoderInitialBufferSize(decoderInitialBufferSize);
     options.setKeepAliveTimeout(keepAliveTimeout);
     options.setHttp2KeepAliveTimeout(http2KeepAliveTimeout);
+    options.setPoolSharding(true);
     HttpClientOptions copy = new HttpClientOptions(options);
     checkCopyHttpClientOptions(options, copy);
     HttpClientOptions copy2 = new HttpClientOptions(options.toJson());
@@ -565,6 +609,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(options.isSendUnmaskedFrames(), copy.isSendUnmaskedFrames());
     assertEquals(options.getKeepAliveTimeout(), copy.getKeepAliveTimeout());
     assertEquals(options.getHttp2KeepAliveTimeout(), copy.getHttp2KeepAliveTimeout());
+    assertEquals(options.isPoolSharding(), copy.isPoolSharding());
   }
 
   @Test
@@ -603,6 +648,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.getDecoderInitialBufferSize(), json.getDecoderInitialBufferSize());
     assertEquals(def.getKeepAliveTimeout(), json.getKeepAliveTimeout());
     assertEquals(def.getHttp2KeepAliveTimeout(), json.getHttp2KeepAliveTimeout());
+    assertEquals(def.isPoolSharding(), json.isPoolSharding());
   }
 
   @Test
@@ -821,6 +867,12 @@ public class Http1xTest extends HttpTest {
     boolean decompressionSupported = rand.nextBoolean();
     boolean acceptUnmaskedFrames = rand.nextBoolean();
     int decoderInitialBufferSize = TestUtils.randomPositiveInt();
+    int fileCacheMaxEntries = TestUtils.randomPositiveInt();
+    int fileCacheMaxContentSize = TestUtils.randomPositiveInt();
+    long fileCacheCheckInterval = TestUtils.randomPositiveLong();
+    int sendFileChunkSize = TestUtils.randomPositiveInt();
+    int maxFormAttributeSize = TestUtils.randomPositiveInt();
+    boolean dateHeaderEnabled = rand.nextBoolean();
 
     options.setSendBufferSize(sendBufferSize);
     options.setReceiveBufferSize(receiverBufferSize);
@@ -853,6 +905,12 @@ public class Http1xTest extends HttpTest {
     options.setDecompressionSupported(decompressionSupported);
     options.setAcceptUnmaskedFrames(acceptUnmaskedFrames);
     options.setDecoderInitialBufferSize(decoderInitialBufferSize);
+    options.setFileCacheMaxEntries(fileCacheMaxEntries);
+    options.setFileCacheMaxContentSize(fileCacheMaxContentSize);
+    options.setFileCacheCheckInterval(fileCacheCheckInterval);
+    options.setSendFileChunkSize(sendFileChunkSize);
+    options.setMaxFormAttributeSize(maxFormAttributeSize);
+    options.setDateHeaderEnabled(dateHeaderEnabled);
 
     HttpServerOptions copy = new HttpServerOptions(options);
     checkCopyHttpServerOptions(options, copy);
@@ -901,6 +959,12 @@ public class Http1xTest extends HttpTest {
     assertEquals(options.isDecompressionSupported(), copy.isDecompressionSupported());
     assertEquals(options.isAcceptUnmaskedFrames(), copy.isAcceptUnmaskedFrames());
     assertEquals(options.getDecoderInitialBufferSize(), copy.getDecoderInitialBufferSize());
+    assertEquals(options.getFileCacheMaxEntries(), copy.getFileCacheMaxEntries());
+    assertEquals(options.getFileCacheMaxContentSize(), copy.getFileCacheMaxContentSize());
+    assertEquals(options.getFileCacheCheckInterval(), copy.getFileCacheCheckInterval());
+    assertEquals(options.getSendFileChunkSize(), copy.getSendFileChunkSize());
+    assertEquals(options.getMaxFormAttributeSize(), copy.getMaxFormAttributeSize());
+    assertEquals(options.isDateHeaderEnabled(), copy.isDateHeaderEnabled());
   }
 
   @Test
@@ -934,6 +998,12 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.isDecompressionSupported(), json.isDecompressionSupported());
     assertEquals(def.isAcceptUnmaskedFrames(), json.isAcceptUnmaskedFrames());
     assertEquals(def.getDecoderInitialBufferSize(), json.getDecoderInitialBufferSize());
+    assertEquals(def.getFileCacheMaxEntries(), json.getFileCacheMaxEntries());
+    assertEquals(def.getFileCacheMaxContentSize(), json.getFileCacheMaxContentSize());
+    assertEquals(def.getFileCacheCheckInterval(), json.getFileCacheCheckInterval());
+    assertEquals(def.getSendFileChunkSize(), json.getSendFileChunkSize());
+    assertEquals(def.getMaxFormAttributeSize(), json.getMaxFormAttributeSize());
+    assertEquals(def.isDateHeaderEnabled(), json.isDateHeaderEnabled());
   }
 
   @Test
@@ -1219,6 +1289,92 @@ public class Http1xTest extends HttpTest {
 
   }
 
+  @Test
+  public void testPipelinedRequestsHandledInBatch() throws Exception {
+    // More than a single batch
+    int requests = 40;
+    server.requestHandler(req -> {
+      if (req.path().equals("/0")) {
+        // Queue the other requests until this response ends
+        vertx.setTimer(100, id -> req.response().end(req.path()));
+      } else {
+        req.response().end(req.path());
+      }
+    });
+    startServer();
+    StringBuilder pipeline = new StringBuilder();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0;i < requests;i++) {
+      pipeline.append("GET /").append(i).append(" HTTP/1.1\r\n\r\n");
+      expected.append("/").append(i);
+    }
+    vertx.createNetClient().connect(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, onSuccess(so -> {
+      StringBuilder bodies = new StringBuilder();
+      Buffer received = Buffer.buffer();
+      so.handler(buff -> {
+        received.appendBuffer(buff);
+        String s = received.toString();
+        if (s.split("HTTP/1.1 200 OK").length - 1 == requests && s.endsWith("/" + (requests - 1))) {
+          for (String response : s.split("HTTP/1.1 200 OK")) {
+            int idx = response.indexOf("\r\n\r\n");
+            if (idx >= 0) {
+              bodies.append(response.substring(idx + 4));
+            }
+          }
+          assertEquals(expected.toString(), bodies.toString());
+          testComplete();
+        }
+      });
+      so.write(pipeline.toString());
+    }));
+    await();
+  }
+
+  @Test
+  public void testPipelinedRequestHandlerThrows() throws Exception {
+    int requests = 10;
+    AtomicInteger failures = new AtomicInteger();
+    vertx.exceptionHandler(err -> failures.incrementAndGet());
+    server.requestHandler(req -> {
+      if (req.path().equals("/0")) {
+        // Queue the other requests until this response ends
+        vertx.setTimer(100, id -> req.response().end(req.path()));
+      } else {
+        req.response().end(req.path());
+        throw new RuntimeException();
+      }
+    });
+    startServer();
+    StringBuilder pipeline = new StringBuilder();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0;i < requests;i++) {
+      pipeline.append("GET /").append(i).append(" HTTP/1.1\r\n\r\n");
+      expected.append("/").append(i);
+    }
+    vertx.createNetClient().connect(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, onSuccess(so -> {
+      StringBuilder bodies = new StringBuilder();
+      Buffer received = Buffer.buffer();
+      so.handler(buff -> {
+        received.appendBuffer(buff);
+        String s = received.toString();
+        if (s.split("HTTP/1.1 200 OK").length - 1 == requests && s.endsWith("/" + (requests - 1))) {
+          for (String response : s.split("HTTP/1.1 200 OK")) {
+            int idx = response.indexOf("\r\n\r\n");
+            if (idx >= 0) {
+              bodies.append(response.substring(idx + 4));
+            }
+          }
+          assertEquals(expected.toString(), bodies.toString());
+          testComplete();
+        }
+      });
+      so.write(pipeline.toString());
+    }));
+    await();
+    // The last exception is reported after its response is flushed
+    assertWaitUntil(() -> failures.get() == requests - 1);
+  }
+
   @Test
   public void testPipeliningLimit() throws Exception {
     int limit = 25;
@@ -1572,6 +1728,171 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testSendFileCache() throws Exception {
+    String content = TestUtils.randomAlphaString(1000);
+    File file = setupFile("test-send-file.html", content);
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setHost(DEFAULT_HTTP_HOST)
+      .setFileCacheMaxEntries(10)
+      .setFileCacheCheckInterval(0));
+    server.requestHandler(req -> {
+      if (req.path().equals("/range")) {
+        req.response().sendFile(file.getAbsolutePath(), 10, 100);
+      } else {
+        req.response().sendFile(file.getAbsolutePath());
+      }
+    });
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp1 -> {
+      resp1.bodyHandler(body1 -> {
+        assertEquals(content, body1.toString());
+        client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/range", resp2 -> {
+          resp2.bodyHandler(body2 -> {
+            assertEquals(content.substring(10, 110), body2.toString());
+            // The modified file is reloaded
+            String modified = TestUtils.randomAlphaString(500);
+            vertx.fileSystem().writeFileBlocking(file.getAbsolutePath(), Buffer.buffer(modified));
+            client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp3 -> {
+              resp3.bodyHandler(body3 -> {
+                assertEquals(modified, body3.toString());
+                testComplete();
+              });
+            });
+          });
+        });
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testFormUploadInSmallChunks() throws Exception {
+    String boundary = "dLV9Wyq26L_-JQxk6ferf-RT153LhOO";
+    // Content that looks like a delimiter without being one
+    String contentStr = TestUtils.randomAlphaString(1000) + "\r\n--" + boundary.substring(0, 10) + "\r\r\n-" + TestUtils.randomAlphaString(1000);
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      Buffer tot = Buffer.buffer();
+      req.uploadHandler(upload -> {
+        assertEquals("file", upload.name());
+        assertEquals("tmp-0.txt", upload.filename());
+        assertEquals("application/octet-stream", upload.contentType());
+        upload.handler(tot::appendBuffer);
+      });
+      req.endHandler(v -> {
+        assertEquals(contentStr, tot.toString());
+        assertEquals("vert x", req.getFormAttribute("framework"));
+        assertEquals("jvm", req.getFormAttribute("runson"));
+        req.response().end();
+      });
+    });
+    startServer();
+    HttpClientRequest req = client.request(HttpMethod.POST, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/form", resp -> {
+      assertEquals(200, resp.statusCode());
+      testComplete();
+    });
+    String body =
+      "preamble\r\n" +
+      "--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"framework\"\r\n" +
+      "\r\n" +
+      "vert x\r\n" +
+      "--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"file\"; filename=\"tmp-0.txt\"\r\n" +
+      "\r\n" +
+      contentStr + "\r\n" +
+      "--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"runson\"\r\n" +
+      "\r\n" +
+      "jvm\r\n" +
+      "--" + boundary + "--\r\n";
+    req.setChunked(true);
+    req.putHeader("content-type", "multipart/form-data; boundary=" + boundary);
+    for (int i = 0;i < body.length();i += 7) {
+      req.write(body.substring(i, Math.min(body.length(), i + 7)));
+    }
+    req.end();
+    await();
+  }
+
+  @Test
+  public void testFormAttributeMaxSize() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setHost(DEFAULT_HTTP_HOST)
+      .setMaxFormAttributeSize(16));
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      req.exceptionHandler(err -> req.response().setStatusCode(400).end());
+    });
+    startServer();
+    client.post(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/form", resp -> {
+      assertEquals(400, resp.statusCode());
+      testComplete();
+    }).putHeader("content-type", "application/x-www-form-urlencoded")
+      .end("small=ok&large=" + TestUtils.randomAlphaString(32));
+    await();
+  }
+
+  @Test
+  public void testDateHeader() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setHost(DEFAULT_HTTP_HOST)
+      .setDateHeaderEnabled(true));
+    server.requestHandler(req -> {
+      if (req.path().equals("/custom")) {
+        req.response().putHeader(HttpHeaders.DATE, "custom");
+      }
+      req.response().end();
+    });
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp1 -> {
+      String date = resp1.getHeader(HttpHeaders.DATE);
+      assertNotNull(date);
+      assertNotNull(io.netty.handler.codec.DateFormatter.parseHttpDate(date));
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/custom", resp2 -> {
+        assertEquals(Collections.singletonList("custom"), resp2.headers().getAll(HttpHeaders.DATE));
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testPreEncodedHeaders() throws Exception {
+    MultiMap common = HttpHeaders.preEncoded(MultiMap.caseInsensitiveMultiMap()
+      .add("Server", "vert.x")
+      .add("Content-Type", "text/plain"));
+    server.requestHandler(req -> {
+      HttpServerResponse resp = req.response();
+      resp.headers().addAll(common);
+      if (req.path().equals("/json")) {
+        resp.putHeader("Content-Type", "application/json");
+      }
+      resp.putHeader("X-Path", req.path());
+      resp.end();
+    });
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/text", resp1 -> {
+      assertEquals("vert.x", resp1.getHeader("Server"));
+      assertEquals("text/plain", resp1.getHeader("Content-Type"));
+      assertEquals("/text", resp1.getHeader("X-Path"));
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/json", resp2 -> {
+        assertEquals("vert.x", resp2.getHeader("Server"));
+        assertEquals(Collections.singletonList("application/json"), resp2.headers().getAll("Content-Type"));
+        assertEquals("/json", resp2.getHeader("X-Path"));
+        testComplete();
+      });
+    });
+    await();
+  }
+
   @Test
   public void testServerWebsocketIdleTimeout() {
     server.close();
@@ -4508,4 +4829,60 @@ public class Http1xTest extends HttpTest {
     }).setChunked(false).end();
     await();
   }
+
+  @Test
+  public void testPoolSharding() throws Exception {
+    int numContexts = 4;
+    int numRequests = 50;
+    int maxPoolSize = 3;
+    Set<HttpConnection> connections = Collections.synchronizedSet(new HashSet<>());
+    server.requestHandler(req -> {
+      connections.add(req.connection());
+      req.response().end();
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setPoolSharding(true).setMaxPoolSize(maxPoolSize));
+    AtomicInteger count = new AtomicInteger();
+    for (int i = 0;i < numContexts;i++) {
+      vertx.runOnContext(v -> {
+        for (int j = 0;j < numRequests;j++) {
+          client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+            assertEquals(200, resp.statusCode());
+            if (count.incrementAndGet() == numContexts * numRequests) {
+              assertTrue(connections.size() <= maxPoolSize);
+              testComplete();
+            }
+          }).end();
+        }
+      });
+    }
+    await();
+  }
+
+  @Test
+  public void testPooledBuffers() throws Exception {
+    Buffer body = TestUtils.randomBuffer(100 * 1024);
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setHost(DEFAULT_HTTP_HOST).setUsePooledInboundBuffers(true));
+    server.requestHandler(req -> {
+      // Buffers are queued while paused
+      req.pause();
+      req.bodyHandler(buff -> {
+        assertEquals(body, buff);
+        req.response().end(buff);
+      });
+      vertx.setTimer(10, id -> req.resume());
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setUsePooledInboundBuffers(true));
+    client.post(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      resp.bodyHandler(buff -> {
+        assertEquals(body, buff);
+        testComplete();
+      });
+    }).end(body);
+    await();
+  }
 }
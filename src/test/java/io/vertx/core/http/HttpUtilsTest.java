@@ -43,6 +43,30 @@ public class HttpUtilsTest {
     org.junit.Assert.assertEquals(expected, HttpUtils.parseKeepAliveHeaderTimeout(header));
   }
 
+  @Test
+  public void testParam() {
+    assertEquals("bar", HttpUtils.param("/path?foo=bar", "foo"));
+    assertEquals("bar", HttpUtils.param("/path?foo=bar", "FOO"));
+    assertEquals("bar", HttpUtils.param("/path?a=b&foo=bar&c=d", "foo"));
+    assertEquals("bar", HttpUtils.param("/path?a=b;foo=bar", "foo"));
+    assertEquals("bar", HttpUtils.param("/path?foo=bar&foo=juu", "foo"));
+    assertEquals("bar", HttpUtils.param("http://host/path?foo=bar#fragment", "foo"));
+    assertEquals("b a r", HttpUtils.param("/path?foo=b+a%20r", "foo"));
+    assertEquals("bar", HttpUtils.param("/path?f%6Fo=bar", "foo"));
+    assertEquals("bar", HttpUtils.param("/path?f+o=bar", "f o"));
+    assertEquals("a=b", HttpUtils.param("/path?foo=a=b", "foo"));
+    assertEquals("", HttpUtils.param("/path?foo", "foo"));
+    assertEquals("", HttpUtils.param("/path?foo=", "foo"));
+    assertEquals("", HttpUtils.param("/path?a=b&foo", "foo"));
+    assertEquals("bar", HttpUtils.param("/path?=x&foo=bar", "foo"));
+    assertEquals(null, HttpUtils.param("/path", "foo"));
+    assertEquals(null, HttpUtils.param("/path?", "foo"));
+    assertEquals(null, HttpUtils.param("/path?foobar=bar", "foo"));
+    assertEquals(null, HttpUtils.param("/path?fo=bar", "foo"));
+    assertEquals(null, HttpUtils.param("/path#?foo=bar", "foo"));
+    assertEquals(null, HttpUtils.param("/path?a=b#foo=bar", "foo"));
+  }
+
   @Test
   public void testResolveUri() throws Exception {
     assertResolveUri("http://a/b/c/g", "http://a/b/c/d;p?q", "g");
@@ -11,8 +11,19 @@
 
 package io.vertx.core.http;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.impl.headers.VertxHttpHeaders;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -28,4 +39,95 @@ public class VertxHttpHeadersTest extends CaseInsensitiveHeadersTest {
   public void testHashMININT() {
     // Does not apply
   }
+
+  @Test
+  public void testManyHeaders() {
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    for (int i = 0;i < 100;i++) {
+      headers.add("header-" + i, "value-" + i);
+    }
+    assertEquals(100, headers.size());
+    for (int i = 0;i < 100;i++) {
+      assertEquals("value-" + i, headers.get("Header-" + i));
+    }
+    for (int i = 0;i < 100;i += 2) {
+      headers.remove("header-" + i);
+    }
+    assertEquals(50, headers.size());
+    for (int i = 0;i < 100;i++) {
+      assertEquals(i % 2 == 0 ? null : "value-" + i, headers.get("header-" + i));
+    }
+    List<String> names = new ArrayList<>();
+    for (Map.Entry<String, String> entry : headers) {
+      names.add(entry.getKey());
+    }
+    for (int i = 0;i < 50;i++) {
+      assertEquals("header-" + (2 * i + 1), names.get(i));
+    }
+  }
+
+  @Test
+  public void testSetReclaimsRemovedEntries() {
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    headers.add("first", "value");
+    for (int i = 0;i < 1000;i++) {
+      headers.set("counter", "" + i);
+    }
+    headers.add("last", "value");
+    assertEquals("999", headers.get("counter"));
+    List<String> names = new ArrayList<>();
+    headers.forEach(entry -> names.add(entry.getKey()));
+    assertEquals(Arrays.asList("first", "counter", "last"), names);
+  }
+
+  @Test
+  public void testGetReturnsLastValue() {
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    headers.add("foo", "value1");
+    headers.add("bar", "other");
+    headers.add("Foo", "value2");
+    assertEquals("value2", headers.get("foo"));
+    assertEquals(Arrays.asList("value1", "value2"), headers.getAll("FOO"));
+    headers.remove("foo");
+    assertNull(headers.get("foo"));
+    assertEquals("other", headers.get("bar"));
+  }
+
+  @Test
+  public void testKnownNamePreservesCase() {
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    headers.add("Content-Type", "text/plain");
+    headers.add("x-custom", "value");
+    assertEquals("text/plain", headers.get(HttpHeaders.CONTENT_TYPE));
+    assertTrue(headers.contains("content-type"));
+    assertEquals(Arrays.asList("Content-Type", "x-custom"), new ArrayList<>(headers.names()));
+  }
+
+  @Test
+  public void testPreEncoded() {
+    MultiMap snapshot = HttpHeaders.preEncoded(MultiMap.caseInsensitiveMultiMap().add("Server", "vert.x").add("Content-Type", "text/plain"));
+    try {
+      snapshot.add("foo", "bar");
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    try {
+      snapshot.remove("Server");
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    headers.addAll(snapshot);
+    headers.add("Content-Length", "5");
+    assertEquals("Server: vert.x\r\nContent-Type: text/plain\r\nContent-Length: 5\r\n", encode(headers));
+    headers.set("Content-Type", "application/json");
+    assertEquals("Server: vert.x\r\nContent-Length: 5\r\nContent-Type: application/json\r\n", encode(headers));
+    assertEquals("Server: vert.x\r\nContent-Type: text/plain\r\n", encode((VertxHttpHeaders) snapshot));
+  }
+
+  private static String encode(VertxHttpHeaders headers) {
+    ByteBuf buf = Unpooled.buffer();
+    headers.encode(buf);
+    return buf.toString(CharsetUtil.US_ASCII);
+  }
 }
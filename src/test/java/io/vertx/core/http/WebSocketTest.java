@@ -1416,6 +1416,35 @@ public class WebSocketTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testWebsocketBatchHandler() {
+    int num = 50;
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT)).websocketHandler(ws -> {
+      for (int i = 0;i < num;i++) {
+        ws.writeBinaryMessage(Buffer.buffer("msg-" + i));
+      }
+    });
+    server.listen(onSuccess(s -> {
+      client.websocket(DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/some/path", ws -> {
+        List<String> received = new ArrayList<>();
+        ws.handler(buff -> fail());
+        ws.pause();
+        ws.batchHandler(batch -> {
+          assertTrue(batch.size() > 0);
+          batch.forEach(buff -> received.add(buff.toString()));
+          if (received.size() == num) {
+            for (int i = 0;i < num;i++) {
+              assertEquals("msg-" + i, received.get(i));
+            }
+            testComplete();
+          }
+        });
+        vertx.setTimer(100, id -> ws.resume());
+      });
+    }));
+    await();
+  }
+
   private void connectUntilWebsocketHandshakeException(HttpClient client, int count, Handler<AsyncResult<Void>> doneHandler) {
     vertx.runOnContext(v -> {
       client.websocket(DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/some/path", ws -> {
@@ -774,6 +774,39 @@ public class JsonArrayTest {
     assertEquals(5, copy.size());
   }
 
+  @Test
+  public void testToImmutable() {
+    jsonArray.add("foo");
+    jsonArray.add(new JsonObject().put("foo", "bar"));
+    jsonArray.add(new JsonArray().add("a").add("b"));
+    JsonArray immutable = jsonArray.toImmutable();
+    assertTrue(immutable.isImmutable());
+    assertFalse(jsonArray.isImmutable());
+    assertSame(immutable, immutable.toImmutable());
+    assertEquals(jsonArray, immutable);
+    try {
+      immutable.add("bar");
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    try {
+      immutable.getJsonObject(1).put("foo", "quux");
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    try {
+      immutable.getJsonArray(2).remove(0);
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+    jsonArray.getJsonObject(1).put("foo", "quux");
+    assertEquals("bar", immutable.getJsonObject(1).getString("foo"));
+    JsonArray copy = immutable.copy();
+    assertFalse(copy.isImmutable());
+    copy.add("bar");
+    assertEquals(3, immutable.size());
+  }
+
   @Test
   public void testInvalidValsOnCopy() {
     List<Object> invalid = new ArrayList<>();
@@ -11,6 +11,7 @@
 
 package io.vertx.core.json;
 
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.Utils;
 import io.vertx.core.json.DecodeException;
@@ -21,6 +22,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -1455,6 +1457,52 @@ public class JsonObjectTest {
     assertEquals("blah", copy.getString("eek"));
   }
 
+  @Test
+  public void testToImmutable() {
+    jsonObject.put("foo", "bar");
+    jsonObject.put("wibble", new JsonObject().put("quux", 123));
+    jsonObject.put("arr", new JsonArray().add("a"));
+    Map<String, Object> map = new HashMap<>();
+    map.put("eek", "blah");
+    jsonObject.put("map", map);
+    JsonObject immutable = jsonObject.toImmutable();
+    assertTrue(immutable.isImmutable());
+    assertFalse(jsonObject.isImmutable());
+    assertSame(immutable, immutable.toImmutable());
+    assertEquals(jsonObject, immutable);
+    assertEquals(new ArrayList<>(jsonObject.fieldNames()), new ArrayList<>(immutable.fieldNames()));
+    assertUnsupported(() -> immutable.put("blah", "flib"));
+    assertUnsupported(() -> immutable.remove("foo"));
+    assertUnsupported(immutable::clear);
+    assertUnsupported(() -> immutable.getJsonObject("wibble").put("blah", "flib"));
+    assertUnsupported(() -> immutable.getJsonArray("arr").add("b"));
+    assertUnsupported(() -> immutable.getJsonObject("map").put("blah", "flib"));
+    assertUnsupported(() -> {
+      Iterator<Map.Entry<String, Object>> it = immutable.iterator();
+      it.next();
+      it.remove();
+    });
+    jsonObject.put("foo", "changed");
+    jsonObject.getJsonObject("wibble").put("quux", 456);
+    map.put("eek", "changed");
+    assertEquals("bar", immutable.getString("foo"));
+    assertEquals(123, (int) immutable.getJsonObject("wibble").getInteger("quux"));
+    assertEquals("blah", immutable.getJsonObject("map").getString("eek"));
+    JsonObject copy = immutable.copy();
+    assertFalse(copy.isImmutable());
+    copy.put("blah", "flib");
+    copy.getJsonObject("wibble").put("blah", "flib");
+    assertFalse(immutable.containsKey("blah"));
+  }
+
+  private void assertUnsupported(Runnable runnable) {
+    try {
+      runnable.run();
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+  }
+
   @Test
   public void testInvalidValsOnCopy1() {
     Map<String, Object> invalid = new HashMap<>();
@@ -1539,6 +1587,34 @@ public class JsonObjectTest {
     assertEquals(excepted, new JsonObject(buf));
   }
 
+  @Test
+  public void testCreateFromDirectBuffer() {
+    JsonObject excepted = new JsonObject();
+    excepted.put("foo", "bar");
+    excepted.put("quux", 123);
+    excepted.put("nested", new JsonObject().put("arr", new JsonArray().add(1.5).add(true).addNull()));
+    byte[] bytes = excepted.encode().getBytes(StandardCharsets.UTF_8);
+    Buffer buf = Buffer.buffer(Unpooled.directBuffer().writeBytes(bytes));
+    assertEquals(excepted, new JsonObject(buf));
+  }
+
+  @Test
+  public void testCreateFromBufferWithArray() {
+    try {
+      new JsonObject(Buffer.buffer("[1,2]"));
+      fail();
+    } catch (DecodeException ignore) {
+    }
+  }
+
+  @Test
+  public void testEncodeAppendsToBuffer() {
+    jsonObject.put("foo", "bar").put("nested", new JsonObject().put("quux", 123));
+    Buffer buffer = Buffer.buffer("prefix");
+    Json.encodeToBuffer(jsonObject, buffer);
+    assertEquals("prefix" + jsonObject.encode(), buffer.toString());
+  }
+
   @Test
   public void testCreateFromMapCharSequence() {
     Map<String, Object> map = new HashMap<>();
@@ -1603,6 +1679,17 @@ public class JsonObjectTest {
     assertEquals(jsonObject, deserialized);
   }
 
+  @Test
+  public void testClusterSerializableAtOffset() {
+    jsonObject.put("foo", "bar").put("nested", new JsonArray().add("\u00e9t\u00e9"));
+    Buffer buff = Buffer.buffer().appendInt(0);
+    jsonObject.writeToBuffer(buff);
+    buff.appendInt(0);
+    JsonObject deserialized = new JsonObject();
+    assertEquals(buff.length() - 4, deserialized.readFromBuffer(4, buff));
+    assertEquals(jsonObject, deserialized);
+  }
+
   @Test
   public void testNumberEquality() {
     assertNumberEquals(4, 4);
@@ -13,12 +13,15 @@ package io.vertx.core.net;
 
 import io.netty.channel.Channel;
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.EventExecutor;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.impl.pool.*;
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
@@ -26,6 +29,7 @@ import java.util.*;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -543,6 +547,248 @@ public class ConnectionPoolTest extends VertxTestBase {
     assertEquals(0, mgr.pool.capacity());
   }
 
+  private ShardedPool<FakeConnection> shardedPool(ConnectionProvider<FakeConnection> connector, int numShards, int maxPoolSize) {
+    return new ShardedPool<>(connector, numShards, -1, 1, maxPoolSize, v -> {}, (channel, conn) -> {}, (channel, conn) -> {}, false);
+  }
+
+  private void getConnection(ShardedPool<FakeConnection> pool, int shard, FakeWaiter waiter) {
+    assertTrue(pool.getConnection(shard, waiter.context, waiter.handler));
+  }
+
+  @Test
+  public void testShardedPoolSharesMaxSize() {
+    FakeConnectionProvider connector = new FakeConnectionProvider();
+    ShardedPool<FakeConnection> pool = shardedPool(connector, 3, 2);
+    FakeWaiter waiter1 = new FakeWaiter();
+    getConnection(pool, 0, waiter1);
+    FakeWaiter waiter2 = new FakeWaiter();
+    getConnection(pool, 1, waiter2);
+    FakeConnection conn1 = connector.assertRequest();
+    FakeConnection conn2 = connector.assertRequest();
+    FakeWaiter waiter3 = new FakeWaiter();
+    getConnection(pool, 2, waiter3);
+    connector.assertRequests(0);
+    assertEquals(2, pool.weight());
+    assertEquals(1, pool.waitersInQueue());
+    conn1.connect();
+    conn2.connect();
+    assertWaitUntil(() -> waiter1.isSuccess() && waiter2.isSuccess());
+    assertFalse(waiter3.isComplete());
+    // Closing the connection releases the weight for the other shard
+    waiter1.recycle();
+    FakeConnection conn3 = connector.assertRequest();
+    assertEquals(0, pool.waitersInQueue());
+    conn3.connect();
+    assertWaitUntil(waiter3::isSuccess);
+    waiter3.assertSuccess(conn3);
+    assertEquals(2, pool.weight());
+  }
+
+  @Test
+  public void testShardedPoolStealsAvailableConnection() {
+    FakeConnectionProvider connector = new FakeConnectionProvider();
+    ShardedPool<FakeConnection> pool = shardedPool(connector, 2, 1);
+    FakeWaiter waiter1 = new FakeWaiter();
+    getConnection(pool, 0, waiter1);
+    FakeConnection conn = connector.assertRequest();
+    conn.connect();
+    assertWaitUntil(waiter1::isSuccess);
+    conn.recycle(false);
+    FakeWaiter waiter2 = new FakeWaiter();
+    getConnection(pool, 1, waiter2);
+    assertWaitUntil(waiter2::isSuccess);
+    waiter2.assertSuccess(conn);
+    connector.assertRequests(0);
+    assertEquals(0, pool.waitersInQueue());
+    assertEquals(0, pool.shard(1).waitersCount());
+    assertEquals(1, pool.weight());
+  }
+
+  @Test
+  public void testShardedPoolLendsRecycledConnection() {
+    FakeConnectionProvider connector = new FakeConnectionProvider();
+    ShardedPool<FakeConnection> pool = shardedPool(connector, 2, 1);
+    FakeWaiter waiter1 = new FakeWaiter();
+    getConnection(pool, 0, waiter1);
+    FakeConnection conn = connector.assertRequest();
+    conn.connect();
+    assertWaitUntil(waiter1::isSuccess);
+    FakeWaiter waiter2 = new FakeWaiter();
+    getConnection(pool, 1, waiter2);
+    assertEquals(1, pool.waitersInQueue());
+    conn.recycle(false);
+    assertWaitUntil(waiter2::isSuccess);
+    waiter2.assertSuccess(conn);
+    connector.assertRequests(0);
+    assertEquals(0, pool.waitersInQueue());
+    assertEquals(1, pool.weight());
+  }
+
+  @Test
+  public void testShardedPoolLifecycle() {
+    FakeConnectionProvider connector = new FakeConnectionProvider();
+    AtomicInteger closed = new AtomicInteger();
+    ShardedPool<FakeConnection> pool = new ShardedPool<>(connector, 2, -1, 1, 2, v -> closed.incrementAndGet(), (channel, conn) -> {}, (channel, conn) -> {}, false);
+    FakeWaiter waiter1 = new FakeWaiter();
+    getConnection(pool, 0, waiter1);
+    FakeConnection conn1 = connector.assertRequest();
+    FakeWaiter waiter2 = new FakeWaiter();
+    getConnection(pool, 1, waiter2);
+    FakeConnection conn2 = connector.assertRequest();
+    conn1.connect();
+    conn2.connect();
+    assertWaitUntil(() -> waiter1.isSuccess() && waiter2.isSuccess());
+    conn1.close();
+    assertEquals(0, closed.get());
+    conn2.close();
+    assertWaitUntil(() -> closed.get() == 1);
+    assertFalse(pool.getConnection(0, (ContextInternal) vertx.getOrCreateContext(), ar -> fail()));
+  }
+
+  @Test
+  public void testShardedPoolDividesQueueMaxSize() {
+    FakeConnectionProvider connector = new FakeConnectionProvider();
+    ShardedPool<FakeConnection> pool = new ShardedPool<>(connector, 2, 3, 1, 1, v -> {}, (channel, conn) -> {}, (channel, conn) -> {}, false);
+    FakeWaiter waiter1 = new FakeWaiter();
+    getConnection(pool, 0, waiter1);
+    connector.assertRequest();
+    FakeWaiter waiter2 = new FakeWaiter();
+    getConnection(pool, 0, waiter2);
+    FakeWaiter waiter3 = new FakeWaiter();
+    getConnection(pool, 0, waiter3);
+    FakeWaiter waiter4 = new FakeWaiter();
+    getConnection(pool, 1, waiter4);
+    assertEquals(3, pool.waitersInQueue());
+    FakeWaiter waiter5 = new FakeWaiter();
+    getConnection(pool, 1, waiter5);
+    assertWaitUntil(waiter5::isFailure); // Full
+    assertFalse(waiter4.isComplete());
+  }
+
+  @Test
+  public void testShardedPoolBorrowsLocalConnectionInline() {
+    FakeConnectionProvider connector = new FakeConnectionProvider();
+    FakeWaiter waiter1 = new FakeWaiter();
+    ShardedPool<FakeConnection> pool = new ShardedPool<>(connector, new EventExecutor[]{waiter1.context.nettyEventLoop()}, -1, 1, 1, v -> {}, (channel, conn) -> {}, (channel, conn) -> {}, false);
+    getConnection(pool, 0, waiter1);
+    FakeConnection conn = connector.assertRequest();
+    conn.connect();
+    assertWaitUntil(waiter1::isSuccess);
+    waiter1.context.runOnContext(v -> {
+      conn.recycle(false);
+      FakeWaiter waiter2 = new FakeWaiter();
+      assertTrue(pool.getConnection(0, waiter2.context, waiter2.handler));
+      // Delivered before getConnection returns
+      assertTrue(waiter2.isSuccess());
+      waiter2.assertSuccess(conn);
+      assertTrue(conn.isActive());
+      assertEquals(0, pool.shard(0).waitersCount());
+      conn.recycle(false);
+      assertFalse(conn.isActive());
+      testComplete();
+    });
+    await();
+    connector.assertRequests(0);
+    assertEquals(1, pool.weight());
+  }
+
+  @Test
+  public void testShardedPoolPublishesLocalConnection() {
+    FakeConnectionProvider connector = new FakeConnectionProvider();
+    FakeWaiter waiter1 = new FakeWaiter();
+    ShardedPool<FakeConnection> pool = new ShardedPool<>(connector, new EventExecutor[]{waiter1.context.nettyEventLoop(), null}, -1, 1, 1, v -> {}, (channel, conn) -> {}, (channel, conn) -> {}, false);
+    getConnection(pool, 0, waiter1);
+    FakeConnection conn = connector.assertRequest();
+    conn.connect();
+    assertWaitUntil(waiter1::isSuccess);
+    CountDownLatch latch = new CountDownLatch(1);
+    waiter1.context.runOnContext(v -> {
+      // Recycled on the event loop, the connection is local to the shard 0
+      conn.recycle(false);
+      latch.countDown();
+    });
+    try {
+      awaitLatch(latch);
+    } catch (InterruptedException e) {
+      fail(e);
+    }
+    FakeWaiter waiter2 = new FakeWaiter();
+    getConnection(pool, 1, waiter2);
+    assertWaitUntil(waiter2::isSuccess);
+    waiter2.assertSuccess(conn);
+    connector.assertRequests(0);
+    assertEquals(0, pool.waitersInQueue());
+    assertEquals(1, pool.weight());
+  }
+
+  @Test
+  public void testShardedPoolStress() {
+    testShardedPoolStress(false);
+  }
+
+  @Test
+  public void testShardedPoolStressOnEventLoops() {
+    testShardedPoolStress(true);
+  }
+
+  private void testShardedPoolStress(boolean owned) {
+    int numShards = 4;
+    int numActors = 16;
+    int numConnections = 200;
+    FakeConnectionProviderBase connector = new FakeConnectionProviderBase() {
+      @Override
+      public void connect(ConnectionListener<FakeConnection> listener, ContextInternal context, Handler<AsyncResult<ConnectResult<FakeConnection>>> handler) {
+        new FakeConnection(context, listener, Future.<ConnectResult<FakeConnection>>future().setHandler(handler)).connect();
+      }
+    };
+    List<EventExecutor> eventLoops = new ArrayList<>();
+    for (EventExecutor eventLoop : ((VertxInternal) vertx).getEventLoopGroup()) {
+      if (eventLoops.size() < numShards) {
+        eventLoops.add(eventLoop);
+      }
+    }
+    ShardedPool<FakeConnection> pool = owned ?
+      new ShardedPool<>(connector, eventLoops.toArray(new EventExecutor[0]), -1, 1, 3, v -> {}, (channel, conn) -> {}, (channel, conn) -> {}, false) :
+      shardedPool(connector, numShards, 3);
+    CountDownLatch latch = new CountDownLatch(numActors * numConnections);
+    for (int i = 0; i < numActors; i++) {
+      Context actorContext = vertx.getOrCreateContext();
+      int index = eventLoops.indexOf(((ContextInternal) actorContext).nettyEventLoop());
+      int shard = owned && index >= 0 ? index : i % numShards;
+      actorContext.runOnContext(v -> {
+        for (int j = 0; j < numConnections; j++) {
+          FakeWaiter waiter = new FakeWaiter() {
+            @Override
+            public synchronized void handleConnection(FakeConnection conn) {
+              super.handleConnection(conn);
+              conn.context.nettyEventLoop().execute(() -> {
+                // Do not hold the connection lock when recycling, lending may activate the same connection
+                synchronized (conn) {
+                  conn.inflight--;
+                }
+                conn.listener.onRecycle(Long.MAX_VALUE);
+                latch.countDown();
+              });
+            }
+          };
+          pool.getConnection(shard, waiter.context, waiter.handler);
+        }
+      });
+    }
+    try {
+      awaitLatch(latch);
+    } catch (InterruptedException e) {
+      fail(e);
+    }
+    assertEquals(0, pool.waitersInQueue());
+    assertTrue(pool.weight() <= 3);
+    long waiters = 0;
+    for (int i = 0; i < numShards; i++) {
+      waiters += pool.shard(i).waitersCount();
+    }
+    assertEquals(0, waiters);
+  }
+
   class FakeWaiter {
 
     protected final ContextInternal context;
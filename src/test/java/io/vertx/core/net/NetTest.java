@@ -14,6 +14,7 @@ package io.vertx.core.net;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.*;
 import io.netty.handler.codec.http.HttpMethod;
@@ -174,6 +175,10 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setUsePooledBuffers(true));
     assertTrue(options.isUsePooledBuffers());
 
+    assertFalse(options.isUsePooledInboundBuffers());
+    assertEquals(options, options.setUsePooledInboundBuffers(true));
+    assertTrue(options.isUsePooledInboundBuffers());
+
     rand = TestUtils.randomPositiveInt();
     assertEquals(0, options.getIdleTimeout());
     assertEquals(options, options.setIdleTimeout(rand));
@@ -281,6 +286,10 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setUsePooledBuffers(true));
     assertTrue(options.isUsePooledBuffers());
 
+    assertFalse(options.isUsePooledInboundBuffers());
+    assertEquals(options, options.setUsePooledInboundBuffers(true));
+    assertTrue(options.isUsePooledInboundBuffers());
+
     rand = TestUtils.randomPositiveInt();
     assertEquals(0, options.getIdleTimeout());
     assertEquals(options, options.setIdleTimeout(rand));
@@ -2338,6 +2347,111 @@ public class NetTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testBatchHandler() {
+    Buffer expected = TestUtils.randomBuffer(20 * 1000);
+    Buffer received = Buffer.buffer();
+    server.connectHandler(so -> {
+      so.handler(buff -> fail());
+      so.pause();
+      so.batchHandler(batch -> {
+        assertTrue(batch.size() > 0);
+        batch.forEach(received::appendBuffer);
+        if (received.length() == expected.length()) {
+          assertEquals(expected, received);
+          testComplete();
+        }
+      });
+      vertx.setTimer(100, id -> so.resume());
+    });
+    server.listen(testAddress, onSuccess(s -> {
+      client.connect(testAddress, onSuccess(so -> {
+        for (int i = 0;i < 20;i++) {
+          so.write(expected.getBuffer(i * 1000, (i + 1) * 1000));
+        }
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testBatchHandlerWithMessages() {
+    Buffer expected = TestUtils.randomBuffer(20 * 1000);
+    Buffer received = Buffer.buffer();
+    AtomicInteger buffers = new AtomicInteger();
+    AtomicInteger messages = new AtomicInteger();
+    server.connectHandler(so -> {
+      NetSocketInternal soi = (NetSocketInternal) so;
+      // Follow each buffer with a message that is not data
+      soi.channelHandlerContext().pipeline().addBefore("handler", "marker", new ChannelInboundHandlerAdapter() {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+          ctx.fireChannelRead(msg);
+          ctx.fireChannelRead("marker");
+        }
+      });
+      soi.messageHandler(msg -> {
+        assertEquals("marker", msg);
+        assertEquals(buffers.get(), messages.incrementAndGet());
+        if (received.length() == expected.length()) {
+          assertEquals(expected, received);
+          testComplete();
+        }
+      });
+      so.pause();
+      so.batchHandler(batch -> {
+        assertTrue(batch.size() > 0);
+        batch.forEach(buff -> {
+          buffers.incrementAndGet();
+          received.appendBuffer(buff);
+        });
+      });
+      vertx.setTimer(100, id -> so.resume());
+    });
+    server.listen(testAddress, onSuccess(s -> {
+      client.connect(testAddress, onSuccess(so -> {
+        for (int i = 0;i < 20;i++) {
+          so.write(expected.getBuffer(i * 1000, (i + 1) * 1000));
+        }
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testPooledBuffers() {
+    Buffer expected = TestUtils.randomBuffer(10 * 1000);
+    Buffer received = Buffer.buffer();
+    server.close();
+    server = vertx.createNetServer(new NetServerOptions().setUsePooledInboundBuffers(true));
+    server.connectHandler(so -> {
+      so.handler(buff -> {
+        assertTrue(buff.getByteBuf().isDirect());
+        received.appendBuffer(buff);
+        if (received.length() == expected.length()) {
+          assertEquals(expected, received);
+          so.write(received);
+        }
+      });
+    });
+    server.listen(testAddress, onSuccess(s -> {
+      client.connect(testAddress, onSuccess(so -> {
+        Buffer echo = Buffer.buffer();
+        so.handler(buff -> {
+          echo.appendBuffer(buff);
+          if (echo.length() == expected.length()) {
+            assertEquals(expected, echo);
+            testComplete();
+          }
+        });
+        for (int i = 0;i < 10;i++) {
+          so.write(expected.getBuffer(i * 1000, (i + 1) * 1000));
+        }
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void testNetSocketStreamCallbackIsAsync() {
     this.server = vertx.createNetServer(new NetServerOptions());
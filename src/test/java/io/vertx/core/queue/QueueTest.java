@@ -19,6 +19,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class QueueTest extends VertxTestBase {
@@ -647,4 +650,61 @@ public class QueueTest extends VertxTestBase {
     // We get a resume but it's a side effect of clearing the queue
     waitUntilEquals(1, resumes::get);
   }
+
+  @Test
+  public void testContextQueueCreatedOnEventLoopIsThreadSafe() throws Exception {
+    Context ctx = vertx.getOrCreateContext();
+    CompletableFuture<Queue<Integer>> fut = new CompletableFuture<>();
+    ctx.runOnContext(v -> fut.complete(Queue.queue(ctx, 4)));
+    Queue<Integer> queue = fut.get(10, TimeUnit.SECONDS);
+    queue.pause();
+    assertTrue(queue.add(0));
+    assertTrue(queue.add(1));
+    assertEquals(2, queue.size());
+    assertEquals(0, (int) queue.poll());
+    List<Integer> all = new ArrayList<>();
+    queue.pollAll().forEach(all::add);
+    assertEquals(Collections.singletonList(1), all);
+    try {
+      queue.poll();
+      fail();
+    } catch (NoSuchElementException ignore) {
+    }
+  }
+
+  @Test
+  public void testBatchHandlerSync() {
+    testBatchHandler(SYNC);
+  }
+
+  @Test
+  public void testBatchHandlerAsync() {
+    testBatchHandler(ASYNC);
+  }
+
+  private void testBatchHandler(Mode mode) {
+    Queue<Integer> queue = mode.queue();
+    List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+    queue.handler(elt -> fail());
+    queue.batchHandler(batch -> {
+      mode.checkThread();
+      batches.add(batch);
+    });
+    queue.pause();
+    for (int i = 0;i < 30;i++) {
+      queue.add(i);
+    }
+    assertEquals(Collections.emptyList(), batches);
+    queue.take(5);
+    waitUntilEquals(1, batches::size);
+    assertEquals(Arrays.asList(0, 1, 2, 3, 4), batches.get(0));
+    queue.resume();
+    waitUntilEquals(3, batches::size);
+    assertEquals(16, batches.get(1).size());
+    assertEquals(5, (int) batches.get(1).get(0));
+    assertEquals(Arrays.asList(21, 22, 23, 24, 25, 26, 27, 28, 29), batches.get(2));
+    queue.add(30);
+    waitUntilEquals(4, batches::size);
+    assertEquals(Collections.singletonList(30), batches.get(3));
+  }
 }
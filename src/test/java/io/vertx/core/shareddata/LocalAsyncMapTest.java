@@ -45,4 +45,82 @@ public class LocalAsyncMapTest extends AsyncMapTest {
   public void testMapPutIfAbsentTtl() {
     super.testMapPutIfAbsentTtl();
   }
+
+  @Test
+  public void testMaxSizeEvictsLeastRecentlyUsed() {
+    vertx.sharedData().<String, String>getLocalAsyncMap("lru", new LocalAsyncMapOptions().setMaxSize(2), onSuccess(map -> {
+      map.put("a", "a_value", onSuccess(v1 -> {
+        map.put("b", "b_value", onSuccess(v2 -> {
+          map.get("a", onSuccess(a -> {
+            assertEquals("a_value", a);
+            map.put("c", "c_value", onSuccess(v3 -> {
+              map.entries(onSuccess(entries -> {
+                assertEquals(2, entries.size());
+                assertEquals("a_value", entries.get("a"));
+                assertEquals("c_value", entries.get("c"));
+                testComplete();
+              }));
+            }));
+          }));
+        }));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testExpiredEntriesAreSwept() {
+    int num = 1000;
+    vertx.sharedData().<Integer, String>getAsyncMap("foo", onSuccess(map -> {
+      for (int i = 0;i < num;i++) {
+        map.put(i, "value", 200 + i % 20, onSuccess(v -> {}));
+      }
+      map.size(onSuccess(size -> {
+        assertEquals(num, (int) size);
+        vertx.setTimer(500, id -> {
+          map.size(onSuccess(size2 -> {
+            assertEquals(0, (int) size2);
+            testComplete();
+          }));
+        });
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testClearConcurrentlyWithPut() {
+    int maxSize = 10;
+    vertx.sharedData().<Integer, String>getLocalAsyncMap("clear", new LocalAsyncMapOptions().setMaxSize(maxSize), onSuccess(map -> {
+      Thread[] threads = new Thread[4];
+      for (int i = 0;i < threads.length;i++) {
+        int offset = i * 10_000;
+        threads[i] = new Thread(() -> {
+          for (int j = 0;j < 10_000;j++) {
+            map.put(offset + j, "value", ar -> {});
+            if (j % 100 == 0) {
+              map.clear(ar -> {});
+            }
+          }
+        });
+        threads[i].start();
+      }
+      for (Thread thread : threads) {
+        try {
+          thread.join();
+        } catch (InterruptedException e) {
+          fail(e);
+        }
+      }
+      // Entries put while the map was cleared must still be evicted
+      for (int i = 0;i < 2 * maxSize;i++) {
+        map.put(-1 - i, "value", onSuccess(v -> {}));
+      }
+      map.size(onSuccess(size -> {
+        assertEquals(maxSize, (int) size);
+        testComplete();
+      }));
+    }));
+    await();
+  }
 }
@@ -22,6 +22,7 @@ import io.vertx.core.http.*;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.net.NetSocket;
+import io.vertx.core.shareddata.LocalAsyncMapOptions;
 import io.vertx.core.spi.metrics.PoolMetrics;
 import io.vertx.test.core.TestUtils;
 import io.vertx.test.core.VertxTestBase;
@@ -831,6 +832,31 @@ public class MetricsTest extends VertxTestBase {
     }
   }
 
+  @Test
+  public void testLocalAsyncMapMetrics() {
+    String name = TestUtils.randomAlphaString(10);
+    vertx.sharedData().<String, String>getLocalAsyncMap(name, new LocalAsyncMapOptions().setMaxSize(1), onSuccess(map -> {
+      FakeAsyncMapMetrics metrics = FakeAsyncMapMetrics.getMetrics(name);
+      assertNotNull(metrics);
+      assertEquals(1, metrics.getMaxSize());
+      map.put("foo", "foo_value", onSuccess(v1 -> {
+        map.get("foo", onSuccess(foo -> {
+          assertEquals("foo_value", foo);
+          map.put("bar", "bar_value", onSuccess(v2 -> {
+            map.get("foo", onSuccess(res -> {
+              assertNull(res);
+              assertEquals(1, metrics.numberOfHits());
+              assertEquals(1, metrics.numberOfMisses());
+              assertEquals(1, metrics.numberOfEvictions());
+              testComplete();
+            }));
+          }));
+        }));
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void testThreadPoolMetricsWithExecuteBlocking() {
     Map<String, PoolMetrics> all = FakePoolMetrics.getPoolMetrics();
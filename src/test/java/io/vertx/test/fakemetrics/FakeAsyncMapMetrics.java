@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.fakemetrics;
+
+import io.vertx.core.spi.metrics.AsyncMapMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A fake implementation of the {@link AsyncMapMetrics} SPI.
+ *
+ * @author Thomas Segismont
+ */
+public class FakeAsyncMapMetrics implements AsyncMapMetrics {
+
+  private final static Map<String, FakeAsyncMapMetrics> METRICS = new ConcurrentHashMap<>();
+
+  private final String name;
+  private final int maxSize;
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicInteger misses = new AtomicInteger();
+  private final AtomicInteger evictions = new AtomicInteger();
+  private final AtomicInteger expirations = new AtomicInteger();
+
+  public FakeAsyncMapMetrics(String name, int maxSize) {
+    this.name = name;
+    this.maxSize = maxSize;
+    METRICS.put(name, this);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public void hit() {
+    hits.incrementAndGet();
+  }
+
+  @Override
+  public void miss() {
+    misses.incrementAndGet();
+  }
+
+  @Override
+  public void evicted() {
+    evictions.incrementAndGet();
+  }
+
+  @Override
+  public void expired() {
+    expirations.incrementAndGet();
+  }
+
+  public int numberOfHits() {
+    return hits.get();
+  }
+
+  public int numberOfMisses() {
+    return misses.get();
+  }
+
+  public int numberOfEvictions() {
+    return evictions.get();
+  }
+
+  public int numberOfExpirations() {
+    return expirations.get();
+  }
+
+  public static FakeAsyncMapMetrics getMetrics(String name) {
+    return METRICS.get(name);
+  }
+}
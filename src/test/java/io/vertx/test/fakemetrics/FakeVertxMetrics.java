@@ -119,6 +119,11 @@ public class FakeVertxMetrics extends FakeMetricsBase implements VertxMetrics {
     return new FakePoolMetrics(poolName, maxPoolSize);
   }
 
+  @Override
+  public AsyncMapMetrics createAsyncMapMetrics(String name, int maxSize) {
+    return new FakeAsyncMapMetrics(name, maxSize);
+  }
+
   public boolean isEnabled() {
     return true;
   }